@@ -19,7 +19,7 @@ import org.jboss.jandex.MethodInfo;
 import org.jboss.jandex.Type;
 
 public class ClassComparisonUtil {
-    static boolean isSameStructure(ClassInfo clazz, ClassInfo old) {
+    public static boolean isSameStructure(ClassInfo clazz, ClassInfo old) {
         if (clazz.flags() != old.flags()) {
             return false;
         }
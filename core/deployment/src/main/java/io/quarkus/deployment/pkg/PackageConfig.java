@@ -150,6 +150,14 @@ public class PackageConfig {
     @ConfigItem(defaultValue = "true")
     public boolean includeDependencyList;
 
+    /**
+     * This option only applies when using fast-jar or mutable-jar. If this option is true then the classes and resources
+     * of the application and of its runtime dependencies are stored in the jars without compression, and the jars are
+     * memory-mapped at runtime. This avoids inflating every class during startup at the cost of a larger distribution.
+     */
+    @ConfigItem
+    public boolean memoryMappedJars;
+
     /**
      * Fernflower Decompiler configuration
      */
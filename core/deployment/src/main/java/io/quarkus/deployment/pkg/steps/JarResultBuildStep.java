@@ -602,7 +602,7 @@ public class JarResultBuildStep {
         if (!transformedClasses.getTransformedClassesByJar().isEmpty()) {
             Path transformedZip = quarkus.resolve(TRANSFORMED_BYTECODE_JAR);
             jars.add(transformedZip);
-            try (FileSystem out = ZipUtils.newZip(transformedZip)) {
+            try (FileSystem out = newThinJarZip(transformedZip, packageConfig)) {
                 for (Set<TransformedClassesBuildItem.TransformedClass> transformedSet : transformedClasses
                         .getTransformedClassesByJar().values()) {
                     for (TransformedClassesBuildItem.TransformedClass transformed : transformedSet) {
@@ -623,7 +623,7 @@ public class JarResultBuildStep {
         //now generated classes and resources
         Path generatedZip = quarkus.resolve(GENERATED_BYTECODE_JAR);
         jars.add(generatedZip);
-        try (FileSystem out = ZipUtils.newZip(generatedZip)) {
+        try (FileSystem out = newThinJarZip(generatedZip, packageConfig)) {
             for (GeneratedClassBuildItem i : generatedClasses) {
                 String fileName = i.getName().replace('.', '/') + ".class";
                 Path target = out.getPath(fileName);
@@ -657,7 +657,7 @@ public class JarResultBuildStep {
         if (!rebuild) {
             Predicate<String> ignoredEntriesPredicate = getThinJarIgnoredEntriesPredicate(packageConfig);
 
-            try (FileSystem runnerZipFs = ZipUtils.newZip(runnerJar)) {
+            try (FileSystem runnerZipFs = newThinJarZip(runnerJar, packageConfig)) {
                 copyFiles(applicationArchivesBuildItem.getRootArchive(), runnerZipFs, null, ignoredEntriesPredicate);
             }
         }
@@ -669,7 +669,7 @@ public class JarResultBuildStep {
                 appDep.getResolvedPaths().forEach(jars::add);
             } else {
                 copyDependency(parentFirstKeys, outputTargetBuildItem, copiedArtifacts, mainLib, baseLib, jars, true,
-                        classPath, appDep, transformedClasses, removed);
+                        classPath, appDep, transformedClasses, removed, packageConfig.memoryMappedJars);
             }
             if (parentFirstKeys.contains(appDep.getKey())) {
                 appDep.getResolvedPaths().forEach(parentFirst::add);
@@ -705,7 +705,7 @@ public class JarResultBuildStep {
         Path appInfo = buildDir.resolve(QuarkusEntryPoint.QUARKUS_APPLICATION_DAT);
         try (OutputStream out = Files.newOutputStream(appInfo)) {
             SerializedApplication.write(out, mainClassBuildItem.getClassName(), buildDir, jars, parentFirst,
-                    nonExistentResources);
+                    nonExistentResources, packageConfig.memoryMappedJars);
         }
 
         runnerJar.toFile().setReadable(true, false);
@@ -741,7 +741,7 @@ public class JarResultBuildStep {
                 for (ResolvedDependency appDep : curateOutcomeBuildItem.getApplicationModel().getDependencies()) {
                     copyDependency(parentFirstKeys, outputTargetBuildItem, copiedArtifacts, deploymentLib, baseLib, jars,
                             false, classPath,
-                            appDep, new TransformedClassesBuildItem(Collections.emptyMap()), removed); //we don't care about transformation here, so just pass in an empty item
+                            appDep, new TransformedClassesBuildItem(Collections.emptyMap()), removed, false); //we don't care about transformation here, so just pass in an empty item
                 }
 
                 Map<ArtifactKey, List<String>> relativePaths = new HashMap<>();
@@ -892,7 +892,7 @@ public class JarResultBuildStep {
     private void copyDependency(Set<ArtifactKey> parentFirstArtifacts, OutputTargetBuildItem outputTargetBuildItem,
             Map<ArtifactKey, List<Path>> runtimeArtifacts, Path libDir, Path baseLib, List<Path> jars,
             boolean allowParentFirst, StringBuilder classPath, ResolvedDependency appDep,
-            TransformedClassesBuildItem transformedClasses, Set<ArtifactKey> removedDeps)
+            TransformedClassesBuildItem transformedClasses, Set<ArtifactKey> removedDeps, boolean uncompressed)
             throws IOException {
 
         // Exclude files that are not jars (typically, we can have XML files here, see https://github.com/quarkusio/quarkus/issues/2852)
@@ -906,13 +906,17 @@ public class JarResultBuildStep {
         for (Path resolvedDep : appDep.getResolvedPaths()) {
             final String fileName = appDep.getGroupId() + "." + resolvedDep.getFileName();
             final Path targetPath;
+            // the parent first jars are loaded by the system ClassLoader, there is no point in storing them uncompressed
+            final boolean store;
 
             if (allowParentFirst && parentFirstArtifacts.contains(appDep.getKey())) {
                 targetPath = baseLib.resolve(fileName);
                 classPath.append(" ").append(LIB).append("/").append(BOOT_LIB).append("/").append(fileName);
+                store = false;
             } else {
                 targetPath = libDir.resolve(fileName);
                 jars.add(targetPath);
+                store = uncompressed;
             }
             runtimeArtifacts.computeIfAbsent(appDep.getKey(), (s) -> new ArrayList<>(1)).add(targetPath);
 
@@ -920,7 +924,7 @@ public class JarResultBuildStep {
                 // This case can happen when we are building a jar from inside the Quarkus repository
                 // and Quarkus Bootstrap's localProjectDiscovery has been set to true. In such a case
                 // the non-jar dependencies are the Quarkus dependencies picked up on the file system
-                packageClasses(resolvedDep, targetPath);
+                packageClasses(resolvedDep, targetPath, store);
             } else {
                 Set<TransformedClassesBuildItem.TransformedClass> transformedFromThisArchive = transformedClasses
                         .getTransformedClassesByJar().get(resolvedDep);
@@ -932,18 +936,30 @@ public class JarResultBuildStep {
                         }
                     }
                 }
-                if (removedFromThisArchive.isEmpty()) {
+                if (removedFromThisArchive.isEmpty() && !store) {
                     Files.copy(resolvedDep, targetPath, StandardCopyOption.REPLACE_EXISTING);
                 } else {
-                    //we have removed classes, we need to handle them correctly
-                    filterZipFile(resolvedDep, targetPath, removedFromThisArchive);
+                    //we have removed classes, or need to decompress the entries, we need to handle them correctly
+                    filterZipFile(resolvedDep, targetPath, removedFromThisArchive, store);
                 }
             }
         }
     }
 
-    private void packageClasses(Path resolvedDep, final Path targetPath) throws IOException {
-        try (FileSystem runnerZipFs = ZipUtils.newZip(targetPath)) {
+    private static FileSystem newThinJarZip(Path path, PackageConfig packageConfig) throws IOException {
+        return packageConfig.memoryMappedJars ? newUncompressedZip(path) : ZipUtils.newZip(path);
+    }
+
+    /**
+     * Creates a zip whose entries are stored without compression, so that they can be read straight from a memory-mapped
+     * view of the file at runtime.
+     */
+    private static FileSystem newUncompressedZip(Path path) throws IOException {
+        return ZipUtils.newFileSystem(ZipUtils.toZipUri(path), Map.of("create", "true", "noCompression", "true"));
+    }
+
+    private void packageClasses(Path resolvedDep, final Path targetPath, boolean uncompressed) throws IOException {
+        try (FileSystem runnerZipFs = uncompressed ? newUncompressedZip(targetPath) : ZipUtils.newZip(targetPath)) {
             Files.walkFileTree(resolvedDep, EnumSet.of(FileVisitOption.FOLLOW_LINKS), Integer.MAX_VALUE,
                     new SimpleFileVisitor<Path>() {
                         @Override
@@ -1165,7 +1181,7 @@ public class JarResultBuildStep {
                                 + resolvedDep.getFileName();
                         final Path targetPath = libDir.resolve(fileName);
                         classPath.append(" lib/").append(fileName);
-                        filterZipFile(resolvedDep, targetPath, transformedFromThisArchive);
+                        filterZipFile(resolvedDep, targetPath, transformedFromThisArchive, false);
                     }
                 } else {
                     // This case can happen when we are building a jar from inside the Quarkus repository
@@ -1280,7 +1296,8 @@ public class JarResultBuildStep {
         }
     }
 
-    private void filterZipFile(Path resolvedDep, Path targetPath, Set<String> transformedFromThisArchive) {
+    private void filterZipFile(Path resolvedDep, Path targetPath, Set<String> transformedFromThisArchive,
+            boolean uncompressed) {
 
         try {
             byte[] buffer = new byte[10000];
@@ -1290,7 +1307,13 @@ public class JarResultBuildStep {
                     while (entries.hasMoreElements()) {
                         ZipEntry entry = entries.nextElement();
                         if (!transformedFromThisArchive.contains(entry.getName())) {
-                            entry.setCompressedSize(-1);
+                            if (uncompressed) {
+                                // the size and the CRC are already known from the central directory
+                                entry.setMethod(ZipEntry.STORED);
+                                entry.setCompressedSize(entry.getSize());
+                            } else {
+                                entry.setCompressedSize(-1);
+                            }
                             out.putNextEntry(entry);
                             try (InputStream inStream = in.getInputStream(entry)) {
                                 int r = 0;
@@ -6,6 +6,7 @@ import java.util.stream.Collectors;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.ExecutionTime;
 import io.quarkus.deployment.annotations.Record;
+import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.deployment.builditem.ShutdownListenerBuildItem;
 import io.quarkus.runtime.shutdown.ShutdownRecorder;
 
@@ -13,8 +14,10 @@ public class ShutdownListenerBuildStep {
 
     @BuildStep
     @Record(ExecutionTime.RUNTIME_INIT)
-    void setupShutdown(List<ShutdownListenerBuildItem> listeners, ShutdownRecorder recorder) {
+    void setupShutdown(List<ShutdownListenerBuildItem> listeners, LaunchModeBuildItem launchMode,
+            ShutdownRecorder recorder) {
         recorder.setListeners(
-                listeners.stream().map(ShutdownListenerBuildItem::getShutdownListener).collect(Collectors.toList()));
+                listeners.stream().map(ShutdownListenerBuildItem::getShutdownListener).collect(Collectors.toList()),
+                launchMode.getLaunchMode());
     }
 }
@@ -18,8 +18,23 @@ public class ShutdownConfig {
     @ConfigItem
     public Optional<Duration> timeout;
 
+    /**
+     * The delay between the pre shutdown phase, in which the readiness probe reports the application as down, and the
+     * shutdown phase, in which new requests are rejected. This gives load balancers the time to stop sending requests to
+     * the application before it starts rejecting them.
+     * <p>
+     * The delay only applies to applications running in the normal (production) launch mode, it is ignored in dev mode,
+     * including live reload restarts, and in tests.
+     */
+    @ConfigItem
+    public Optional<Duration> delay;
+
     public boolean isShutdownTimeoutSet() {
         return timeout.isPresent() && timeout.get().toMillis() > 0;
     }
 
+    public boolean isShutdownDelaySet() {
+        return delay.isPresent() && delay.get().toMillis() > 0;
+    }
+
 }
@@ -8,6 +8,7 @@ import java.util.concurrent.TimeUnit;
 
 import org.jboss.logging.Logger;
 
+import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.annotations.Recorder;
 
 @Recorder
@@ -17,6 +18,7 @@ public class ShutdownRecorder {
 
     private static volatile List<ShutdownListener> shutdownListeners;
     private static volatile Optional<Duration> waitTime;
+    private static volatile Optional<Duration> delay;
 
     final ShutdownConfig shutdownConfig;
 
@@ -24,9 +26,12 @@ public class ShutdownRecorder {
         this.shutdownConfig = shutdownConfig;
     }
 
-    public void setListeners(List<ShutdownListener> listeners) {
+    public void setListeners(List<ShutdownListener> listeners, LaunchMode launchMode) {
         shutdownListeners = listeners;
         waitTime = shutdownConfig.timeout;
+        // the application is also stopped on dev mode restarts and by tests, where nothing routes requests to it
+        delay = launchMode == LaunchMode.NORMAL && shutdownConfig.isShutdownDelaySet() ? shutdownConfig.delay
+                : Optional.empty();
     }
 
     public static void runShutdown() {
@@ -37,6 +42,10 @@ public class ShutdownRecorder {
             }
 
             preShutdown.await();
+            if (delay.isPresent()) {
+                log.infof("Delaying shutdown by %d ms", delay.get().toMillis());
+                Thread.sleep(delay.get().toMillis());
+            }
             CountDownLatch shutdown = new CountDownLatch(shutdownListeners.size());
             for (ShutdownListener i : shutdownListeners) {
                 i.shutdown(new LatchShutdownNotification(shutdown));
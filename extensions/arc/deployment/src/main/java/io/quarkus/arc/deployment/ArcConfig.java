@@ -179,6 +179,14 @@ public class ArcConfig {
     @ConfigItem(defaultValue = "true")
     public boolean detectWrongAnnotations;
 
+    /**
+     * If set to true, the classes of the interceptors, decorators and beans are generated in parallel. The creation and
+     * destruction logic of synthetic beans and the notification logic of synthetic observers, which are supplied by
+     * extensions, is always generated on the build step thread.
+     */
+    @ConfigItem(defaultValue = "true")
+    public boolean parallelGeneration;
+
     /**
      * Dev mode configuration.
      */
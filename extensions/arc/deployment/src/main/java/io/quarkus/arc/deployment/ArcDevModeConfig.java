@@ -12,4 +12,11 @@ public class ArcDevModeConfig {
     @ConfigItem(defaultValue = "true")
     public boolean monitoringEnabled;
 
+    /**
+     * If set to true then the classes generated by the container are reused on a hot reload, as long as the bean model
+     * did not change, i.e. only method bodies of the application classes were modified.
+     */
+    @ConfigItem(defaultValue = "true")
+    public boolean incrementalGeneration;
+
 }
@@ -6,12 +6,15 @@ import static io.quarkus.deployment.annotations.ExecutionTime.STATIC_INIT;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -74,6 +77,7 @@ import io.quarkus.arc.runtime.LaunchModeProducer;
 import io.quarkus.arc.runtime.LoggerProducer;
 import io.quarkus.arc.runtime.test.PreloadedTestApplicationClassPredicate;
 import io.quarkus.bootstrap.BootstrapDebug;
+import io.quarkus.bootstrap.app.ClassChangeInformation;
 import io.quarkus.deployment.Capabilities;
 import io.quarkus.deployment.Capability;
 import io.quarkus.deployment.Feature;
@@ -98,6 +102,7 @@ import io.quarkus.deployment.builditem.TestClassPredicateBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveFieldBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveMethodBuildItem;
+import io.quarkus.deployment.dev.ClassComparisonUtil;
 import io.quarkus.gizmo.MethodDescriptor;
 import io.quarkus.gizmo.ResultHandle;
 import io.quarkus.runtime.LaunchMode;
@@ -480,7 +485,9 @@ public class ArcProcessor {
             LiveReloadBuildItem liveReloadBuildItem,
             BuildProducer<GeneratedResourceBuildItem> generatedResource,
             BuildProducer<BytecodeTransformerBuildItem> bytecodeTransformer,
-            List<ReflectiveBeanClassBuildItem> reflectiveBeanClasses) throws Exception {
+            List<ReflectiveBeanClassBuildItem> reflectiveBeanClasses,
+            Optional<CurrentContextFactoryBuildItem> currentContextFactory,
+            LaunchModeBuildItem launchMode) throws Exception {
 
         for (ValidationErrorBuildItem validationError : validationErrors) {
             for (Throwable error : validationError.getValues()) {
@@ -496,60 +503,91 @@ public class ArcProcessor {
             liveReloadBuildItem.setContextObject(ExistingClasses.class, existingClasses);
         }
 
-        Consumer<BytecodeTransformer> bytecodeTransformerConsumer = new BytecodeTransformerConsumer(bytecodeTransformer);
-        Set<DotName> reflectiveBeanClassesNames = reflectiveBeanClasses.stream().map(ReflectiveBeanClassBuildItem::getClassName)
-                .collect(Collectors.toSet());
-
-        long start = System.currentTimeMillis();
-        List<ResourceOutput.Resource> resources = beanProcessor.generateResources(new ReflectionRegistration() {
-            @Override
-            public void registerMethod(MethodInfo methodInfo) {
-                reflectiveMethods.produce(new ReflectiveMethodBuildItem(methodInfo));
+        IndexView beanArchiveIndex = beanProcessor.getBeanDeployment().getBeanArchiveIndex();
+        GeneratedResources previous = liveReloadBuildItem.getContextObject(GeneratedResources.class);
+        if (previous != null && config.devMode.incrementalGeneration
+                && previous.isReusable(liveReloadBuildItem, beanArchiveIndex)) {
+            // Only method bodies changed - the classes generated by the previous build can be reused
+            previous.produce(generatedClass, generatedResource, bytecodeTransformer);
+            previous.index = beanArchiveIndex;
+            LOGGER.debugf("Bean model unchanged, reused %s generated classes", previous.classes.size());
+        } else {
+            if (previous != null) {
+                // The previous classes must never be reused if this generation fails
+                previous.invalidate();
             }
-
-            @Override
-            public void registerField(FieldInfo fieldInfo) {
-                reflectiveFields.produce(new ReflectiveFieldBuildItem(fieldInfo));
+            GeneratedResources current = null;
+            if (launchMode.getLaunchMode() == LaunchMode.DEVELOPMENT && config.devMode.incrementalGeneration) {
+                current = new GeneratedResources(beanArchiveIndex);
             }
+            Consumer<BytecodeTransformer> bytecodeTransformerConsumer = new BytecodeTransformerConsumer(bytecodeTransformer,
+                    current);
+            Set<DotName> reflectiveBeanClassesNames = reflectiveBeanClasses.stream()
+                    .map(ReflectiveBeanClassBuildItem::getClassName).collect(Collectors.toSet());
 
-            @Override
-            public void registerClientProxy(DotName beanClassName, String clientProxyName) {
-                if (reflectiveBeanClassesNames.contains(beanClassName)) {
-                    // Fields should never be registered for client proxies
-                    reflectiveClasses.produce(new ReflectiveClassBuildItem(true, false, clientProxyName));
+            long start = System.currentTimeMillis();
+            List<ResourceOutput.Resource> resources = beanProcessor.generateResources(new ReflectionRegistration() {
+                @Override
+                public void registerMethod(MethodInfo methodInfo) {
+                    reflectiveMethods.produce(new ReflectiveMethodBuildItem(methodInfo));
                 }
-            }
 
-            @Override
-            public void registerSubclass(DotName beanClassName, String subclassName) {
-                if (reflectiveBeanClassesNames.contains(beanClassName)) {
-                    // Fields should never be registered for subclasses
-                    reflectiveClasses.produce(new ReflectiveClassBuildItem(true, false, subclassName));
+                @Override
+                public void registerField(FieldInfo fieldInfo) {
+                    reflectiveFields.produce(new ReflectiveFieldBuildItem(fieldInfo));
                 }
-            }
 
-        }, existingClasses.existingClasses, bytecodeTransformerConsumer,
-                config.shouldEnableBeanRemoval() && config.detectUnusedFalsePositives);
-        for (ResourceOutput.Resource resource : resources) {
-            switch (resource.getType()) {
-                case JAVA_CLASS:
-                    LOGGER.debugf("Add %s class: %s", (resource.isApplicationClass() ? "APP" : "FWK"),
-                            resource.getFullyQualifiedName());
-                    generatedClass.produce(new GeneratedClassBuildItem(resource.isApplicationClass(), resource.getName(),
-                            resource.getData(), resource.getSource()));
-                    if (!resource.isApplicationClass()) {
-                        existingClasses.existingClasses.add(resource.getName());
+                @Override
+                public void registerClientProxy(DotName beanClassName, String clientProxyName) {
+                    if (reflectiveBeanClassesNames.contains(beanClassName)) {
+                        // Fields should never be registered for client proxies
+                        reflectiveClasses.produce(new ReflectiveClassBuildItem(true, false, clientProxyName));
                     }
-                    break;
-                case SERVICE_PROVIDER:
-                    generatedResource.produce(
-                            new GeneratedResourceBuildItem("META-INF/services/" + resource.getName(), resource.getData()));
-                    break;
-                default:
-                    break;
+                }
+
+                @Override
+                public void registerSubclass(DotName beanClassName, String subclassName) {
+                    if (reflectiveBeanClassesNames.contains(beanClassName)) {
+                        // Fields should never be registered for subclasses
+                        reflectiveClasses.produce(new ReflectiveClassBuildItem(true, false, subclassName));
+                    }
+                }
+
+            }, existingClasses.existingClasses, bytecodeTransformerConsumer,
+                    config.shouldEnableBeanRemoval() && config.detectUnusedFalsePositives,
+                    config.parallelGeneration ? ForkJoinPool.commonPool() : null);
+            for (ResourceOutput.Resource resource : resources) {
+                switch (resource.getType()) {
+                    case JAVA_CLASS:
+                        LOGGER.debugf("Add %s class: %s", (resource.isApplicationClass() ? "APP" : "FWK"),
+                                resource.getFullyQualifiedName());
+                        GeneratedClassBuildItem generated = new GeneratedClassBuildItem(resource.isApplicationClass(),
+                                resource.getName(), resource.getData(), resource.getSource());
+                        generatedClass.produce(generated);
+                        if (!resource.isApplicationClass()) {
+                            existingClasses.existingClasses.add(resource.getName());
+                        } else if (current != null) {
+                            current.classes.add(generated);
+                        }
+                        break;
+                    case SERVICE_PROVIDER:
+                        GeneratedResourceBuildItem generatedServiceProvider = new GeneratedResourceBuildItem(
+                                "META-INF/services/" + resource.getName(), resource.getData());
+                        generatedResource.produce(generatedServiceProvider);
+                        if (current != null) {
+                            current.resources.add(generatedServiceProvider);
+                        }
+                        break;
+                    default:
+                        break;
+                }
+            }
+            LOGGER.debugf("Generated %s resources in %s ms", resources.size(), System.currentTimeMillis() - start);
+            if (current != null) {
+                // Only store the resources once all of them were generated
+                liveReloadBuildItem.setContextObject(GeneratedResources.class, current);
             }
         }
-        LOGGER.debugf("Generated %s resources in %s ms", resources.size(), System.currentTimeMillis() - start);
 
         // Register all qualifiers for reflection to support type-safe resolution at runtime in native image
         for (ClassInfo qualifier : beanProcessor.getBeanDeployment().getQualifiers()) {
@@ -561,7 +599,8 @@ public class ArcProcessor {
             reflectiveClasses.produce(new ReflectiveClassBuildItem(true, false, binding.name().toString()));
         }
 
-        ArcContainer container = recorder.getContainer(shutdown);
+        ArcContainer container = recorder.getContainer(shutdown,
+                currentContextFactory.map(CurrentContextFactoryBuildItem::getFactory).orElse(null));
         BeanContainer beanContainer = recorder.initBeanContainer(container,
                 beanContainerListenerBuildItems.stream().map(BeanContainerListenerBuildItem::getBeanContainerListener)
                         .collect(Collectors.toList()));
@@ -907,17 +946,78 @@ public class ArcProcessor {
         Set<String> existingClasses = new HashSet<>();
     }
 
+    /**
+     * This holds the resources generated by the last build in the development mode. If only method bodies change then the
+     * bean model is the same and there is no need to spend time generating the resources again on a hot reload.
+     */
+    static class GeneratedResources {
+        IndexView index;
+        final List<GeneratedClassBuildItem> classes = new ArrayList<>();
+        final List<GeneratedResourceBuildItem> resources = new ArrayList<>();
+        final List<BytecodeTransformerBuildItem> transformers = Collections.synchronizedList(new ArrayList<>());
+
+        GeneratedResources(IndexView index) {
+            this.index = index;
+        }
+
+        void invalidate() {
+            index = null;
+        }
+
+        boolean isReusable(LiveReloadBuildItem liveReload, IndexView currentIndex) {
+            ClassChangeInformation changes = liveReload.getChangeInformation();
+            if (index == null || !liveReload.isLiveReload() || changes == null || !liveReload.getChangedResources().isEmpty()
+                    || !changes.getAddedClasses().isEmpty() || !changes.getDeletedClasses().isEmpty()) {
+                return false;
+            }
+            for (String changedClass : changes.getChangedClasses()) {
+                DotName name = DotName.createSimple(changedClass);
+                ClassInfo clazz = currentIndex.getClassByName(name);
+                ClassInfo old = index.getClassByName(name);
+                if (clazz == null && old == null) {
+                    // Not part of the bean archive
+                    continue;
+                }
+                if (clazz == null || old == null || !Objects.equals(clazz.superName(), old.superName())
+                        || !ClassComparisonUtil.isSameStructure(clazz, old)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        void produce(BuildProducer<GeneratedClassBuildItem> generatedClass,
+                BuildProducer<GeneratedResourceBuildItem> generatedResource,
+                BuildProducer<BytecodeTransformerBuildItem> bytecodeTransformer) {
+            classes.forEach(generatedClass::produce);
+            resources.forEach(generatedResource::produce);
+            transformers.forEach(bytecodeTransformer::produce);
+        }
+    }
+
     private static class BytecodeTransformerConsumer implements Consumer<BytecodeTransformer> {
 
         private final BuildProducer<BytecodeTransformerBuildItem> bytecodeTransformer;
+        private final GeneratedResources generatedResources;
 
         public BytecodeTransformerConsumer(BuildProducer<BytecodeTransformerBuildItem> bytecodeTransformer) {
+            this(bytecodeTransformer, null);
+        }
+
+        BytecodeTransformerConsumer(BuildProducer<BytecodeTransformerBuildItem> bytecodeTransformer,
+                GeneratedResources generatedResources) {
             this.bytecodeTransformer = bytecodeTransformer;
+            this.generatedResources = generatedResources;
         }
 
         @Override
         public void accept(BytecodeTransformer t) {
-            bytecodeTransformer.produce(new BytecodeTransformerBuildItem(t.getClassToTransform(), t.getVisitorFunction()));
+            BytecodeTransformerBuildItem item = new BytecodeTransformerBuildItem(t.getClassToTransform(),
+                    t.getVisitorFunction());
+            bytecodeTransformer.produce(item);
+            if (generatedResources != null) {
+                generatedResources.transformers.add(item);
+            }
         }
     }
 }
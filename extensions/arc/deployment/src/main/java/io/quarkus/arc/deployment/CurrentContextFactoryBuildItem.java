@@ -0,0 +1,23 @@
+package io.quarkus.arc.deployment;
+
+import io.quarkus.arc.CurrentContextFactory;
+import io.quarkus.builder.item.SimpleBuildItem;
+import io.quarkus.runtime.RuntimeValue;
+
+/**
+ * An extension can provide a custom {@link CurrentContextFactory}, which is used to store the state of the built-in
+ * request context instead of a thread local.
+ */
+public final class CurrentContextFactoryBuildItem extends SimpleBuildItem {
+
+    private final RuntimeValue<CurrentContextFactory> factory;
+
+    public CurrentContextFactoryBuildItem(RuntimeValue<CurrentContextFactory> factory) {
+        this.factory = factory;
+    }
+
+    public RuntimeValue<CurrentContextFactory> getFactory() {
+        return factory;
+    }
+
+}
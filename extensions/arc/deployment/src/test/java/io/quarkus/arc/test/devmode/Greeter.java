@@ -0,0 +1,13 @@
+package io.quarkus.arc.test.devmode;
+
+import javax.enterprise.context.ApplicationScoped;
+
+@Flavor("plain")
+@ApplicationScoped
+public class Greeter {
+
+    String greet() {
+        return "Hello";
+    }
+
+}
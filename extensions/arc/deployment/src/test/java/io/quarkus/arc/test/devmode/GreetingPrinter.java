@@ -0,0 +1,25 @@
+package io.quarkus.arc.test.devmode;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.enterprise.inject.Any;
+import javax.inject.Inject;
+
+import org.jboss.logging.Logger;
+
+import io.quarkus.runtime.StartupEvent;
+
+@ApplicationScoped
+public class GreetingPrinter {
+
+    private static final Logger LOG = Logger.getLogger(GreetingPrinter.class);
+
+    @Inject
+    @Any
+    Greeter greeter;
+
+    void onStart(@Observes StartupEvent event) {
+        LOG.info(greeter.greet());
+    }
+
+}
@@ -0,0 +1,69 @@
+package io.quarkus.arc.test.devmode;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.LogRecord;
+import java.util.stream.Collectors;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.deployment.ArcProcessor;
+import io.quarkus.test.QuarkusDevModeTest;
+
+public class IncrementalGenerationTest {
+
+    @RegisterExtension
+    static final QuarkusDevModeTest TEST = new QuarkusDevModeTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(Flavor.class, Greeter.class, GreetingPrinter.class)
+                    .addAsResource(new StringAsset("quarkus.log.category.\"io.quarkus.arc.deployment\".level=DEBUG"),
+                            "application.properties"))
+            .setLogRecordPredicate(r -> r.getLoggerName().equals(GreetingPrinter.class.getName())
+                    || r.getLoggerName().equals(ArcProcessor.class.getName()));
+
+    @Test
+    public void testIncrementalGeneration() {
+        awaitGreeting("Hello");
+
+        // Only a method body changed - the generated classes are reused and the new logic is used
+        TEST.clearLogRecords();
+        TEST.modifySourceFile(Greeter.class, s -> s.replace("\"Hello\"", "\"Hi\""));
+        awaitGreeting("Hi");
+        assertThat(arcMessages()).anyMatch(m -> m.startsWith("Bean model unchanged"))
+                .noneMatch(m -> m.startsWith("Generated "));
+
+        // A new injection point - the classes must be regenerated
+        TEST.clearLogRecords();
+        TEST.modifySourceFile(GreetingPrinter.class,
+                s -> s.replace("Greeter greeter;", "Greeter greeter;\n\n    @Inject\n    @Any\n    Greeter another;"));
+        awaitGreeting("Hi");
+        assertThat(arcMessages()).anyMatch(m -> m.startsWith("Generated "))
+                .noneMatch(m -> m.startsWith("Bean model unchanged"));
+
+        // A different qualifier value - the classes must be regenerated
+        TEST.clearLogRecords();
+        TEST.modifySourceFile(Greeter.class, s -> s.replace("@Flavor(\"plain\")", "@Flavor(\"fancy\")"));
+        awaitGreeting("Hi");
+        assertThat(arcMessages()).anyMatch(m -> m.startsWith("Generated "))
+                .noneMatch(m -> m.startsWith("Bean model unchanged"));
+    }
+
+    private void awaitGreeting(String greeting) {
+        await().atMost(1, TimeUnit.MINUTES).untilAsserted(() -> assertThat(TEST.getLogRecords())
+                .anyMatch(r -> r.getLoggerName().equals(GreetingPrinter.class.getName())
+                        && greeting.equals(r.getMessage())));
+    }
+
+    private List<String> arcMessages() {
+        return TEST.getLogRecords().stream()
+                .filter(r -> r.getLoggerName().equals(ArcProcessor.class.getName()))
+                .map(LogRecord::getMessage)
+                .collect(Collectors.toList());
+    }
+
+}
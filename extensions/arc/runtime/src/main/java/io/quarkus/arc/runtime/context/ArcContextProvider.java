@@ -137,6 +137,11 @@ public class ArcContextProvider implements ThreadContextProvider {
             }
             ManagedContext requestContext = container.requestContext();
             InjectableContext.ContextState toRestore = requestContext.getStateIfActive();
+            if (toRestore == state && state.isValid()) {
+                // the captured state is already current, e.g. if it is stored in the duplicated Vert.x context and the
+                // task runs on the same event loop, there is nothing to activate and restore
+                return NOOP_CONTROLLER;
+            }
             // this is executed on another thread, context can but doesn't need to be active here
             if (toRestore != null) {
                 // context active, store current state, feed it new one and restore state afterwards
@@ -4,7 +4,9 @@ import java.util.function.BooleanSupplier;
 
 import javax.interceptor.Interceptor;
 
+import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.arc.deployment.SyntheticBeansRuntimeInitBuildItem;
+import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Consume;
 import io.quarkus.deployment.annotations.ExecutionTime;
@@ -13,6 +15,7 @@ import io.quarkus.micrometer.runtime.MicrometerRecorder;
 import io.quarkus.micrometer.runtime.binder.vertx.VertxMeterBinderRecorder;
 import io.quarkus.micrometer.runtime.config.MicrometerConfig;
 import io.quarkus.vertx.core.deployment.VertxOptionsConsumerBuildItem;
+import io.quarkus.vertx.http.deployment.RequireEventLoopLoadBuildItem;
 
 /**
  * Add support for Vert.x instrumentation.
@@ -23,6 +26,7 @@ import io.quarkus.vertx.core.deployment.VertxOptionsConsumerBuildItem;
 public class VertxBinderProcessor {
     static final String METRIC_OPTIONS_CLASS_NAME = "io.vertx.core.metrics.MetricsOptions";
     static final Class<?> METRIC_OPTIONS_CLASS = MicrometerRecorder.getClassForName(METRIC_OPTIONS_CLASS_NAME);
+    static final String VERTX_EVENT_LOOP_METRICS_CLASS_NAME = "io.quarkus.micrometer.runtime.binder.vertx.VertxEventLoopMetrics";
 
     static class VertxBinderEnabled implements BooleanSupplier {
         MicrometerConfig mConfig;
@@ -32,12 +36,28 @@ public class VertxBinderProcessor {
         }
     }
 
+    static class VertxEventLoopMetricsEnabled implements BooleanSupplier {
+        MicrometerConfig mConfig;
+
+        public boolean getAsBoolean() {
+            return METRIC_OPTIONS_CLASS != null && mConfig.checkBinderEnabledWithDefault(mConfig.binder.vertx)
+                    && mConfig.binder.vertx.eventLoopMetrics;
+        }
+    }
+
     @BuildStep(onlyIf = VertxBinderEnabled.class)
     @Record(value = ExecutionTime.STATIC_INIT)
     VertxOptionsConsumerBuildItem build(VertxMeterBinderRecorder recorder) {
         return new VertxOptionsConsumerBuildItem(recorder.setVertxMetricsOptions(), Interceptor.Priority.LIBRARY_AFTER);
     }
 
+    @BuildStep(onlyIf = VertxEventLoopMetricsEnabled.class)
+    void eventLoopMetrics(BuildProducer<AdditionalBeanBuildItem> additionalBeans,
+            BuildProducer<RequireEventLoopLoadBuildItem> requireEventLoopLoad) {
+        additionalBeans.produce(AdditionalBeanBuildItem.unremovableOf(VERTX_EVENT_LOOP_METRICS_CLASS_NAME));
+        requireEventLoopLoad.produce(new RequireEventLoopLoadBuildItem());
+    }
+
     @BuildStep(onlyIf = VertxBinderEnabled.class)
     @Record(value = ExecutionTime.RUNTIME_INIT)
     @Consume(SyntheticBeansRuntimeInitBuildItem.class)
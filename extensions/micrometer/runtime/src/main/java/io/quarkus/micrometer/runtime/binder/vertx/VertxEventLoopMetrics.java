@@ -0,0 +1,48 @@
+package io.quarkus.micrometer.runtime.binder.vertx;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.inject.Singleton;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.quarkus.vertx.http.runtime.EventLoopLoad;
+
+/**
+ * Exports the load of each event loop the HTTP server runs on, so that an imbalance between them can be detected.
+ */
+@Singleton
+public class VertxEventLoopMetrics implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        // the event loops are registered when the HTTP server starts, which may happen after this
+        EventLoopLoad.setListener(load -> {
+            Tags tags = Tags.of("eventloop", load.getName());
+            Gauge.builder("http.server.eventloop.connections", load, EventLoopLoad::getConnections)
+                    .description("The number of connections handled by the event loop")
+                    .tags(tags)
+                    .strongReference(true)
+                    .register(registry);
+            Gauge.builder("http.server.eventloop.requests.active", load, EventLoopLoad::getActiveRequests)
+                    .description("The number of requests being handled by the event loop")
+                    .tags(tags)
+                    .strongReference(true)
+                    .register(registry);
+            Gauge.builder("http.server.eventloop.tasks.pending", load, EventLoopLoad::getPendingTasks)
+                    .description("The number of tasks waiting to be run by the event loop")
+                    .tags(tags)
+                    .strongReference(true)
+                    .register(registry);
+            TimeGauge.builder("http.server.eventloop.task.latency", load, TimeUnit.NANOSECONDS,
+                    EventLoopLoad::getTaskLatency)
+                    .description("How long a task waits before being run by the event loop")
+                    .tags(tags)
+                    .strongReference(true)
+                    .register(registry);
+        });
+    }
+}
@@ -22,6 +22,16 @@ public class VertxConfigGroup implements MicrometerConfig.CapabilityEnabled {
     @ConfigItem
     public Optional<Boolean> enabled;
 
+    /**
+     * Event loop metrics support.
+     * <p>
+     * If set to {@code true} and Vert.x metrics support is enabled, the load of each event loop the HTTP server runs on
+     * is tracked and exported as {@code http.server.eventloop.*} metrics. Tracking the load adds some work to every
+     * request and a periodic task to every event loop, so it is disabled by default.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean eventLoopMetrics;
+
     @Override
     public Optional<Boolean> getEnabled() {
         return enabled;
@@ -31,6 +41,7 @@ public class VertxConfigGroup implements MicrometerConfig.CapabilityEnabled {
     public String toString() {
         return this.getClass().getSimpleName()
                 + "{enabled=" + enabled
+                + ",eventLoopMetrics=" + eventLoopMetrics
                 + '}';
     }
 }
@@ -0,0 +1,412 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.processor;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.FieldInfo;
+import org.jboss.jandex.IndexView;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.PrimitiveType;
+import org.jboss.jandex.Type;
+import org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNames;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.SerializerProvider;
+
+import io.quarkus.gizmo.ClassCreator;
+import io.quarkus.gizmo.ClassOutput;
+import io.quarkus.gizmo.FieldDescriptor;
+import io.quarkus.gizmo.MethodCreator;
+import io.quarkus.gizmo.MethodDescriptor;
+import io.quarkus.gizmo.ResultHandle;
+import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.ReflectionFreeSerializer;
+import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.ReflectionFreeSerializersModule;
+
+/**
+ * Generates a {@link ReflectionFreeSerializer} for the types that can be serialized without relying on anything
+ * but the default Jackson property discovery rules.
+ * <p>
+ * For example for a type like:
+ *
+ * <pre>
+ * public class Person {
+ *
+ *     public int age;
+ *     private String name;
+ *
+ *     public String getName() {
+ *         return name;
+ *     }
+ * }
+ * </pre>
+ *
+ * the generated serializer would look like:
+ *
+ * <pre>
+ * public class Person$quarkusjacksonserializer extends ReflectionFreeSerializer {
+ *
+ *     private static final SerializedString NAME0 = new SerializedString("age");
+ *     private static final SerializedString NAME1 = new SerializedString("name");
+ *
+ *     public Person$quarkusjacksonserializer() {
+ *         super(Person.class, new Class[] { String.class });
+ *     }
+ *
+ *     protected void writeProperties(Object value, JsonGenerator gen, SerializerProvider provider, boolean writeNulls) {
+ *         Person person = (Person) value;
+ *         gen.writeFieldName(NAME0);
+ *         gen.writeNumber(person.age);
+ *         writeStringProperty(gen, NAME1, person.getName(), writeNulls);
+ *     }
+ * }
+ * </pre>
+ */
+final class JacksonSerializerGenerator {
+
+    private static final String SUFFIX = "$quarkusjacksonserializer";
+    private static final String MODULE_CLASS_NAME = "io.quarkus.resteasy.reactive.jackson.generated.ReflectionFreeSerializersModule";
+    private static final String WRITE_PROPERTIES_METHOD_NAME = "writeProperties";
+    private static final String NAME_FIELD_PREFIX = "NAME";
+
+    private static final DotName SERIALIZABLE = DotName.createSimple(Serializable.class.getName());
+    private static final DotName STRING = DotName.createSimple(String.class.getName());
+    // annotations that can change how Jackson discovers or writes the properties of a type
+    private static final String[] UNSUPPORTED_ANNOTATION_PREFIXES = {
+            "com.fasterxml.jackson.",
+            "javax.xml.bind.",
+            "jakarta.xml.bind.",
+            "java.beans.",
+            "kotlin.",
+            "io.quarkus.resteasy.reactive.jackson."
+    };
+
+    private final ClassOutput classOutput;
+    private final IndexView index;
+    // the value is null for the types a serializer can't be generated for
+    private final Map<DotName, String> serializers = new HashMap<>();
+
+    JacksonSerializerGenerator(ClassOutput classOutput, IndexView index) {
+        this.classOutput = classOutput;
+        this.index = index;
+    }
+
+    /**
+     * Generates a serializer for the given type if possible, and for the types of its properties.
+     */
+    void generate(Type type) {
+        if (type.kind() == Type.Kind.ARRAY) {
+            generate(type.asArrayType().component());
+            return;
+        }
+        if (type.kind() != Type.Kind.CLASS) {
+            return;
+        }
+        DotName name = type.name();
+        if (serializers.containsKey(name) || name.toString().startsWith("java.")) {
+            return;
+        }
+        // mark the type before looking at its properties to handle cycles
+        serializers.put(name, null);
+        ClassInfo classInfo = index.getClassByName(name);
+        if (classInfo == null) {
+            return;
+        }
+        List<Property> properties = collectProperties(classInfo);
+        if (properties == null) {
+            return;
+        }
+        serializers.put(name, generate(classInfo, properties));
+        for (Property property : properties) {
+            Type effectiveType = ResteasyReactiveJacksonProcessor.getEffectiveElementType(property.type);
+            if (effectiveType != null) {
+                generate(effectiveType);
+            }
+        }
+    }
+
+    /**
+     * Returns the generated serializers class names keyed by the name of the class they handle.
+     */
+    Map<String, String> getGeneratedSerializers() {
+        Map<String, String> result = new HashMap<>();
+        for (Map.Entry<DotName, String> entry : serializers.entrySet()) {
+            if (entry.getValue() != null) {
+                result.put(entry.getKey().toString(), entry.getValue());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Generates the module registering the generated serializers.
+     *
+     * @return the name of the generated module class, or {@code null} if no serializer was generated
+     */
+    String generateModule() {
+        Map<String, String> generatedSerializers = getGeneratedSerializers();
+        if (generatedSerializers.isEmpty()) {
+            return null;
+        }
+        try (ClassCreator cc = new ClassCreator(classOutput, MODULE_CLASS_NAME, null,
+                ReflectionFreeSerializersModule.class.getName())) {
+            MethodCreator ctor = cc.getMethodCreator("<init>", void.class);
+            ctor.setModifiers(Modifier.PUBLIC);
+            ctor.invokeSpecialMethod(MethodDescriptor.ofConstructor(ReflectionFreeSerializersModule.class), ctor.getThis());
+            for (String serializer : generatedSerializers.values()) {
+                ctor.invokeVirtualMethod(MethodDescriptor.ofMethod(ReflectionFreeSerializersModule.class, "addSerializer",
+                        void.class, ReflectionFreeSerializer.class), ctor.getThis(),
+                        ctor.newInstance(MethodDescriptor.ofConstructor(serializer)));
+            }
+            ctor.returnValue(null);
+        }
+        return MODULE_CLASS_NAME;
+    }
+
+    /**
+     * Returns the properties of the class in the order Jackson would write them, or {@code null} if Jackson could
+     * discover them differently than what is done here.
+     */
+    private List<Property> collectProperties(ClassInfo classInfo) {
+        if (!Modifier.isPublic(classInfo.flags()) || Modifier.isAbstract(classInfo.flags())
+                || Modifier.isInterface(classInfo.flags()) || isEnum(classInfo)
+                || classInfo.nestingType() != ClassInfo.NestingType.TOP_LEVEL
+                || !classInfo.typeParameters().isEmpty()
+                || !ResteasyReactiveDotNames.OBJECT.equals(classInfo.superName())) {
+            return null;
+        }
+        for (DotName interfaceName : classInfo.interfaceNames()) {
+            if (!interfaceName.equals(SERIALIZABLE)) {
+                return null;
+            }
+        }
+        for (DotName annotation : classInfo.annotations().keySet()) {
+            String annotationName = annotation.toString();
+            for (String prefix : UNSUPPORTED_ANNOTATION_PREFIXES) {
+                if (annotationName.startsWith(prefix)) {
+                    return null;
+                }
+            }
+        }
+        // a subclass would be serialized with the regular serializer anyway
+        if (!index.getKnownDirectSubclasses(classInfo.name()).isEmpty()) {
+            return null;
+        }
+
+        // Jackson orders the properties by the position of their field, so we only handle getters backed by a field
+        // as the order of the methods returned by reflection is unspecified
+        Map<String, FieldInfo> fields = new LinkedHashMap<>();
+        for (FieldInfo field : classInfo.unsortedFields()) {
+            if (Modifier.isStatic(field.flags())) {
+                continue;
+            }
+            if (Modifier.isTransient(field.flags())) {
+                return null;
+            }
+            fields.put(field.name(), field);
+        }
+        Map<String, MethodInfo> getters = new HashMap<>();
+        for (MethodInfo method : classInfo.methods()) {
+            if (!Modifier.isPublic(method.flags()) || Modifier.isStatic(method.flags()) || method.isSynthetic()
+                    || !method.parameters().isEmpty() || method.returnType().kind() == Type.Kind.VOID) {
+                continue;
+            }
+            String methodName = method.name();
+            String propertyName;
+            if (methodName.startsWith("get")) {
+                propertyName = manglePropertyName(methodName, 3);
+            } else if (methodName.startsWith("is")) {
+                if (method.returnType().kind() == Type.Kind.PRIMITIVE
+                        && method.returnType().asPrimitiveType().primitive() == PrimitiveType.Primitive.BOOLEAN) {
+                    propertyName = manglePropertyName(methodName, 2);
+                } else if (method.returnType().name().equals(ResteasyReactiveDotNames.BOOLEAN)) {
+                    // whether this is a getter depends on the Jackson version
+                    return null;
+                } else {
+                    continue;
+                }
+            } else {
+                continue;
+            }
+            if (propertyName == null) {
+                continue;
+            }
+            if (!fields.containsKey(propertyName) || (getters.put(propertyName, method) != null)) {
+                return null;
+            }
+        }
+
+        List<Property> properties = new ArrayList<>(fields.size());
+        for (FieldInfo field : fields.values()) {
+            MethodInfo getter = getters.get(field.name());
+            if (getter != null) {
+                properties.add(new Property(field.name(), getter.returnType(), null, getter));
+            } else if (Modifier.isPublic(field.flags())) {
+                properties.add(new Property(field.name(), field.type(), field, null));
+            }
+        }
+        return properties.isEmpty() ? null : properties;
+    }
+
+    private String generate(ClassInfo classInfo, List<Property> properties) {
+        String className = classInfo.name().toString();
+        String generatedClassName = className + SUFFIX;
+        try (ClassCreator cc = new ClassCreator(classOutput, generatedClassName, null,
+                ReflectionFreeSerializer.class.getName())) {
+            MethodCreator ctor = cc.getMethodCreator("<init>", void.class);
+            ctor.setModifiers(Modifier.PUBLIC);
+            List<Type> propertyTypes = new ArrayList<>();
+            for (Property property : properties) {
+                if (property.type.kind() == Type.Kind.CLASS || property.type.kind() == Type.Kind.PARAMETERIZED_TYPE) {
+                    propertyTypes.add(property.type);
+                }
+            }
+            ResultHandle propertyTypesArray = ctor.newArray(Class.class, propertyTypes.size());
+            for (int i = 0; i < propertyTypes.size(); i++) {
+                ctor.writeArrayValue(propertyTypesArray, i, ctor.loadClass(propertyTypes.get(i).name().toString()));
+            }
+            ctor.invokeSpecialMethod(
+                    MethodDescriptor.ofConstructor(ReflectionFreeSerializer.class, Class.class, Class[].class),
+                    ctor.getThis(), ctor.loadClass(className), propertyTypesArray);
+            ctor.returnValue(null);
+
+            MethodCreator clinit = cc.getMethodCreator("<clinit>", void.class);
+            clinit.setModifiers(Modifier.STATIC);
+
+            MethodCreator writeProperties = cc.getMethodCreator(WRITE_PROPERTIES_METHOD_NAME, void.class, Object.class,
+                    JsonGenerator.class, SerializerProvider.class, boolean.class);
+            writeProperties.setModifiers(Modifier.PROTECTED);
+            writeProperties.addException(IOException.class);
+            ResultHandle value = writeProperties.checkCast(writeProperties.getMethodParam(0), className);
+            ResultHandle gen = writeProperties.getMethodParam(1);
+            ResultHandle provider = writeProperties.getMethodParam(2);
+            ResultHandle writeNulls = writeProperties.getMethodParam(3);
+
+            for (int i = 0; i < properties.size(); i++) {
+                Property property = properties.get(i);
+
+                FieldDescriptor nameField = cc.getFieldCreator(NAME_FIELD_PREFIX + i, SerializedString.class)
+                        .setModifiers(Modifier.PRIVATE | Modifier.STATIC | Modifier.FINAL)
+                        .getFieldDescriptor();
+                clinit.writeStaticField(nameField,
+                        clinit.newInstance(MethodDescriptor.ofConstructor(SerializedString.class, String.class),
+                                clinit.load(property.name)));
+
+                ResultHandle name = writeProperties.readStaticField(nameField);
+                ResultHandle propertyValue = property.field != null
+                        ? writeProperties.readInstanceField(FieldDescriptor.of(property.field), value)
+                        : writeProperties.invokeVirtualMethod(MethodDescriptor.of(property.getter), value);
+                writeProperty(writeProperties, property.type, gen, provider, name, propertyValue, writeNulls);
+            }
+            writeProperties.returnValue(null);
+            clinit.returnValue(null);
+        }
+        return generatedClassName;
+    }
+
+    private static void writeProperty(MethodCreator mc, Type type, ResultHandle gen, ResultHandle provider,
+            ResultHandle name, ResultHandle value, ResultHandle writeNulls) {
+        if (type.kind() == Type.Kind.PRIMITIVE) {
+            Class<?> valueType;
+            String writeMethod = "writeNumber";
+            switch (type.asPrimitiveType().primitive()) {
+                case BOOLEAN:
+                    valueType = boolean.class;
+                    writeMethod = "writeBoolean";
+                    break;
+                case SHORT:
+                    valueType = short.class;
+                    break;
+                case BYTE:
+                case INT:
+                    valueType = int.class;
+                    break;
+                case LONG:
+                    valueType = long.class;
+                    break;
+                case FLOAT:
+                    valueType = float.class;
+                    break;
+                case DOUBLE:
+                    valueType = double.class;
+                    break;
+                default:
+                    // char is written as a String by Jackson
+                    mc.invokeStaticMethod(MethodDescriptor.ofMethod(ReflectionFreeSerializer.class, "writeObjectProperty",
+                            void.class, JsonGenerator.class, SerializerProvider.class, SerializableString.class,
+                            Object.class, boolean.class), gen, provider, name,
+                            mc.invokeStaticMethod(MethodDescriptor.ofMethod(Character.class, "valueOf", Character.class,
+                                    char.class), value),
+                            writeNulls);
+                    return;
+            }
+            mc.invokeVirtualMethod(
+                    MethodDescriptor.ofMethod(JsonGenerator.class, "writeFieldName", void.class, SerializableString.class),
+                    gen, name);
+            mc.invokeVirtualMethod(MethodDescriptor.ofMethod(JsonGenerator.class, writeMethod, void.class, valueType), gen,
+                    value);
+        } else if (type.name().equals(STRING)) {
+            mc.invokeStaticMethod(MethodDescriptor.ofMethod(ReflectionFreeSerializer.class, "writeStringProperty",
+                    void.class, JsonGenerator.class, SerializableString.class, String.class, boolean.class), gen, name,
+                    value, writeNulls);
+        } else {
+            mc.invokeStaticMethod(MethodDescriptor.ofMethod(ReflectionFreeSerializer.class, "writeObjectProperty",
+                    void.class, JsonGenerator.class, SerializerProvider.class, SerializableString.class, Object.class,
+                    boolean.class), gen, provider, name, value, writeNulls);
+        }
+    }
+
+    /**
+     * Same as the legacy (and default) Jackson getter name mangling: the leading upper case characters are lower cased.
+     */
+    private static String manglePropertyName(String methodName, int offset) {
+        int end = methodName.length();
+        if (end == offset) {
+            return null;
+        }
+        char c = methodName.charAt(offset);
+        char d = Character.toLowerCase(c);
+        if (c == d) {
+            return methodName.substring(offset);
+        }
+        StringBuilder sb = new StringBuilder(end - offset);
+        sb.append(d);
+        for (int i = offset + 1; i < end; i++) {
+            c = methodName.charAt(i);
+            d = Character.toLowerCase(c);
+            if (c == d) {
+                sb.append(methodName, i, end);
+                break;
+            }
+            sb.append(d);
+        }
+        return sb.toString();
+    }
+
+    private static boolean isEnum(ClassInfo classInfo) {
+        return (classInfo.flags() & 0x4000) != 0;
+    }
+
+    private static final class Property {
+        final String name;
+        final Type type;
+        final FieldInfo field;
+        final MethodInfo getter;
+
+        Property(String name, Type type, FieldInfo field, MethodInfo getter) {
+            this.name = name;
+            this.type = type;
+            this.field = field;
+            this.getter = getter;
+        }
+    }
+}
@@ -31,14 +31,17 @@ import com.fasterxml.jackson.databind.exc.MismatchedInputException;
 
 import io.quarkus.arc.deployment.AdditionalBeanBuildItem;
 import io.quarkus.deployment.Feature;
+import io.quarkus.deployment.GeneratedClassGizmoAdaptor;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.ExecutionTime;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.CombinedIndexBuildItem;
 import io.quarkus.deployment.builditem.FeatureBuildItem;
+import io.quarkus.deployment.builditem.GeneratedClassBuildItem;
 import io.quarkus.deployment.builditem.ShutdownContextBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.ReflectiveClassBuildItem;
+import io.quarkus.jackson.spi.ClassPathJacksonModuleBuildItem;
 import io.quarkus.resteasy.reactive.common.deployment.JaxRsResourceIndexBuildItem;
 import io.quarkus.resteasy.reactive.common.deployment.ResourceScanningResultBuildItem;
 import io.quarkus.resteasy.reactive.common.deployment.ServerDefaultProducesHandlerBuildItem;
@@ -253,43 +256,14 @@ public class ResteasyReactiveJacksonProcessor {
                 }
             }
 
-            ResourceMethod resourceInfo = entry.getResourceMethod();
-            boolean isJsonResponse = false;
-            if (resourceInfo.getProduces() != null) {
-                for (String produces : resourceInfo.getProduces()) {
-                    if (produces.toLowerCase(Locale.ROOT).contains(MediaType.APPLICATION_JSON)) {
-                        isJsonResponse = true;
-                        break;
-                    }
-                }
-            }
-            if (!isJsonResponse) {
+            if (!isJsonResponse(entry.getResourceMethod())) {
                 continue;
             }
 
-            Type returnType = methodInfo.returnType();
-            if (returnType.kind() == Type.Kind.VOID) {
+            Type effectiveReturnType = getEffectiveReturnType(methodInfo.returnType());
+            if (effectiveReturnType == null) {
                 continue;
             }
-            Type effectiveReturnType = returnType;
-            if (effectiveReturnType.name().equals(ResteasyReactiveDotNames.REST_RESPONSE) ||
-                    effectiveReturnType.name().equals(ResteasyReactiveDotNames.UNI) ||
-                    effectiveReturnType.name().equals(ResteasyReactiveDotNames.COMPLETABLE_FUTURE) ||
-                    effectiveReturnType.name().equals(ResteasyReactiveDotNames.COMPLETION_STAGE) ||
-                    effectiveReturnType.name().equals(ResteasyReactiveDotNames.MULTI)) {
-                if (effectiveReturnType.kind() != Type.Kind.PARAMETERIZED_TYPE) {
-                    continue;
-                }
-
-                effectiveReturnType = returnType.asParameterizedType().arguments().get(0);
-            }
-            if (effectiveReturnType.name().equals(ResteasyReactiveDotNames.SET) ||
-                    effectiveReturnType.name().equals(ResteasyReactiveDotNames.COLLECTION) ||
-                    effectiveReturnType.name().equals(ResteasyReactiveDotNames.LIST)) {
-                effectiveReturnType = effectiveReturnType.asParameterizedType().arguments().get(0);
-            } else if (effectiveReturnType.name().equals(ResteasyReactiveDotNames.MAP)) {
-                effectiveReturnType = effectiveReturnType.asParameterizedType().arguments().get(1);
-            }
 
             ClassInfo effectiveReturnClassInfo = indexView.getClassByName(effectiveReturnType.name());
             if ((effectiveReturnClassInfo == null) || effectiveReturnClassInfo.name().equals(ResteasyReactiveDotNames.OBJECT)) {
@@ -328,6 +302,80 @@ public class ResteasyReactiveJacksonProcessor {
         }
     }
 
+    @BuildStep
+    void generateReflectionFreeSerializers(ResteasyReactiveServerJacksonConfig config,
+            ResteasyReactiveResourceMethodEntriesBuildItem resourceMethodEntries,
+            JaxRsResourceIndexBuildItem index,
+            BuildProducer<GeneratedClassBuildItem> generatedClasses,
+            BuildProducer<ClassPathJacksonModuleBuildItem> jacksonModules) {
+        if (!config.reflectionFreeSerializers) {
+            return;
+        }
+        JacksonSerializerGenerator generator = new JacksonSerializerGenerator(
+                new GeneratedClassGizmoAdaptor(generatedClasses, true), index.getIndexView());
+        for (ResteasyReactiveResourceMethodEntriesBuildItem.Entry entry : resourceMethodEntries.getEntries()) {
+            if (!isJsonResponse(entry.getResourceMethod())) {
+                continue;
+            }
+            Type effectiveReturnType = getEffectiveReturnType(entry.getMethodInfo().returnType());
+            if (effectiveReturnType != null) {
+                generator.generate(effectiveReturnType);
+            }
+        }
+        String module = generator.generateModule();
+        if (module != null) {
+            jacksonModules.produce(new ClassPathJacksonModuleBuildItem(module));
+        }
+    }
+
+    private static boolean isJsonResponse(ResourceMethod resourceInfo) {
+        if (resourceInfo.getProduces() != null) {
+            for (String produces : resourceInfo.getProduces()) {
+                if (produces.toLowerCase(Locale.ROOT).contains(MediaType.APPLICATION_JSON)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the type of the objects written in the response body of a method with the given return type,
+     * or {@code null} if it can't be determined.
+     */
+    private static Type getEffectiveReturnType(Type returnType) {
+        if (returnType.kind() == Type.Kind.VOID) {
+            return null;
+        }
+        Type effectiveReturnType = returnType;
+        if (effectiveReturnType.name().equals(ResteasyReactiveDotNames.REST_RESPONSE) ||
+                effectiveReturnType.name().equals(ResteasyReactiveDotNames.UNI) ||
+                effectiveReturnType.name().equals(ResteasyReactiveDotNames.COMPLETABLE_FUTURE) ||
+                effectiveReturnType.name().equals(ResteasyReactiveDotNames.COMPLETION_STAGE) ||
+                effectiveReturnType.name().equals(ResteasyReactiveDotNames.MULTI)) {
+            if (effectiveReturnType.kind() != Type.Kind.PARAMETERIZED_TYPE) {
+                return null;
+            }
+
+            effectiveReturnType = returnType.asParameterizedType().arguments().get(0);
+        }
+        return getEffectiveElementType(effectiveReturnType);
+    }
+
+    /**
+     * Returns the element type of the collections and maps, or the type itself for any other type.
+     */
+    static Type getEffectiveElementType(Type type) {
+        if (type.name().equals(ResteasyReactiveDotNames.SET) ||
+                type.name().equals(ResteasyReactiveDotNames.COLLECTION) ||
+                type.name().equals(ResteasyReactiveDotNames.LIST)) {
+            return type.kind() == Type.Kind.PARAMETERIZED_TYPE ? type.asParameterizedType().arguments().get(0) : null;
+        } else if (type.name().equals(ResteasyReactiveDotNames.MAP)) {
+            return type.kind() == Type.Kind.PARAMETERIZED_TYPE ? type.asParameterizedType().arguments().get(1) : null;
+        }
+        return type;
+    }
+
     private String getMethodId(MethodInfo methodInfo) {
         return getMethodId(methodInfo, methodInfo.declaringClass());
     }
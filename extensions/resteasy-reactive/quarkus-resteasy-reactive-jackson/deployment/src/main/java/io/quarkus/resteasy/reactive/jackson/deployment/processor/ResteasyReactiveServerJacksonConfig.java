@@ -0,0 +1,21 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.processor;
+
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+@ConfigRoot(name = "resteasy-reactive.jackson")
+public class ResteasyReactiveServerJacksonConfig {
+
+    /**
+     * If enabled, a Jackson serializer is generated at build time for the plain Java objects returned by JSON endpoints,
+     * so that they are serialized without any reflection.
+     * <p>
+     * Serializers are only generated for public top level classes extending {@code Object} that don't use any Jackson
+     * annotation and whose properties are exposed through public fields or public getters backed by a field of the same
+     * name. The regular Jackson serialization is used for any other type, and also when the {@code ObjectMapper} is
+     * customized in a way that changes how properties are discovered (naming strategy, visibility, mix-ins...), when a
+     * Jackson module registers a {@code BeanSerializerModifier}, or when the type of one of the properties is ignored.
+     */
+    @ConfigItem(defaultValue = "false")
+    boolean reflectionFreeSerializers;
+}
@@ -0,0 +1,15 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test;
+
+public class Author {
+
+    public String name;
+    public long birthYear;
+
+    public Author() {
+    }
+
+    public Author(String name, long birthYear) {
+        this.name = name;
+        this.birthYear = birthYear;
+    }
+}
@@ -0,0 +1,13 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test;
+
+public class Label {
+
+    public String text;
+
+    public Label() {
+    }
+
+    public Label(String text) {
+        this.text = text;
+    }
+}
@@ -0,0 +1,120 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test;
+
+import static org.hamcrest.Matchers.is;
+
+import java.util.function.Supplier;
+
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+
+import io.quarkus.jackson.ObjectMapperCustomizer;
+import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.ReflectionFreeSerializer;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class ReflectionFreeSerializersFallbackTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(new Supplier<JavaArchive>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(Author.class, Shelf.class, Label.class, Secret.class, ShelfResource.class,
+                                    IgnoreLabelCustomizer.class);
+                }
+            })
+            .overrideConfigKey("quarkus.resteasy-reactive.jackson.reflection-free-serializers", "true");
+
+    @Test
+    public void testIgnoredPropertyTypes() {
+        // Label is ignored with a config override and Secret with @JsonIgnoreType
+        RestAssured.get("/shelf")
+                .then()
+                .statusCode(200)
+                .contentType("application/json")
+                .body(is("{\"name\":\"Classics\"}"));
+        RestAssured.get("/shelf/serializers")
+                .then()
+                .statusCode(200)
+                .body(is("false"));
+    }
+
+    @Test
+    public void testConfigurationChangedAfterLookup() {
+        RestAssured.get("/shelf/naming")
+                .then()
+                .statusCode(200)
+                .body(is("{\"name\":\"Frank Herbert\",\"birthYear\":1920}|{\"name\":\"Frank Herbert\",\"birth_year\":1920}"));
+    }
+
+    @Path("/shelf")
+    public static class ShelfResource {
+
+        @Inject
+        ObjectMapper objectMapper;
+
+        @GET
+        @Produces(MediaType.APPLICATION_JSON)
+        public Shelf get() {
+            Shelf shelf = new Shelf();
+            shelf.name = "Classics";
+            shelf.label = new Label("classics");
+            shelf.secret = new Secret();
+            return shelf;
+        }
+
+        @GET
+        @Path("/author")
+        @Produces(MediaType.APPLICATION_JSON)
+        public Author author() {
+            return new Author("Frank Herbert", 1920);
+        }
+
+        @GET
+        @Path("/serializers")
+        @Produces(MediaType.TEXT_PLAIN)
+        public boolean serializers() throws JsonProcessingException {
+            return objectMapper.getSerializerProviderInstance()
+                    .findValueSerializer(Shelf.class) instanceof ReflectionFreeSerializer;
+        }
+
+        @GET
+        @Path("/naming")
+        @Produces(MediaType.TEXT_PLAIN)
+        public String naming() throws JsonProcessingException {
+            ObjectMapper mapper = objectMapper.copy();
+            Author author = new Author("Frank Herbert", 1920);
+            if (!(mapper.getSerializerProviderInstance()
+                    .findValueSerializer(Author.class) instanceof ReflectionFreeSerializer)) {
+                throw new IllegalStateException("The generated serializer is not used");
+            }
+            String before = mapper.writeValueAsString(author);
+            // the generated serializer is already cached and must fall back to the regular serializer
+            mapper.setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+            return before + "|" + mapper.writeValueAsString(author);
+        }
+    }
+
+    @Singleton
+    public static class IgnoreLabelCustomizer implements ObjectMapperCustomizer {
+
+        @Override
+        public void customize(ObjectMapper objectMapper) {
+            objectMapper.configOverride(Label.class).setIsIgnoredType(true);
+        }
+    }
+}
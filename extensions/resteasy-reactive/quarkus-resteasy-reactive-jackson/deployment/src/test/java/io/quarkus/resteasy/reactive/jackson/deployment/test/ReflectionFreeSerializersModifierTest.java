@@ -0,0 +1,79 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test;
+
+import static org.hamcrest.Matchers.is;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import javax.inject.Singleton;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import com.fasterxml.jackson.databind.ser.BeanPropertyWriter;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+
+import io.quarkus.jackson.ObjectMapperCustomizer;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class ReflectionFreeSerializersModifierTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(new Supplier<JavaArchive>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(Author.class, AuthorResource.class, ModifierCustomizer.class);
+                }
+            })
+            .overrideConfigKey("quarkus.resteasy-reactive.jackson.reflection-free-serializers", "true");
+
+    @Test
+    public void testSerializerModifier() {
+        RestAssured.get("/author")
+                .then()
+                .statusCode(200)
+                .contentType("application/json")
+                .body(is("{\"name\":\"Frank Herbert\"}"));
+    }
+
+    @Path("/author")
+    public static class AuthorResource {
+
+        @GET
+        @Produces(MediaType.APPLICATION_JSON)
+        public Author get() {
+            return new Author("Frank Herbert", 1920);
+        }
+    }
+
+    @Singleton
+    public static class ModifierCustomizer implements ObjectMapperCustomizer {
+
+        @Override
+        public void customize(ObjectMapper objectMapper) {
+            SimpleModule module = new SimpleModule("RemoveBirthYear");
+            module.setSerializerModifier(new BeanSerializerModifier() {
+                @Override
+                public List<BeanPropertyWriter> changeProperties(SerializationConfig config, BeanDescription beanDesc,
+                        List<BeanPropertyWriter> beanProperties) {
+                    beanProperties.removeIf(p -> p.getName().equals("birthYear"));
+                    return beanProperties;
+                }
+            });
+            objectMapper.registerModule(module);
+        }
+    }
+}
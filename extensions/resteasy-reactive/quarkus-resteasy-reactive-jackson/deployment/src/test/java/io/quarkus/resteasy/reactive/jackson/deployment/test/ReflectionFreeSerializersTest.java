@@ -0,0 +1,88 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test;
+
+import static org.hamcrest.Matchers.is;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import javax.inject.Inject;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.quarkus.resteasy.reactive.jackson.runtime.serialisers.ReflectionFreeSerializer;
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+
+public class ReflectionFreeSerializersTest {
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setArchiveProducer(new Supplier<JavaArchive>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(Book.class, Author.class, BookResource.class);
+                }
+            })
+            .overrideConfigKey("quarkus.resteasy-reactive.jackson.reflection-free-serializers", "true");
+
+    @Test
+    public void testGeneratedSerializers() {
+        RestAssured.get("/book/serializers")
+                .then()
+                .statusCode(200)
+                .body(is("true"));
+    }
+
+    @Test
+    public void testSerialization() {
+        RestAssured.get("/book")
+                .then()
+                .statusCode(200)
+                .contentType("application/json")
+                .body(is("{\"title\":\"Dune\",\"pages\":412,\"available\":true,"
+                        + "\"author\":{\"name\":\"Frank Herbert\",\"birthYear\":1920},"
+                        + "\"reviewers\":[{\"name\":\"Arthur C. Clarke\",\"birthYear\":1917}],\"isbn\":null}"));
+    }
+
+    @Path("/book")
+    public static class BookResource {
+
+        @Inject
+        ObjectMapper objectMapper;
+
+        @GET
+        @Produces(MediaType.APPLICATION_JSON)
+        public Book get() {
+            Book book = new Book();
+            book.title = "Dune";
+            book.setPages(412);
+            book.setAvailable(true);
+            book.setAuthor(new Author("Frank Herbert", 1920));
+            book.setReviewers(List.of(new Author("Arthur C. Clarke", 1917)));
+            return book;
+        }
+
+        @GET
+        @Path("/serializers")
+        @Produces(MediaType.TEXT_PLAIN)
+        public boolean serializers() throws JsonMappingException {
+            return isReflectionFree(Book.class) && isReflectionFree(Author.class);
+        }
+
+        private boolean isReflectionFree(Class<?> type) throws JsonMappingException {
+            return objectMapper.getSerializerProviderInstance()
+                    .findValueSerializer(type) instanceof ReflectionFreeSerializer;
+        }
+    }
+}
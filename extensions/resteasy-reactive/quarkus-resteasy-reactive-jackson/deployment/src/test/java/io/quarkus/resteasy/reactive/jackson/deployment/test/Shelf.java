@@ -0,0 +1,8 @@
+package io.quarkus.resteasy.reactive.jackson.deployment.test;
+
+public class Shelf {
+
+    public String name;
+    public Label label;
+    public Secret secret;
+}
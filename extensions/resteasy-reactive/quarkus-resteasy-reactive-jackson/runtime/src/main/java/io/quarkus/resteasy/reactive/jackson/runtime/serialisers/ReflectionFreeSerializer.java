@@ -0,0 +1,214 @@
+package io.quarkus.resteasy.reactive.jackson.runtime.serialisers;
+
+import java.io.IOException;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.databind.AnnotationIntrospector;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.cfg.SerializerFactoryConfig;
+import com.fasterxml.jackson.databind.introspect.VisibilityChecker;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import com.fasterxml.jackson.databind.ser.BasicSerializerFactory;
+import com.fasterxml.jackson.databind.ser.BeanSerializerFactory;
+import com.fasterxml.jackson.databind.ser.BeanSerializerModifier;
+import com.fasterxml.jackson.databind.ser.ResolvableSerializer;
+import com.fasterxml.jackson.databind.ser.SerializerFactory;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+
+/**
+ * Base class of the serializers generated at build time for the types returned by JSON endpoints.
+ * <p>
+ * The generated subclasses write the properties Jackson would have discovered by introspecting the type, in the same
+ * order, without any reflection. They are only correct as long as the {@code ObjectMapper} uses the default property
+ * discovery rules, so when it has been customized in a way that affects them (naming strategy, visibility, mix-ins,
+ * serializer modifiers, ignored property types...) the regular {@code BeanSerializer} is used instead.
+ *
+ * @see ReflectionFreeSerializersModule
+ */
+public abstract class ReflectionFreeSerializer extends StdSerializer<Object> {
+
+    private final Class<?>[] propertyTypes;
+    private volatile ObjectMapper mapper;
+    private volatile SerializationConfig supportedConfig;
+    private volatile Fallback fallback;
+
+    /**
+     * @param type the handled type
+     * @param propertyTypes the declared types of the properties that are not primitive types
+     */
+    protected ReflectionFreeSerializer(Class<?> type, Class<?>[] propertyTypes) {
+        super(type, false);
+        this.propertyTypes = propertyTypes;
+    }
+
+    /**
+     * Sets the ObjectMapper this serializer is registered with, the serializer factory is not exposed by the
+     * {@link SerializerProvider}.
+     */
+    void setObjectMapper(ObjectMapper mapper) {
+        this.mapper = mapper;
+    }
+
+    /**
+     * Writes the properties of the given value, the start and the end of the JSON object are written by the caller.
+     */
+    protected abstract void writeProperties(Object value, JsonGenerator gen, SerializerProvider provider, boolean writeNulls)
+            throws IOException;
+
+    @Override
+    public void serialize(Object value, JsonGenerator gen, SerializerProvider provider) throws IOException {
+        if (value.getClass() != handledType()) {
+            // the serializer of the declared type is used for subclasses when static typing is enabled
+            provider.findValueSerializer(value.getClass()).serialize(value, gen, provider);
+            return;
+        }
+        if (!isSupported(provider)) {
+            // the ObjectMapper configuration changed after this serializer was cached
+            fallbackSerializer(provider).serialize(value, gen, provider);
+            return;
+        }
+        boolean writeNulls = provider.getConfig().getDefaultPropertyInclusion(handledType())
+                .getValueInclusion() != JsonInclude.Include.NON_NULL;
+        gen.writeStartObject(value);
+        writeProperties(value, gen, provider, writeNulls);
+        gen.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(Object value, JsonGenerator gen, SerializerProvider provider, TypeSerializer typeSer)
+            throws IOException {
+        if (value.getClass() != handledType()) {
+            provider.findValueSerializer(value.getClass()).serializeWithType(value, gen, provider, typeSer);
+        } else {
+            fallbackSerializer(provider).serializeWithType(value, gen, provider, typeSer);
+        }
+    }
+
+    protected static void writeStringProperty(JsonGenerator gen, SerializableString name, String value, boolean writeNulls)
+            throws IOException {
+        if (value != null) {
+            gen.writeFieldName(name);
+            gen.writeString(value);
+        } else if (writeNulls) {
+            gen.writeFieldName(name);
+            gen.writeNull();
+        }
+    }
+
+    protected static void writeObjectProperty(JsonGenerator gen, SerializerProvider provider, SerializableString name,
+            Object value, boolean writeNulls) throws IOException {
+        if (value != null) {
+            gen.writeFieldName(name);
+            provider.findTypedValueSerializer(value.getClass(), true, null).serialize(value, gen, provider);
+        } else if (writeNulls) {
+            gen.writeFieldName(name);
+            provider.defaultSerializeNull(gen);
+        }
+    }
+
+    boolean isSupported(SerializerProvider provider) {
+        return isSupported(provider.getConfig()) && !hasSerializerModifiers(getSerializerFactory());
+    }
+
+    boolean isSupported(SerializationConfig config) {
+        if (config == supportedConfig) {
+            return true;
+        }
+        JsonInclude.Include inclusion = config.getDefaultPropertyInclusion(handledType()).getValueInclusion();
+        boolean supported = config.getPropertyNamingStrategy() == null
+                && config.findMixInClassFor(handledType()) == null
+                && config.getDefaultTyper(config.constructType(Object.class)) == null
+                && config.getDefaultVisibilityChecker() == VisibilityChecker.Std.defaultInstance()
+                && !config.isEnabled(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+                && !config.isEnabled(MapperFeature.USE_STD_BEAN_NAMING)
+                && !config.isEnabled(MapperFeature.REQUIRE_SETTERS_FOR_GETTERS)
+                && (config.getActiveView() == null || config.isEnabled(MapperFeature.DEFAULT_VIEW_INCLUSION))
+                && (inclusion == JsonInclude.Include.ALWAYS || inclusion == JsonInclude.Include.USE_DEFAULTS
+                        || inclusion == JsonInclude.Include.NON_NULL)
+                && !hasIgnoredPropertyType(config);
+        if (supported) {
+            supportedConfig = config;
+        }
+        return supported;
+    }
+
+    /**
+     * The {@code BeanSerializer} skips the properties whose type is ignored, either with {@code @JsonIgnoreType} or
+     * with a config override.
+     */
+    private boolean hasIgnoredPropertyType(SerializationConfig config) {
+        AnnotationIntrospector introspector = config.getAnnotationIntrospector();
+        for (Class<?> propertyType : propertyTypes) {
+            Boolean ignored = config.getConfigOverride(propertyType).getIsIgnoredType();
+            if (ignored == null && introspector != null) {
+                ignored = introspector.isIgnorableType(config.introspectClassAnnotations(propertyType).getClassInfo());
+            }
+            if (Boolean.TRUE.equals(ignored)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The serializer modifiers registered by modules can change the properties and the serializer of any bean.
+     */
+    static boolean hasSerializerModifiers(SerializerFactory factory) {
+        return !(factory instanceof BasicSerializerFactory)
+                || ((BasicSerializerFactory) factory).getFactoryConfig().hasSerializerModifiers();
+    }
+
+    private SerializerFactory getSerializerFactory() {
+        ObjectMapper mapper = this.mapper;
+        return mapper != null ? mapper.getSerializerFactory() : BeanSerializerFactory.instance;
+    }
+
+    @SuppressWarnings("unchecked")
+    private JsonSerializer<Object> fallbackSerializer(SerializerProvider provider) throws IOException {
+        SerializationConfig config = provider.getConfig();
+        SerializerFactory factory = getSerializerFactory();
+        Fallback current = fallback;
+        if (current == null || current.config != config || current.factory != factory) {
+            // Looking up the serializer of the handled type would return this serializer, so the bean serializer is built
+            // by the factory of the ObjectMapper directly, skipping only the serializers registered by modules
+            BeanSerializerFactory beanSerializerFactory = factory instanceof BeanSerializerFactory
+                    ? (BeanSerializerFactory) factory
+                    : BeanSerializerFactory.instance;
+            JavaType type = provider.constructType(handledType());
+            BeanDescription beanDesc = config.introspect(type);
+            JsonSerializer<Object> serializer = beanSerializerFactory.findBeanOrAddOnSerializer(provider, type, beanDesc,
+                    config.isEnabled(MapperFeature.USE_STATIC_TYPING));
+            SerializerFactoryConfig factoryConfig = beanSerializerFactory.getFactoryConfig();
+            if (factoryConfig.hasSerializerModifiers()) {
+                for (BeanSerializerModifier modifier : factoryConfig.serializerModifiers()) {
+                    serializer = (JsonSerializer<Object>) modifier.modifySerializer(config, beanDesc, serializer);
+                }
+            }
+            if (serializer instanceof ResolvableSerializer) {
+                ((ResolvableSerializer) serializer).resolve(provider);
+            }
+            fallback = current = new Fallback(config, factory, serializer);
+        }
+        return current.serializer;
+    }
+
+    private static final class Fallback {
+        final SerializationConfig config;
+        final SerializerFactory factory;
+        final JsonSerializer<Object> serializer;
+
+        Fallback(SerializationConfig config, SerializerFactory factory, JsonSerializer<Object> serializer) {
+            this.config = config;
+            this.factory = factory;
+            this.serializer = serializer;
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package io.quarkus.resteasy.reactive.jackson.runtime.serialisers;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.Version;
+import com.fasterxml.jackson.databind.BeanDescription;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationConfig;
+import com.fasterxml.jackson.databind.ser.Serializers;
+
+/**
+ * Base class of the module generated at build time to register the {@link ReflectionFreeSerializer}s.
+ * <p>
+ * A generated serializer is only returned for the exact type it handles, and as long as the ObjectMapper configuration
+ * supports it. Otherwise Jackson builds the regular {@code BeanSerializer}, including the changes made by the
+ * serializer modifiers registered by other modules.
+ */
+public abstract class ReflectionFreeSerializersModule extends Module {
+
+    private final Map<Class<?>, ReflectionFreeSerializer> serializers = new HashMap<>();
+
+    protected void addSerializer(ReflectionFreeSerializer serializer) {
+        serializers.put(serializer.handledType(), serializer);
+    }
+
+    @Override
+    public String getModuleName() {
+        return "ReflectionFreeSerializers";
+    }
+
+    @Override
+    public Version version() {
+        return Version.unknownVersion();
+    }
+
+    @Override
+    public void setupModule(SetupContext context) {
+        ObjectCodec owner = context.getOwner();
+        if (owner instanceof ObjectMapper) {
+            for (ReflectionFreeSerializer serializer : serializers.values()) {
+                serializer.setObjectMapper((ObjectMapper) owner);
+            }
+        }
+        context.addSerializers(new Serializers.Base() {
+            @Override
+            public JsonSerializer<?> findSerializer(SerializationConfig config, JavaType type, BeanDescription beanDesc) {
+                ReflectionFreeSerializer serializer = serializers.get(type.getRawClass());
+                if (serializer == null || !serializer.isSupported(config)) {
+                    return null;
+                }
+                if ((owner instanceof ObjectMapper)
+                        && ReflectionFreeSerializer.hasSerializerModifiers(((ObjectMapper) owner).getSerializerFactory())) {
+                    return null;
+                }
+                return serializer;
+            }
+        });
+    }
+}
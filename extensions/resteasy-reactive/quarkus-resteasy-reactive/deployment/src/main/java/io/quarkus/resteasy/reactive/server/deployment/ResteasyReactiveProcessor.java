@@ -339,6 +339,7 @@ public class ResteasyReactiveProcessor {
             BeanArchiveIndexBuildItem beanArchiveIndexBuildItem,
             BeanContainerBuildItem beanContainerBuildItem,
             ResteasyReactiveConfig config,
+            ResteasyReactiveServerConfig serverConfig,
             Optional<ResourceScanningResultBuildItem> resourceScanningResultBuildItem,
             BuildProducer<GeneratedClassBuildItem> generatedClassBuildItemBuildProducer,
             BuildProducer<BytecodeTransformerBuildItem> bytecodeTransformerBuildItemBuildProducer,
@@ -427,6 +428,7 @@ public class ResteasyReactiveProcessor {
                             .setInjectableBeans(injectableBeans)
                             .setAdditionalWriters(additionalWriters)
                             .setDefaultBlocking(appResult.getBlockingDefault())
+                            .setDefaultRunOnVirtualThread(serverConfig.runOnVirtualThread)
                             .setApplicationScanningResult(appResult)
                             .setMultipartParameterIndexerExtension(
                                     new GeneratedMultipartParamIndexerExtension(transformationConsumer, classOutput))
@@ -784,7 +786,8 @@ public class ResteasyReactiveProcessor {
                 .setResourceClasses(resourceClasses)
                 .setDevelopmentMode(launchModeBuildItem.getLaunchMode() == LaunchMode.DEVELOPMENT)
                 .setLocatableResourceClasses(subResourceClasses)
-                .setParamConverterProviders(paramConverterProviders);
+                .setParamConverterProviders(paramConverterProviders)
+                .setFuseParameterHandlers(serverConfig.fuseParameterHandlers);
         quarkusRestDeploymentInfoBuildItemBuildProducer
                 .produce(new ResteasyReactiveDeploymentInfoBuildItem(deploymentInfo));
 
@@ -40,6 +40,7 @@ import org.jboss.resteasy.reactive.server.processor.generation.exceptionmappers.
 import org.jboss.resteasy.reactive.server.processor.generation.filters.FilterGeneration;
 import org.jboss.resteasy.reactive.server.processor.scanning.AsyncReturnTypeScanner;
 import org.jboss.resteasy.reactive.server.processor.scanning.CacheControlScanner;
+import org.jboss.resteasy.reactive.server.processor.scanning.ResponseCacheScanner;
 import org.jboss.resteasy.reactive.server.processor.scanning.ResteasyReactiveContextResolverScanner;
 import org.jboss.resteasy.reactive.server.processor.scanning.ResteasyReactiveExceptionMappingScanner;
 import org.jboss.resteasy.reactive.server.processor.scanning.ResteasyReactiveFeatureScanner;
@@ -90,6 +91,11 @@ public class ResteasyReactiveScanningProcessor {
         return new MethodScannerBuildItem(new CacheControlScanner());
     }
 
+    @BuildStep
+    public MethodScannerBuildItem responseCacheSupport() {
+        return new MethodScannerBuildItem(new ResponseCacheScanner());
+    }
+
     @BuildStep
     public ResourceInterceptorsContributorBuildItem scanForInterceptors(CombinedIndexBuildItem combinedIndexBuildItem,
             ApplicationResultBuildItem applicationResultBuildItem) {
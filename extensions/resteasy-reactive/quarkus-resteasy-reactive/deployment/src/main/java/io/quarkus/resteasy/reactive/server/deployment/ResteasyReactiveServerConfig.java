@@ -17,4 +17,22 @@ public class ResteasyReactiveServerConfig {
      */
     @ConfigItem
     Optional<String> path;
+
+    /**
+     * If enabled, blocking endpoints run on a new virtual thread per request instead of being dispatched
+     * to the worker thread pool. Endpoints can also opt in individually with
+     * {@code @io.smallrye.common.annotation.RunOnVirtualThread}.
+     * <p>
+     * Virtual threads require a JVM that supports them, otherwise the worker thread pool is used.
+     */
+    @ConfigItem(defaultValue = "false")
+    boolean runOnVirtualThread;
+
+    /**
+     * If enabled, the parameters of an endpoint that are obtained synchronously are extracted and converted
+     * by a single handler instead of one handler per parameter, which shortens the handler chain of
+     * endpoints with many parameters.
+     */
+    @ConfigItem(defaultValue = "false")
+    boolean fuseParameterHandlers;
 }
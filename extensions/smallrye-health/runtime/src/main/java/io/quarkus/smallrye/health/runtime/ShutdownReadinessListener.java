@@ -10,11 +10,9 @@ import io.quarkus.runtime.shutdown.ShutdownListener;
 /**
  * listener that changes the readiness probe on pre-shudown
  *
- * Note that unless there is another preShutdown listener present
+ * Note that unless {@code quarkus.shutdown.delay} is set, or there is another preShutdown listener present,
  * this will generally have no real effect, as after pre-shutdown
  * the HTTP endpoint will return service unavailable.
- *
- * TODO: We may want a timeout here, so the readiness probe will be down for a set timeout before shutdown continues
  */
 public class ShutdownReadinessListener implements ShutdownListener {
 
@@ -0,0 +1,25 @@
+package io.quarkus.vertx.http.deployment;
+
+import java.util.Map;
+
+import io.quarkus.builder.item.SimpleBuildItem;
+
+/**
+ * The compressed variants of the static resources, i.e. the {@code .gz} and {@code .br} files that are served instead of
+ * a static resource to the clients that accept their content encoding.
+ */
+public final class CompressedStaticResourcesBuildItem extends SimpleBuildItem {
+
+    private final Map<String, String> variants;
+
+    /**
+     * @param variants the paths of the variants, relative to {@code META-INF/resources}, mapped to their {@code ETag}
+     */
+    public CompressedStaticResourcesBuildItem(Map<String, String> variants) {
+        this.variants = variants;
+    }
+
+    public Map<String, String> getVariants() {
+        return variants;
+    }
+}
@@ -0,0 +1,12 @@
+package io.quarkus.vertx.http.deployment;
+
+import io.quarkus.builder.item.MultiBuildItem;
+
+/**
+ * This is a marker that indicates that the load of the event loops the HTTP server runs on should be tracked, as an
+ * extension exports it.
+ *
+ * @see io.quarkus.vertx.http.runtime.EventLoopLoad
+ */
+public final class RequireEventLoopLoadBuildItem extends MultiBuildItem {
+}
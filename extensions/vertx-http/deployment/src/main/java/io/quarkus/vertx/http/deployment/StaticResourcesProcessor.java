@@ -2,7 +2,9 @@ package io.quarkus.vertx.http.deployment;
 
 import static io.quarkus.deployment.annotations.ExecutionTime.RUNTIME_INIT;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.UncheckedIOException;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
@@ -10,11 +12,18 @@ import java.nio.file.Path;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import org.jboss.logging.Logger;
 
 import io.quarkus.arc.deployment.BeanContainerBuildItem;
 import io.quarkus.builder.item.SimpleBuildItem;
@@ -25,12 +34,17 @@ import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
 import io.quarkus.deployment.annotations.Record;
 import io.quarkus.deployment.builditem.ApplicationArchivesBuildItem;
+import io.quarkus.deployment.builditem.GeneratedResourceBuildItem;
+import io.quarkus.deployment.builditem.LaunchModeBuildItem;
 import io.quarkus.deployment.builditem.nativeimage.NativeImageResourceBuildItem;
 import io.quarkus.deployment.pkg.steps.NativeBuild;
+import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.util.ClassPathUtils;
+import io.quarkus.runtime.util.HashUtil;
 import io.quarkus.vertx.core.deployment.CoreVertxBuildItem;
 import io.quarkus.vertx.http.deployment.spi.AdditionalStaticResourceBuildItem;
 import io.quarkus.vertx.http.deployment.spi.StaticResourcesBuildItem;
+import io.quarkus.vertx.http.runtime.HttpBuildTimeConfig;
 import io.quarkus.vertx.http.runtime.StaticResourcesRecorder;
 
 /**
@@ -38,6 +52,11 @@ import io.quarkus.vertx.http.runtime.StaticResourcesRecorder;
  */
 public class StaticResourcesProcessor {
 
+    private static final Logger log = Logger.getLogger(StaticResourcesProcessor.class);
+
+    private static final String GZIP_SUFFIX = ".gz";
+    private static final String BROTLI_SUFFIX = ".br";
+
     @Deprecated
     public static final class StaticResourcesBuildItem extends SimpleBuildItem {
 
@@ -121,14 +140,79 @@ public class StaticResourcesProcessor {
         }
     }
 
+    @BuildStep
+    void compressStaticResources(HttpBuildTimeConfig httpBuildTimeConfig, LaunchModeBuildItem launchMode,
+            Optional<io.quarkus.vertx.http.deployment.spi.StaticResourcesBuildItem> staticResources,
+            BuildProducer<GeneratedResourceBuildItem> generatedResources,
+            BuildProducer<NativeImageResourceBuildItem> nativeImageResources,
+            BuildProducer<CompressedStaticResourcesBuildItem> compressedStaticResources) throws IOException {
+        if (!httpBuildTimeConfig.staticResources.precompress || !staticResources.isPresent()
+                || launchMode.getLaunchMode() == LaunchMode.DEVELOPMENT) {
+            // in dev mode the resources are served from the hot deployment paths
+            return;
+        }
+        Set<String> extensions = new HashSet<>();
+        for (String extension : httpBuildTimeConfig.staticResources.precompressExtensions) {
+            extensions.add(extension.toLowerCase(Locale.ROOT));
+        }
+        Set<String> paths = staticResources.get().getPaths();
+        ClassLoader classLoader = Thread.currentThread().getContextClassLoader();
+        Map<String, String> variants = new HashMap<>();
+        List<String> generated = new ArrayList<>();
+        for (io.quarkus.vertx.http.deployment.spi.StaticResourcesBuildItem.Entry entry : staticResources.get()
+                .getEntries()) {
+            String path = entry.getPath();
+            if (entry.isDirectory() || path.endsWith(GZIP_SUFFIX) || path.endsWith(BROTLI_SUFFIX)) {
+                continue;
+            }
+            // variants provided by the application, e.g. by the frontend build
+            for (String suffix : new String[] { GZIP_SUFFIX, BROTLI_SUFFIX }) {
+                if (paths.contains(path + suffix)) {
+                    byte[] variant = readResource(classLoader, path + suffix);
+                    if (variant != null) {
+                        variants.put(path + suffix, etag(variant));
+                    }
+                }
+            }
+            int dot = path.lastIndexOf('.');
+            if (variants.containsKey(path + GZIP_SUFFIX) || dot < 0
+                    || !extensions.contains(path.substring(dot + 1).toLowerCase(Locale.ROOT))) {
+                continue;
+            }
+            byte[] content = readResource(classLoader, path);
+            if (content == null) {
+                continue;
+            }
+            byte[] compressed = gzip(content);
+            if (compressed.length >= content.length) {
+                continue;
+            }
+            String resourceName = StaticResourcesRecorder.META_INF_RESOURCES + path + GZIP_SUFFIX;
+            generatedResources.produce(new GeneratedResourceBuildItem(resourceName, compressed));
+            generated.add(resourceName);
+            variants.put(path + GZIP_SUFFIX, etag(compressed));
+        }
+        log.debugf("Compressed %d static resources", generated.size());
+        if (!generated.isEmpty()) {
+            nativeImageResources.produce(new NativeImageResourceBuildItem(generated));
+        }
+        if (!variants.isEmpty()) {
+            compressedStaticResources.produce(new CompressedStaticResourcesBuildItem(variants));
+        }
+    }
+
     @BuildStep
     @Record(RUNTIME_INIT)
     public void runtimeInit(Optional<io.quarkus.vertx.http.deployment.spi.StaticResourcesBuildItem> staticResources,
+            Optional<CompressedStaticResourcesBuildItem> compressedStaticResources,
             StaticResourcesRecorder recorder,
             CoreVertxBuildItem vertx, BeanContainerBuildItem beanContainer,
             BuildProducer<DefaultRouteBuildItem> defaultRoutes) {
         if (staticResources.isPresent()) {
-            defaultRoutes.produce(new DefaultRouteBuildItem(recorder.start(staticResources.get().getPaths())));
+            Map<String, String> variants = compressedStaticResources.isPresent()
+                    ? compressedStaticResources.get().getVariants()
+                    : Map.of();
+            defaultRoutes.produce(new DefaultRouteBuildItem(recorder.start(staticResources.get().getPaths(), variants)));
         }
     }
 
@@ -151,6 +235,28 @@ public class StaticResourcesProcessor {
         }
     }
 
+    private static byte[] readResource(ClassLoader classLoader, String path) throws IOException {
+        try (InputStream in = classLoader.getResourceAsStream(StaticResourcesRecorder.META_INF_RESOURCES + path)) {
+            return in == null ? null : in.readAllBytes();
+        }
+    }
+
+    private static byte[] gzip(byte[] content) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(content.length / 2);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gzip.write(content);
+        }
+        return out.toByteArray();
+    }
+
+    private static String etag(byte[] content) {
+        return '"' + HashUtil.sha1(content) + '"';
+    }
+
     /**
      * Find all static file resources that are available from classpath.
      *
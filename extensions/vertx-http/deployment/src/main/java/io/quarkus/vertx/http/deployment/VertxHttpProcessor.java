@@ -220,6 +220,7 @@ class VertxHttpProcessor {
             NonApplicationRootPathBuildItem nonApplicationRootPathBuildItem,
             HttpBuildTimeConfig httpBuildTimeConfig,
             List<RequireBodyHandlerBuildItem> requireBodyHandlerBuildItems,
+            List<RequireEventLoopLoadBuildItem> requireEventLoopLoadBuildItems,
             BodyHandlerBuildItem bodyHandlerBuildItem,
             BuildProducer<ShutdownListenerBuildItem> shutdownListenerBuildItemBuildProducer,
             ShutdownConfig shutdownConfig,
@@ -280,7 +281,7 @@ class VertxHttpProcessor {
                 httpRootPathBuildItem.getRootPath(),
                 launchMode.getLaunchMode(),
                 !requireBodyHandlerBuildItems.isEmpty(), bodyHandler, gracefulShutdownFilter,
-                shutdownConfig, executorBuildItem.getExecutorProxy());
+                shutdownConfig, executorBuildItem.getExecutorProxy(), !requireEventLoopLoadBuildItems.isEmpty());
 
         return new ServiceStartBuildItem("vertx-http");
     }
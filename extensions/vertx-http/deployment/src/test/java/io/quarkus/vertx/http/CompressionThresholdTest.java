@@ -0,0 +1,81 @@
+package io.quarkus.vertx.http;
+
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+
+import org.hamcrest.Matchers;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.vertx.ext.web.Router;
+
+public class CompressionThresholdTest {
+    private static final String APP_PROPS = "" +
+            "quarkus.http.enable-compression=true\n" +
+            "quarkus.http.compression-level=1\n" +
+            "quarkus.http.compression-min-size=1K\n" +
+            "quarkus.http.compression-media-types=text/*,application/json\n";
+
+    static String longString;
+    static {
+
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 1000; ++i) {
+            sb.append("Hello World;");
+        }
+        longString = sb.toString();
+    }
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource(new StringAsset(APP_PROPS), "application.properties")
+                    .addClasses(BeanRegisteringRoutes.class));
+
+    @Test
+    public void test() {
+        RestAssured.given().get("/large").then().statusCode(200)
+                .header("content-encoding", "gzip")
+                .body(Matchers.equalTo(longString));
+
+        RestAssured.given().get("/json").then().statusCode(200)
+                .header("content-encoding", "gzip")
+                .body(Matchers.equalTo(longString));
+
+        RestAssured.given().get("/small").then().statusCode(200)
+                .header("content-encoding", Matchers.anyOf(is(nullValue()), is("identity")))
+                .body(Matchers.equalTo("Hello World"));
+
+        RestAssured.given().get("/binary").then().statusCode(200)
+                .header("content-encoding", Matchers.anyOf(is(nullValue()), is("identity")))
+                .header("content-length", Matchers.equalTo(Integer.toString(longString.length())));
+    }
+
+    @ApplicationScoped
+    static class BeanRegisteringRoutes {
+
+        public void register(@Observes Router router) {
+
+            router.route("/large").handler(rc -> {
+                rc.response().putHeader("content-type", "text/plain;charset=UTF-8").end(longString);
+            });
+            router.route("/json").handler(rc -> {
+                rc.response().putHeader("content-type", "application/json").end(longString);
+            });
+            router.route("/small").handler(rc -> {
+                rc.response().putHeader("content-type", "text/plain").end("Hello World");
+            });
+            router.route("/binary").handler(rc -> {
+                rc.response().putHeader("content-type", "application/octet-stream").end(longString);
+            });
+        }
+
+    }
+
+}
@@ -0,0 +1,82 @@
+package io.quarkus.vertx.http;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.startsWith;
+
+import org.jboss.shrinkwrap.api.asset.ByteArrayAsset;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.restassured.RestAssured;
+import io.restassured.config.DecoderConfig;
+import io.restassured.config.RestAssuredConfig;
+
+public class PrecompressedStaticResourcesTest {
+
+    private static final String APP_PROPS = "" +
+            "quarkus.http.enable-compression=true\n" +
+            "quarkus.http.static-resources.precompress=true\n";
+
+    private static final byte[] BROTLI_CSS = new byte[] { 1, 2, 3, 4 };
+
+    static String script;
+    static {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 1000; ++i) {
+            sb.append("console.log('Hello World');\n");
+        }
+        script = sb.toString();
+    }
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addAsResource(new StringAsset(APP_PROPS), "application.properties")
+                    .addAsResource(new StringAsset(script), "META-INF/resources/app.js")
+                    .addAsResource(new StringAsset("body { color: red; }"), "META-INF/resources/app.css")
+                    .addAsResource(new ByteArrayAsset(BROTLI_CSS), "META-INF/resources/app.css.br"));
+
+    @Test
+    public void testGzipVariant() {
+        String etag = RestAssured.given().header("Accept-Encoding", "gzip").get("/app.js").then().statusCode(200)
+                .header("content-encoding", "gzip")
+                .header("content-type", startsWith("application/javascript"))
+                .header("vary", equalTo("accept-encoding"))
+                .header("etag", notNullValue())
+                .body(equalTo(script))
+                .extract().header("etag");
+        Assertions.assertTrue(etag.startsWith("\"") && etag.endsWith("\""), "not a strong ETag: " + etag);
+
+        RestAssured.given().header("Accept-Encoding", "gzip").header("If-None-Match", etag).get("/app.js").then()
+                .statusCode(304);
+
+        RestAssured.given().config(RestAssuredConfig.config().decoderConfig(DecoderConfig.decoderConfig()
+                .noContentDecoders()))
+                .get("/app.js").then().statusCode(200)
+                .header("content-encoding", is(nullValue()))
+                .body(equalTo(script));
+    }
+
+    @Test
+    public void testProvidedBrotliVariant() {
+        RestAssuredConfig noDecoders = RestAssuredConfig.config()
+                .decoderConfig(DecoderConfig.decoderConfig().noContentDecoders());
+        byte[] body = RestAssured.given().config(noDecoders).header("Accept-Encoding", "gzip, deflate, br")
+                .get("/app.css").then().statusCode(200)
+                .header("content-encoding", "br")
+                .header("content-type", startsWith("text/css"))
+                .extract().asByteArray();
+        Assertions.assertArrayEquals(BROTLI_CSS, body);
+
+        RestAssured.given().config(noDecoders).header("Accept-Encoding", "identity, br;q=0")
+                .get("/app.css").then().statusCode(200)
+                .header("content-encoding", is(nullValue()))
+                .body(equalTo("body { color: red; }"));
+    }
+}
@@ -0,0 +1,76 @@
+package io.quarkus.vertx.http.http2;
+
+import java.net.URL;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.quarkus.vertx.core.runtime.VertxCoreRecorder;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.Http2Settings;
+import io.vertx.core.http.HttpConnection;
+import io.vertx.core.http.HttpVersion;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.client.HttpResponse;
+import io.vertx.ext.web.client.WebClient;
+import io.vertx.ext.web.client.WebClientOptions;
+
+public class Http2SettingsTest {
+
+    private static final String APP_PROPS = "" +
+            "quarkus.http.limits.header-table-size=8192\n" +
+            "quarkus.http.limits.max-concurrent-streams=50\n" +
+            "quarkus.http.limits.initial-window-size=262144\n" +
+            "quarkus.http.limits.connection-window-size=1048576\n";
+
+    @TestHTTPResource(value = "/settings", ssl = false)
+    URL url;
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .withApplicationRoot((jar) -> jar
+                    .addClasses(MyBean.class)
+                    .addAsResource(new StringAsset(APP_PROPS), "application.properties"));
+
+    @Test
+    public void testSettings() throws ExecutionException, InterruptedException {
+        WebClientOptions options = new WebClientOptions()
+                .setProtocolVersion(HttpVersion.HTTP_2)
+                .setHttp2ClearTextUpgrade(false);
+        WebClient client = WebClient.create(VertxCoreRecorder.getVertx().get(), options);
+        CompletableFuture<String> result = new CompletableFuture<>();
+        client.get(url.getPort(), "localhost", "/settings")
+                .send(ar -> {
+                    if (ar.succeeded()) {
+                        HttpResponse<Buffer> response = ar.result();
+                        result.complete(response.bodyAsString());
+                    } else {
+                        result.completeExceptionally(ar.cause());
+                    }
+                });
+        Assertions.assertEquals("8192 50 262144 1048576", result.get());
+    }
+
+    @ApplicationScoped
+    static class MyBean {
+
+        public void register(@Observes Router router) {
+            router.get("/settings").handler(rc -> {
+                HttpConnection connection = rc.request().connection();
+                Http2Settings settings = connection.settings();
+                rc.response().end(settings.getHeaderTableSize() + " " + settings.getMaxConcurrentStreams() + " "
+                        + settings.getInitialWindowSize() + " " + connection.getWindowSize());
+            });
+        }
+
+    }
+}
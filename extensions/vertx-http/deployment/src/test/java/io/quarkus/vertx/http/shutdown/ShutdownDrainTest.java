@@ -0,0 +1,124 @@
+package io.quarkus.vertx.http.shutdown;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.Socket;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.asset.StringAsset;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.test.QuarkusUnitTest;
+import io.quarkus.test.common.http.TestHTTPResource;
+import io.vertx.core.Handler;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Tests that the keep-alive connections are closed on shutdown: the idle ones straight away, and the busy ones once
+ * their in-flight request completed, with a {@code Connection: close} header.
+ */
+public class ShutdownDrainTest {
+
+    protected static final int HANDLER_WAIT_TIME = 2000;
+
+    @RegisterExtension
+    static QuarkusUnitTest test = new QuarkusUnitTest()
+            .setAllowTestClassOutsideDeployment(true)
+            .setArchiveProducer(new Supplier<JavaArchive>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(ShutdownDrainTest.class)
+                            .addAsResource(new StringAsset("quarkus.shutdown.timeout=60"), "application.properties");
+                }
+            })
+            .setAfterUndeployListener(new Runnable() {
+                @Override
+                public void run() {
+                    try {
+                        String busy = readUntilClosed(ShutdownTimer.socket);
+                        Assertions.assertTrue(busy.startsWith("HTTP/1.1 200"), busy);
+                        Assertions.assertTrue(busy.toLowerCase(Locale.ROOT).contains("connection: close"), busy);
+                        String idle = readUntilClosed(ShutdownTimer.idleSocket);
+                        Assertions.assertTrue(idle.startsWith("HTTP/1.1 200"), idle);
+                        Assertions.assertTrue(idle.endsWith("fast"), idle);
+                    } catch (IOException e) {
+                        throw new RuntimeException(e);
+                    } finally {
+                        try {
+                            ShutdownTimer.socket.close();
+                            ShutdownTimer.idleSocket.close();
+                        } catch (IOException e) {
+                            e.printStackTrace();
+                        }
+                    }
+                }
+            });
+
+    @TestHTTPResource
+    URL url;
+
+    @Test
+    public void testDrain() throws Exception {
+        ShutdownTimer.idleSocket = new Socket(url.getHost(), url.getPort());
+        ShutdownTimer.idleSocket.setSoTimeout(10000);
+        ShutdownTimer.idleSocket.getOutputStream()
+                .write("GET /fast HTTP/1.1\r\nHost: localhost\r\n\r\n".getBytes(StandardCharsets.UTF_8));
+        ShutdownTimer.idleSocket.getOutputStream().flush();
+
+        ShutdownTimer.socket = new Socket(url.getHost(), url.getPort());
+        ShutdownTimer.socket.setSoTimeout(10000);
+        ShutdownTimer.socket.getOutputStream()
+                .write("GET /slow HTTP/1.1\r\nHost: localhost\r\n\r\n".getBytes(StandardCharsets.UTF_8));
+        ShutdownTimer.socket.getOutputStream().flush();
+        Thread.sleep(500);
+    }
+
+    static String readUntilClosed(Socket socket) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        InputStream in = socket.getInputStream();
+        byte[] buf = new byte[1024];
+        int r;
+        while ((r = in.read(buf)) > 0) {
+            out.write(buf, 0, r);
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    @ApplicationScoped
+    public static class DrainHandler {
+
+        public void setup(@Observes Router router) {
+            router.get("/fast").handler(new Handler<RoutingContext>() {
+                @Override
+                public void handle(RoutingContext routingContext) {
+                    routingContext.response().end("fast");
+                }
+            });
+            router.get("/slow").handler(new Handler<RoutingContext>() {
+                @Override
+                public void handle(RoutingContext routingContext) {
+                    routingContext.vertx().setTimer(HANDLER_WAIT_TIME, new Handler<Long>() {
+                        @Override
+                        public void handle(Long aLong) {
+                            routingContext.response().end("slow");
+                        }
+                    });
+                }
+            });
+        }
+
+    }
+}
@@ -6,4 +6,5 @@ public class ShutdownTimer {
 
     public static long requestStarted;
     public static Socket socket;
+    public static Socket idleSocket;
 }
@@ -1,6 +1,7 @@
 package io.quarkus.vertx.http.runtime;
 
 import java.util.Optional;
+import java.util.OptionalInt;
 
 import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigItem;
@@ -77,4 +78,15 @@ public class AccessLogConfig {
     @ConfigItem(defaultValue = "true")
     public boolean rotate;
 
+    /**
+     * The maximum number of access log messages waiting to be written to the log file.
+     *
+     * If this is set, the messages are queued in a preallocated buffer of this size and the messages that don't fit
+     * are dropped, instead of letting the queue grow when the log file cannot be written fast enough.
+     * The number of dropped messages is logged.
+     * This only applies if logging is done to a separate file.
+     */
+    @ConfigItem
+    public OptionalInt queueSize;
+
 }
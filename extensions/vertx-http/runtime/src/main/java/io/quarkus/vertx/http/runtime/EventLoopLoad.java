@@ -0,0 +1,238 @@
+package io.quarkus.vertx.http.runtime;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+import io.netty.util.concurrent.EventExecutor;
+import io.netty.util.concurrent.SingleThreadEventExecutor;
+import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+
+/**
+ * The load of an event loop the HTTP server runs on: its connections, its in-flight requests, and how long the tasks
+ * submitted to it wait before they run.
+ * <p>
+ * The load is only tracked if {@code quarkus.http.balance-connections} is enabled, or if an extension exports it as
+ * metrics. The loads belong to the Vert.x instance the HTTP server runs on, and are discarded when the HTTP server is
+ * closed.
+ */
+public final class EventLoopLoad {
+
+    private static final long TASK_LATENCY_PROBE_INTERVAL = 1000;
+
+    private static volatile Registry registry;
+    private static volatile Consumer<EventLoopLoad> listener;
+
+    private final String name;
+    private final EventExecutor eventLoop;
+    private final AtomicInteger connections = new AtomicInteger();
+    private final AtomicInteger activeRequests = new AtomicInteger();
+    private volatile long taskLatency;
+
+    private EventLoopLoad(String name, EventExecutor eventLoop) {
+        this.name = name;
+        this.eventLoop = eventLoop;
+    }
+
+    /**
+     * Registers the event loop of the current thread.
+     */
+    static EventLoopLoad register(Vertx vertx, EventExecutor eventLoop) {
+        String name = Thread.currentThread().getName();
+        EventLoopLoad load = new EventLoopLoad(name, eventLoop);
+        registry(vertx).loads.put(name, load);
+        Consumer<EventLoopLoad> l = listener;
+        if (l != null) {
+            l.accept(load);
+        }
+        return load;
+    }
+
+    private static Registry registry(Vertx vertx) {
+        Registry r = registry;
+        if (r == null || r.vertx != vertx) {
+            synchronized (EventLoopLoad.class) {
+                r = registry;
+                if (r == null || r.vertx != vertx) {
+                    if (r != null) {
+                        r.cancelProbe();
+                    }
+                    registry = r = new Registry(vertx);
+                }
+            }
+        }
+        return r;
+    }
+
+    /**
+     * Starts measuring how long the tasks submitted to the registered event loops wait, until {@link #stop()} is
+     * called.
+     */
+    static void start(Vertx vertx) {
+        registry(vertx).startProbe();
+    }
+
+    /**
+     * Stops measuring the task latency and removes the listener, when the application is stopped. The loads are kept
+     * as long as the HTTP server runs, which is the case across dev mode restarts.
+     */
+    static void stop() {
+        Registry r = registry;
+        if (r != null) {
+            r.cancelProbe();
+        }
+        listener = null;
+    }
+
+    /**
+     * Discards the loads of the event loops of the given Vert.x instance, when the HTTP server is closed.
+     */
+    static void clear(Vertx vertx) {
+        synchronized (EventLoopLoad.class) {
+            Registry r = registry;
+            if (r != null && r.vertx == vertx) {
+                r.cancelProbe();
+                registry = null;
+            }
+        }
+    }
+
+    /**
+     * @return the load of the event loop of the current thread, or {@code null} if it is not tracked
+     */
+    static EventLoopLoad current() {
+        Registry r = registry;
+        return r == null ? null : r.loads.get(Thread.currentThread().getName());
+    }
+
+    /**
+     * @return the load of all the event loops the HTTP server runs on
+     */
+    public static Collection<EventLoopLoad> all() {
+        Registry r = registry;
+        return r == null ? Collections.emptyList() : Collections.unmodifiableCollection(r.loads.values());
+    }
+
+    /**
+     * Sets the listener that is notified of every event loop, the ones already registered included. The listener is
+     * removed when the application is stopped.
+     */
+    public static void setListener(Consumer<EventLoopLoad> listener) {
+        EventLoopLoad.listener = listener;
+        if (listener != null) {
+            for (EventLoopLoad load : all()) {
+                listener.accept(load);
+            }
+        }
+    }
+
+    static double averageActiveRequests() {
+        int total = 0;
+        int count = 0;
+        for (EventLoopLoad load : all()) {
+            total += load.activeRequests.get();
+            count++;
+        }
+        return count == 0 ? 0 : (double) total / count;
+    }
+
+    /**
+     * @return the name of the event loop thread
+     */
+    public String getName() {
+        return name;
+    }
+
+    public int getConnections() {
+        return connections.get();
+    }
+
+    /**
+     * @return the number of requests that were received, but not responded to yet
+     */
+    public int getActiveRequests() {
+        return activeRequests.get();
+    }
+
+    /**
+     * @return the number of tasks waiting to be run by the event loop, or {@code -1} if this is not known
+     */
+    public int getPendingTasks() {
+        if (eventLoop instanceof SingleThreadEventExecutor) {
+            return ((SingleThreadEventExecutor) eventLoop).pendingTasks();
+        }
+        return -1;
+    }
+
+    /**
+     * @return how long, in nanoseconds, the last probe task waited before being run by the event loop
+     */
+    public long getTaskLatency() {
+        return taskLatency;
+    }
+
+    void connectionOpened() {
+        connections.incrementAndGet();
+    }
+
+    void connectionClosed() {
+        connections.decrementAndGet();
+    }
+
+    int requestStarted() {
+        return activeRequests.incrementAndGet();
+    }
+
+    void requestDone() {
+        activeRequests.decrementAndGet();
+    }
+
+    /**
+     * Submits a task to the event loop, to measure how long it waits before running.
+     */
+    void probeTaskLatency() {
+        long start = System.nanoTime();
+        eventLoop.execute(new Runnable() {
+            @Override
+            public void run() {
+                taskLatency = System.nanoTime() - start;
+            }
+        });
+    }
+
+    private static final class Registry {
+
+        private final Vertx vertx;
+        private final Map<String, EventLoopLoad> loads = new ConcurrentHashMap<>();
+        private long probe = -1;
+
+        private Registry(Vertx vertx) {
+            this.vertx = vertx;
+        }
+
+        synchronized void startProbe() {
+            if (probe == -1) {
+                // a single timer for all the event loops, the probe tasks are then submitted to each of them
+                probe = vertx.setPeriodic(TASK_LATENCY_PROBE_INTERVAL, new Handler<Long>() {
+                    @Override
+                    public void handle(Long timerId) {
+                        for (EventLoopLoad load : loads.values()) {
+                            load.probeTaskLatency();
+                        }
+                    }
+                });
+            }
+        }
+
+        synchronized void cancelProbe() {
+            if (probe != -1) {
+                vertx.cancelTimer(probe);
+                probe = -1;
+            }
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package io.quarkus.vertx.http.runtime;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import io.quarkus.vertx.http.runtime.filters.QuarkusRequestWrapper;
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpVersion;
+
+/**
+ * Counts the in-flight requests of each event loop and, if connections are balanced, closes the connections of the
+ * event loops that handle many more requests than the others.
+ */
+class EventLoopLoadHandler implements Handler<HttpServerRequest> {
+
+    /**
+     * Event loops handling fewer requests are never considered too busy, as closing connections costs more than
+     * what a small imbalance does
+     */
+    static final int MIN_ACTIVE_REQUESTS = 16;
+
+    private final Handler<HttpServerRequest> next;
+    private final boolean balanceConnections;
+    private final double threshold;
+
+    EventLoopLoadHandler(Handler<HttpServerRequest> next, boolean balanceConnections, double threshold) {
+        this.next = next;
+        this.balanceConnections = balanceConnections;
+        this.threshold = threshold;
+    }
+
+    @Override
+    public void handle(HttpServerRequest request) {
+        EventLoopLoad load = EventLoopLoad.current();
+        if (load == null) {
+            // not received by one of the HTTP server event loops, e.g. a virtual request
+            next.handle(request);
+            return;
+        }
+        int active = load.requestStarted();
+        QuarkusRequestWrapper wrapper = (QuarkusRequestWrapper) request;
+        wrapper.addRequestDoneHandler(new Handler<Void>() {
+            @Override
+            public void handle(Void event) {
+                load.requestDone();
+            }
+        });
+        if (balanceConnections && request.version() != HttpVersion.HTTP_2 && isOverloaded(active)) {
+            request.response().headers().set(HttpHeaderNames.CONNECTION, HttpHeaderValues.CLOSE);
+            wrapper.addRequestDoneHandler(new Handler<Void>() {
+                @Override
+                public void handle(Void event) {
+                    request.connection().close();
+                }
+            });
+        }
+        next.handle(request);
+    }
+
+    boolean isOverloaded(int active) {
+        return active >= MIN_ACTIVE_REQUESTS && active > threshold * EventLoopLoad.averageActiveRequests();
+    }
+}
@@ -21,6 +21,11 @@ public class HttpBuildTimeConfig {
 
     public AuthConfig auth;
 
+    /**
+     * Static resources configuration.
+     */
+    public StaticResourcesConfig staticResources;
+
     /**
      * Configures the engine to require/request client authentication.
      * NONE, REQUEST, REQUIRED
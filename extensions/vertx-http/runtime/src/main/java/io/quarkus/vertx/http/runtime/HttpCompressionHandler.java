@@ -0,0 +1,82 @@
+package io.quarkus.vertx.http.runtime;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Decides, once the response headers are known, whether the response should be compressed.
+ * <p>
+ * Vert.x compresses every response that does not have a {@code Content-Encoding} header, so the responses that are too
+ * small, or whose media type is not worth compressing, are marked with {@code Content-Encoding: identity}.
+ */
+class HttpCompressionHandler implements Handler<RoutingContext> {
+
+    private final long minSize;
+    private final Set<String> mediaTypes;
+
+    /**
+     * @param minSize the minimum size of the responses to compress
+     * @param mediaTypes the media types of the responses to compress, or {@code null} for all of them
+     */
+    HttpCompressionHandler(long minSize, List<String> mediaTypes) {
+        this.minSize = minSize;
+        if (mediaTypes == null) {
+            this.mediaTypes = null;
+        } else {
+            this.mediaTypes = new HashSet<>();
+            for (String mediaType : mediaTypes) {
+                this.mediaTypes.add(mediaType.trim().toLowerCase(Locale.ROOT));
+            }
+        }
+    }
+
+    @Override
+    public void handle(RoutingContext context) {
+        MultiMap headers = context.response().headers();
+        context.addHeadersEndHandler(new Handler<Void>() {
+            @Override
+            public void handle(Void event) {
+                if (!headers.contains(HttpHeaders.CONTENT_ENCODING) && !shouldCompress(headers)) {
+                    headers.set(HttpHeaders.CONTENT_ENCODING, HttpHeaders.IDENTITY);
+                }
+            }
+        });
+        context.next();
+    }
+
+    boolean shouldCompress(MultiMap headers) {
+        if (minSize > 0) {
+            String contentLength = headers.get(HttpHeaders.CONTENT_LENGTH);
+            if (contentLength != null) {
+                try {
+                    if (Long.parseLong(contentLength) < minSize) {
+                        return false;
+                    }
+                } catch (NumberFormatException e) {
+                    // let Vert.x deal with it
+                }
+            }
+        }
+        if (mediaTypes != null) {
+            String contentType = headers.get(HttpHeaders.CONTENT_TYPE);
+            if (contentType == null) {
+                return false;
+            }
+            int paramsStart = contentType.indexOf(';');
+            String mediaType = (paramsStart < 0 ? contentType : contentType.substring(0, paramsStart)).trim()
+                    .toLowerCase(Locale.ROOT);
+            if (!mediaTypes.contains(mediaType)) {
+                int slash = mediaType.indexOf('/');
+                return slash > 0 && mediaTypes.contains(mediaType.substring(0, slash + 1) + "*");
+            }
+        }
+        return true;
+    }
+}
@@ -1,6 +1,7 @@
 package io.quarkus.vertx.http.runtime;
 
 import java.time.Duration;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.OptionalInt;
@@ -9,6 +10,7 @@ import io.quarkus.runtime.LaunchMode;
 import io.quarkus.runtime.annotations.ConfigItem;
 import io.quarkus.runtime.annotations.ConfigPhase;
 import io.quarkus.runtime.annotations.ConfigRoot;
+import io.quarkus.runtime.configuration.MemorySize;
 import io.quarkus.vertx.http.runtime.cors.CORSConfig;
 
 @ConfigRoot(phase = ConfigPhase.RUN_TIME)
@@ -187,6 +189,23 @@ public class HttpConfiguration {
     @ConfigItem
     public int acceptBacklog;
 
+    /**
+     * If enabled, the HTTP/1.x connections of an event loop that is handling many more requests than the other event
+     * loops are closed once their current response has been sent. The clients then reconnect, and their new connections
+     * are likely to be accepted by a less busy event loop.
+     * <p>
+     * This prevents long-lived keep-alive connections from piling up on a few event loops.
+     */
+    @ConfigItem
+    public boolean balanceConnections;
+
+    /**
+     * How many times the average number of in-flight requests per event loop an event loop has to be handling before
+     * its connections are closed, see {@code balance-connections}.
+     */
+    @ConfigItem(defaultValue = "2")
+    public double balanceConnectionsThreshold;
+
     /**
      * Path to a unix domain socket
      */
@@ -228,6 +247,35 @@ public class HttpConfiguration {
     @ConfigItem
     public boolean enableCompression;
 
+    /**
+     * The compression level used if compression is enabled, between 1 (fastest) and 9 (best compression).
+     *
+     * Lower levels use less CPU per response, at the expense of a larger response.
+     * If this is not set the Vert.x default is used.
+     */
+    @ConfigItem
+    public OptionalInt compressionLevel;
+
+    /**
+     * The minimum size of the responses that should be compressed, if compression is enabled.
+     *
+     * Smaller responses are not compressed, as the compression costs more than it saves for them.
+     * This only applies to responses whose size is known when the headers are written, i.e. which have a
+     * {@code Content-Length} header; responses sent in chunks are always compressed.
+     */
+    @ConfigItem
+    public Optional<MemorySize> compressionMinSize;
+
+    /**
+     * The media types of the responses that should be compressed, if compression is enabled, e.g.
+     * {@code text/html,application/json} or {@code text/*}.
+     *
+     * If this is set, the responses with another media type, or without a {@code Content-Type}, are not compressed.
+     * Otherwise all the responses are compressed.
+     */
+    @ConfigItem
+    public Optional<List<String>> compressionMediaTypes;
+
     /**
      * When enabled, vert.x will decompress the request's body if it's compressed.
      *
@@ -0,0 +1,216 @@
+package io.quarkus.vertx.http.runtime;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.vertx.core.Handler;
+import io.vertx.core.MultiMap;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.http.impl.MimeMapping;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Serves the compressed variants of the static resources that were created, or found, when the application was built.
+ * <p>
+ * A variant is only served if the client accepts its content encoding, otherwise the request is left to the regular
+ * static resources handler. The content of a variant is read from the class path the first time it is requested,
+ * and kept in memory afterwards.
+ */
+class PrecompressedStaticResources {
+
+    private static final String BROTLI_SUFFIX = ".br";
+    private static final String GZIP_SUFFIX = ".gz";
+
+    private static final String BROTLI = "br";
+    private static final String GZIP = "gzip";
+    private static final String INDEX_PAGE = "index.html";
+
+    /**
+     * The variants of each resource, the preferred encoding first
+     */
+    private final Map<String, Variant[]> variants;
+    private final ClassLoader classLoader;
+
+    /**
+     * @param compressedResources the paths of the compressed variants, relative to {@code META-INF/resources}, mapped to
+     *        their {@code ETag}
+     */
+    PrecompressedStaticResources(Map<String, String> compressedResources, ClassLoader classLoader) {
+        this.classLoader = classLoader;
+        Map<String, List<Variant>> variants = new HashMap<>();
+        for (Map.Entry<String, String> entry : compressedResources.entrySet()) {
+            String variantPath = entry.getKey();
+            String encoding;
+            if (variantPath.endsWith(BROTLI_SUFFIX)) {
+                encoding = BROTLI;
+            } else if (variantPath.endsWith(GZIP_SUFFIX)) {
+                encoding = GZIP;
+            } else {
+                continue;
+            }
+            String path = variantPath.substring(0, variantPath.length() - 3);
+            List<Variant> pathVariants = variants.computeIfAbsent(path, p -> new ArrayList<>(2));
+            Variant variant = new Variant(StaticResourcesRecorder.META_INF_RESOURCES + variantPath, encoding,
+                    entry.getValue(), contentType(path));
+            if (encoding == BROTLI) {
+                // brotli compresses better than gzip
+                pathVariants.add(0, variant);
+            } else {
+                pathVariants.add(variant);
+            }
+        }
+        this.variants = new HashMap<>();
+        for (Map.Entry<String, List<Variant>> entry : variants.entrySet()) {
+            this.variants.put(entry.getKey(), entry.getValue().toArray(new Variant[0]));
+        }
+    }
+
+    /**
+     * Serves the compressed variant of the given resource, if there is one the client accepts.
+     *
+     * @param path the path of the resource, relative to {@code META-INF/resources}
+     * @param fallback the handler used if the variant could not be read
+     * @return {@code true} if the request was handled
+     */
+    boolean handle(RoutingContext ctx, String path, Handler<RoutingContext> fallback) {
+        HttpServerRequest request = ctx.request();
+        if (request.method() != HttpMethod.GET && request.method() != HttpMethod.HEAD) {
+            return false;
+        }
+        Variant[] candidates = variants.get(path.endsWith("/") ? path + INDEX_PAGE : path);
+        if (candidates == null) {
+            return false;
+        }
+        HttpServerResponse response = ctx.response();
+        response.headers().add(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        String acceptEncoding = request.getHeader(HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding == null) {
+            return false;
+        }
+        Variant variant = null;
+        for (Variant candidate : candidates) {
+            if (isAccepted(acceptEncoding, candidate.encoding)) {
+                variant = candidate;
+                break;
+            }
+        }
+        if (variant == null) {
+            return false;
+        }
+        String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null && (ifNoneMatch.equals("*") || ifNoneMatch.contains(variant.etag))) {
+            response.headers().set(HttpHeaders.ETAG, variant.etag);
+            response.setStatusCode(304).end();
+            return true;
+        }
+        Buffer data = variant.data;
+        if (data != null) {
+            send(ctx, variant, data);
+        } else {
+            Variant toLoad = variant;
+            ctx.vertx().<Buffer> executeBlocking(promise -> {
+                try {
+                    promise.complete(toLoad.load(classLoader));
+                } catch (IOException e) {
+                    promise.fail(e);
+                }
+            }, false, result -> {
+                if (result.failed()) {
+                    ctx.fail(result.cause());
+                } else if (result.result() == null) {
+                    // the variant is gone, serve the resource itself
+                    fallback.handle(ctx);
+                } else {
+                    send(ctx, toLoad, result.result());
+                }
+            });
+        }
+        return true;
+    }
+
+    private static void send(RoutingContext ctx, Variant variant, Buffer data) {
+        HttpServerResponse response = ctx.response();
+        MultiMap headers = response.headers();
+        headers.set(HttpHeaders.ETAG, variant.etag);
+        // this also prevents the response from being compressed again
+        headers.set(HttpHeaders.CONTENT_ENCODING, variant.encoding);
+        if (variant.contentType != null) {
+            headers.set(HttpHeaders.CONTENT_TYPE, variant.contentType);
+        }
+        if (ctx.request().method() == HttpMethod.HEAD) {
+            headers.set(HttpHeaders.CONTENT_LENGTH, Integer.toString(data.length()));
+            response.end();
+        } else {
+            response.end(data);
+        }
+    }
+
+    static boolean isAccepted(String acceptEncoding, String encoding) {
+        for (String coding : acceptEncoding.split(",")) {
+            int paramsStart = coding.indexOf(';');
+            String name = (paramsStart < 0 ? coding : coding.substring(0, paramsStart)).trim();
+            if (name.equalsIgnoreCase(encoding)) {
+                return paramsStart < 0 || !isZeroQuality(coding.substring(paramsStart + 1));
+            }
+        }
+        return false;
+    }
+
+    private static boolean isZeroQuality(String params) {
+        for (String param : params.split(";")) {
+            param = param.trim();
+            if (param.startsWith("q=")) {
+                try {
+                    return Double.parseDouble(param.substring(2)) <= 0;
+                } catch (NumberFormatException e) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static String contentType(String path) {
+        // same as the StaticHandler
+        String contentType = MimeMapping.getMimeTypeForFilename(path);
+        if (contentType != null && contentType.startsWith("text")) {
+            return contentType + ";charset=UTF-8";
+        }
+        return contentType;
+    }
+
+    private static final class Variant {
+
+        final String resource;
+        final String encoding;
+        final String etag;
+        final String contentType;
+        volatile Buffer data;
+
+        Variant(String resource, String encoding, String etag, String contentType) {
+            this.resource = resource;
+            this.encoding = encoding;
+            this.etag = etag;
+            this.contentType = contentType;
+        }
+
+        Buffer load(ClassLoader classLoader) throws IOException {
+            try (InputStream in = classLoader.getResourceAsStream(resource)) {
+                if (in == null) {
+                    return null;
+                }
+                Buffer data = Buffer.buffer(in.readAllBytes());
+                this.data = data;
+                return data;
+            }
+        }
+    }
+}
@@ -2,6 +2,7 @@ package io.quarkus.vertx.http.runtime;
 
 import java.util.Optional;
 import java.util.OptionalInt;
+import java.util.OptionalLong;
 
 import io.quarkus.runtime.annotations.ConfigGroup;
 import io.quarkus.runtime.annotations.ConfigItem;
@@ -46,4 +47,32 @@ public class ServerLimitsConfig {
     @ConfigItem
     public OptionalInt maxConnections;
 
+    /**
+     * The maximum size, in bytes, of the table used by HTTP/2 to compress the headers the server receives
+     * ({@code SETTINGS_HEADER_TABLE_SIZE}).
+     */
+    @ConfigItem
+    public OptionalLong headerTableSize;
+
+    /**
+     * The maximum number of HTTP/2 streams a client may have open on a connection at the same time
+     * ({@code SETTINGS_MAX_CONCURRENT_STREAMS}).
+     */
+    @ConfigItem
+    public OptionalLong maxConcurrentStreams;
+
+    /**
+     * The HTTP/2 flow control window, in bytes, of each stream, that is how much data a client may send on a stream
+     * before it has to wait for the server to consume it ({@code SETTINGS_INITIAL_WINDOW_SIZE}).
+     */
+    @ConfigItem
+    public OptionalInt initialWindowSize;
+
+    /**
+     * The HTTP/2 flow control window, in bytes, of a whole connection. On links with a high latency, a window that
+     * is too small for the bandwidth-delay product limits the throughput of the connection.
+     */
+    @ConfigItem
+    public OptionalInt connectionWindowSize;
+
 }
@@ -0,0 +1,34 @@
+package io.quarkus.vertx.http.runtime;
+
+import java.util.List;
+
+import io.quarkus.runtime.annotations.ConfigGroup;
+import io.quarkus.runtime.annotations.ConfigItem;
+
+/**
+ * Static resources related settings
+ */
+@ConfigGroup
+public class StaticResourcesConfig {
+
+    /**
+     * Whether the static resources found in {@code META-INF/resources} should be compressed when the application is
+     * built.
+     * <p>
+     * If {@code true}, a gzip variant of each resource with one of the {@code precompress-extensions} is added to the
+     * application, and served instead of the resource to the clients that accept the gzip content encoding.
+     * Brotli variants are not generated, but a {@code .br} file found next to a static resource is served the same way
+     * to the clients that accept the brotli content encoding. The variants are served with a strong {@code ETag}, and
+     * are not compressed again if {@code quarkus.http.enable-compression} is enabled.
+     * <p>
+     * This has no effect in dev mode.
+     */
+    @ConfigItem(defaultValue = "false")
+    public boolean precompress;
+
+    /**
+     * The extensions of the static resources that should be compressed when the application is built.
+     */
+    @ConfigItem(defaultValue = "html,htm,js,mjs,css,map,json,svg,txt,xml")
+    public List<String> precompressExtensions;
+}
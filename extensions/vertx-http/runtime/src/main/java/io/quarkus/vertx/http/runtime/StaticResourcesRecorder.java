@@ -3,6 +3,7 @@ package io.quarkus.vertx.http.runtime;
 import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
 
@@ -24,6 +25,14 @@ public class StaticResourcesRecorder {
     }
 
     public Consumer<Route> start(Set<String> knownPaths) {
+        return start(knownPaths, Map.of());
+    }
+
+    /**
+     * @param compressedResources the compressed variants of the static resources, see
+     *        {@link PrecompressedStaticResources#PrecompressedStaticResources(Map, ClassLoader)}
+     */
+    public Consumer<Route> start(Set<String> knownPaths, Map<String, String> compressedResources) {
 
         List<Handler<RoutingContext>> handlers = new ArrayList<>();
 
@@ -52,6 +61,8 @@ public class StaticResourcesRecorder {
         if (!knownPaths.isEmpty()) {
             ClassLoader currentCl = Thread.currentThread().getContextClassLoader();
             StaticHandler staticHandler = StaticHandler.create(META_INF_RESOURCES).setDefaultContentEncoding("UTF-8");
+            PrecompressedStaticResources precompressed = compressedResources.isEmpty() ? null
+                    : new PrecompressedStaticResources(compressedResources, currentCl);
             handlers.add(new Handler<>() {
                 @Override
                 public void handle(RoutingContext ctx) {
@@ -60,7 +71,9 @@ public class StaticResourcesRecorder {
                                     // let's be extra careful here in case Vert.x normalizes the mount points at some point
                                     ctx.mountPoint().endsWith("/") ? ctx.mountPoint().length() - 1 : ctx.mountPoint().length());
                     if (knownPaths.contains(rel)) {
-                        staticHandler.handle(ctx);
+                        if (precompressed == null || !precompressed.handle(ctx, rel, staticHandler)) {
+                            staticHandler.handle(ctx);
+                        }
                     } else {
                         // make sure we don't lose the correct TCCL to Vert.x...
                         Thread.currentThread().setContextClassLoader(currentCl);
@@ -85,6 +85,7 @@ import io.vertx.core.Vertx;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.Cookie;
 import io.vertx.core.http.CookieSameSite;
+import io.vertx.core.http.Http2Settings;
 import io.vertx.core.http.HttpConnection;
 import io.vertx.core.http.HttpHeaders;
 import io.vertx.core.http.HttpMethod;
@@ -130,6 +131,12 @@ public class VertxHttpRecorder {
 
     static volatile Handler<HttpServerRequest> rootHandler;
 
+    /**
+     * Whether the load of the event loops the HTTP server runs on is tracked, see {@link EventLoopLoad}
+     */
+    private static volatile boolean trackEventLoopLoad;
+    private static volatile GracefulShutdownFilter shutdownFilter;
+
     private static volatile Handler<RoutingContext> nonApplicationRedirectHandler;
 
     private static volatile int actualHttpPort = -1;
@@ -279,6 +286,15 @@ public class VertxHttpRecorder {
                     });
                 }
             }
+            if (trackEventLoopLoad) {
+                EventLoopLoad.start(vertx.get());
+                shutdown.addShutdownTask(new Runnable() {
+                    @Override
+                    public void run() {
+                        EventLoopLoad.stop();
+                    }
+                });
+            }
         }
     }
 
@@ -294,7 +310,7 @@ public class VertxHttpRecorder {
             String rootPath, LaunchMode launchMode, boolean requireBodyHandler,
             Handler<RoutingContext> bodyHandler,
             GracefulShutdownFilter gracefulShutdownFilter, ShutdownConfig shutdownConfig,
-            Executor executor) {
+            Executor executor, boolean eventLoopMetrics) {
         HttpConfiguration httpConfiguration = this.httpConfiguration.getValue();
         // install the default route at the end
         Router httpRouteRouter = httpRouterRuntimeValue.getValue();
@@ -368,6 +384,14 @@ public class VertxHttpRecorder {
                 }
             });
         }
+        if (httpConfiguration.enableCompression
+                && (httpConfiguration.compressionMinSize.isPresent() || httpConfiguration.compressionMediaTypes.isPresent())) {
+            httpRouteRouter.route().order(Integer.MIN_VALUE).handler(new HttpCompressionHandler(
+                    httpConfiguration.compressionMinSize.isPresent()
+                            ? httpConfiguration.compressionMinSize.get().asLongValue()
+                            : 0,
+                    httpConfiguration.compressionMediaTypes.orElse(null)));
+        }
         // Headers sent on any request, regardless of the response
         Map<String, HeaderConfig> headers = httpConfiguration.header;
         if (!headers.isEmpty()) {
@@ -448,6 +472,16 @@ public class VertxHttpRecorder {
         if (shutdownConfig.isShutdownTimeoutSet()) {
             gracefulShutdownFilter.next(root);
             root = gracefulShutdownFilter;
+            shutdownFilter = gracefulShutdownFilter;
+            quarkusWrapperNeeded = true;
+        } else {
+            shutdownFilter = null;
+        }
+
+        trackEventLoopLoad = httpConfiguration.balanceConnections || eventLoopMetrics;
+        if (trackEventLoopLoad) {
+            root = new EventLoopLoadHandler(root, httpConfiguration.balanceConnections,
+                    httpConfiguration.balanceConnectionsThreshold);
             quarkusWrapperNeeded = true;
         }
 
@@ -456,8 +490,8 @@ public class VertxHttpRecorder {
             AccessLogReceiver receiver;
             if (accessLog.logToFile) {
                 File outputDir = accessLog.logDirectory.isPresent() ? new File(accessLog.logDirectory.get()) : new File("");
-                receiver = new DefaultAccessLogReceiver(executor, outputDir, accessLog.baseFileName, accessLog.logSuffix,
-                        accessLog.rotate);
+                receiver = new DefaultAccessLogReceiver(executor, outputDir.toPath(), accessLog.baseFileName,
+                        accessLog.logSuffix, accessLog.rotate, accessLog.queueSize.orElse(0));
             } else {
                 receiver = new JBossLoggingAccessLogReceiver(accessLog.category);
             }
@@ -600,6 +634,7 @@ public class VertxHttpRecorder {
                             }
                         }
                         closeTask = null;
+                        EventLoopLoad.clear(vertx);
                         if (remoteSyncHandler != null) {
                             remoteSyncHandler.close();
                             remoteSyncHandler = null;
@@ -741,6 +776,7 @@ public class VertxHttpRecorder {
         serverOptions.setTcpCork(httpConfiguration.tcpCork);
         serverOptions.setTcpFastOpen(httpConfiguration.tcpFastOpen);
         serverOptions.setMaxInitialLineLength(httpConfiguration.limits.maxInitialLineLength);
+        setHttp2Settings(httpConfiguration, serverOptions);
 
         return serverOptions;
     }
@@ -849,8 +885,12 @@ public class VertxHttpRecorder {
         options.setAcceptBacklog(httpConfiguration.acceptBacklog);
         options.setTcpFastOpen(httpConfiguration.tcpFastOpen);
         options.setCompressionSupported(httpConfiguration.enableCompression);
+        if (httpConfiguration.compressionLevel.isPresent()) {
+            options.setCompressionLevel(httpConfiguration.compressionLevel.getAsInt());
+        }
         options.setDecompressionSupported(httpConfiguration.enableDecompression);
         options.setMaxInitialLineLength(httpConfiguration.limits.maxInitialLineLength);
+        setHttp2Settings(httpConfiguration, options);
         return options;
     }
 
@@ -866,9 +906,27 @@ public class VertxHttpRecorder {
         options.setMaxChunkSize(httpConfiguration.limits.maxChunkSize.asBigInteger().intValueExact());
         options.setMaxFormAttributeSize(httpConfiguration.limits.maxFormAttributeSize.asBigInteger().intValueExact());
         options.setWebSocketSubProtocols(websocketSubProtocols);
+        setHttp2Settings(httpConfiguration, options);
         return options;
     }
 
+    private static void setHttp2Settings(HttpConfiguration httpConfiguration, HttpServerOptions options) {
+        ServerLimitsConfig limits = httpConfiguration.limits;
+        Http2Settings settings = options.getInitialSettings();
+        if (limits.headerTableSize.isPresent()) {
+            settings.setHeaderTableSize(limits.headerTableSize.getAsLong());
+        }
+        if (limits.maxConcurrentStreams.isPresent()) {
+            settings.setMaxConcurrentStreams(limits.maxConcurrentStreams.getAsLong());
+        }
+        if (limits.initialWindowSize.isPresent()) {
+            settings.setInitialWindowSize(limits.initialWindowSize.getAsInt());
+        }
+        if (limits.connectionWindowSize.isPresent()) {
+            options.setHttp2ConnectionWindowSize(limits.connectionWindowSize.getAsInt());
+        }
+    }
+
     private static void setIdleTimeout(HttpConfiguration httpConfiguration, HttpServerOptions options) {
         int idleTimeout = (int) httpConfiguration.idleTimeout.toMillis();
         options.setIdleTimeout(idleTimeout);
@@ -942,6 +1000,7 @@ public class VertxHttpRecorder {
         private final HttpConfiguration.InsecureRequests insecureRequests;
         private final HttpConfiguration quarkusConfig;
         private final AtomicInteger connectionCount;
+        private EventLoopLoad eventLoopLoad;
 
         public WebDeploymentVerticle(HttpServerOptions httpOptions, HttpServerOptions httpsOptions,
                 HttpServerOptions domainSocketOptions, LaunchMode launchMode,
@@ -957,6 +1016,9 @@ public class VertxHttpRecorder {
 
         @Override
         public void start(Promise<Void> startFuture) {
+            if (trackEventLoopLoad) {
+                eventLoopLoad = EventLoopLoad.register(vertx, ((ContextInternal) context).nettyEventLoop());
+            }
             final AtomicInteger remainingCount = new AtomicInteger(0);
             boolean httpServerEnabled = httpOptions != null && insecureRequests != HttpConfiguration.InsecureRequests.DISABLED;
             if (httpServerEnabled) {
@@ -1036,27 +1098,45 @@ public class VertxHttpRecorder {
 
         private void setupTcpHttpServer(HttpServer httpServer, HttpServerOptions options, boolean https,
                 Promise<Void> startFuture, AtomicInteger remainingCount, AtomicInteger currentConnectionCount) {
-            if (quarkusConfig.limits.maxConnections.isPresent() && quarkusConfig.limits.maxConnections.getAsInt() > 0) {
-                final int maxConnections = quarkusConfig.limits.maxConnections.getAsInt();
+            final int maxConnections = quarkusConfig.limits.maxConnections.orElse(0);
+            final EventLoopLoad load = eventLoopLoad;
+            final GracefulShutdownFilter shutdown = shutdownFilter;
+            if (maxConnections > 0 || load != null || shutdown != null) {
                 httpServer.connectionHandler(new Handler<HttpConnection>() {
 
                     @Override
-                    public void handle(HttpConnection event) {
-                        int current;
-                        do {
-                            current = currentConnectionCount.get();
-                            if (current == maxConnections) {
-                                //just close the connection
-                                LOGGER.debug("Rejecting connection as there are too many active connections");
-                                event.close();
-                                return;
-                            }
-                        } while (!currentConnectionCount.compareAndSet(current, current + 1));
-                        event.closeHandler(new Handler<Void>() {
+                    public void handle(HttpConnection connection) {
+                        if (maxConnections > 0) {
+                            int current;
+                            do {
+                                current = currentConnectionCount.get();
+                                if (current == maxConnections) {
+                                    //just close the connection
+                                    LOGGER.debug("Rejecting connection as there are too many active connections");
+                                    connection.close();
+                                    return;
+                                }
+                            } while (!currentConnectionCount.compareAndSet(current, current + 1));
+                        }
+                        if (load != null) {
+                            load.connectionOpened();
+                        }
+                        if (shutdown != null) {
+                            shutdown.connectionOpened(connection);
+                        }
+                        connection.closeHandler(new Handler<Void>() {
                             @Override
                             public void handle(Void event) {
                                 LOGGER.debug("Connection closed");
-                                connectionCount.decrementAndGet();
+                                if (maxConnections > 0) {
+                                    connectionCount.decrementAndGet();
+                                }
+                                if (load != null) {
+                                    load.connectionClosed();
+                                }
+                                if (shutdown != null) {
+                                    shutdown.connectionClosed(connection);
+                                }
                             }
                         });
                     }
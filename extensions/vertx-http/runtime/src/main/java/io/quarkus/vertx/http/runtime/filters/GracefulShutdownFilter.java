@@ -1,43 +1,57 @@
 package io.quarkus.vertx.http.runtime.filters;
 
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiFunction;
 
 import org.jboss.logging.Logger;
 
 import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.quarkus.runtime.shutdown.ShutdownListener;
+import io.vertx.core.Context;
 import io.vertx.core.Handler;
+import io.vertx.core.Vertx;
+import io.vertx.core.http.HttpConnection;
 import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.http.HttpVersion;
 
+/**
+ * Drains the HTTP requests on shutdown: new requests are rejected, and the connections are closed as soon as their
+ * in-flight requests complete, so that clients reconnect to another instance.
+ * <p>
+ * The in-flight requests are tracked per path and per connection, the connections being registered by the HTTP server.
+ */
 public class GracefulShutdownFilter implements ShutdownListener, Handler<HttpServerRequest> {
 
     private static Logger log = Logger.getLogger(GracefulShutdownFilter.class);
 
+    private static final BiFunction<String, Integer, Integer> INCREMENT = new BiFunction<String, Integer, Integer>() {
+        @Override
+        public Integer apply(String path, Integer count) {
+            return count == null ? 1 : count + 1;
+        }
+    };
+    private static final BiFunction<String, Integer, Integer> DECREMENT = new BiFunction<String, Integer, Integer>() {
+        @Override
+        public Integer apply(String path, Integer count) {
+            return count == 1 ? null : count - 1;
+        }
+    };
+
     private volatile Handler<HttpServerRequest> next;
     private volatile boolean running = true;
+    private volatile long drainStart;
     private final AtomicInteger currentRequestCount = new AtomicInteger();
+    private final Map<String, Integer> currentRequestCountByPath = new ConcurrentHashMap<>();
+    private final Map<HttpConnection, ConnectionState> connections = new ConcurrentHashMap<>();
     private final AtomicReference<ShutdownNotification> notification = new AtomicReference<>();
 
-    private final Handler<Void> requestDoneHandler = new Handler<Void>() {
-        @Override
-        public void handle(Void event) {
-            int count = currentRequestCount.decrementAndGet();
-            if (!running) {
-                if (count == 0) {
-                    ShutdownNotification n = notification.get();
-                    if (n != null) {
-                        if (notification.compareAndSet(n, null)) {
-                            n.done();
-                            log.info("All HTTP requests complete");
-                        }
-                    }
-                }
-            }
-        }
-    };
-
     @Override
     public void handle(HttpServerRequest event) {
         if (!running) {
@@ -46,21 +60,67 @@ public class GracefulShutdownFilter implements ShutdownListener, Handler<HttpSer
             return;
         }
         currentRequestCount.incrementAndGet();
+        String path = event.path() == null ? "" : event.path();
+        currentRequestCountByPath.compute(path, INCREMENT);
+        ConnectionState connection = connections.get(event.connection());
+        if (connection != null) {
+            connection.requestStarted(event);
+        }
         //todo: some way to do this without a wrapper solution
-        ((QuarkusRequestWrapper) event).addRequestDoneHandler(requestDoneHandler);
+        ((QuarkusRequestWrapper) event).addRequestDoneHandler(new Handler<Void>() {
+            @Override
+            public void handle(Void e) {
+                requestDone(path, connection);
+            }
+        });
         next.handle(event);
     }
 
+    private void requestDone(String path, ConnectionState connection) {
+        currentRequestCountByPath.computeIfPresent(path, DECREMENT);
+        if (connection != null) {
+            connection.requestDone(running);
+        }
+        int count = currentRequestCount.decrementAndGet();
+        if (!running) {
+            if (count == 0) {
+                ShutdownNotification n = notification.get();
+                if (n != null) {
+                    if (notification.compareAndSet(n, null)) {
+                        n.done();
+                        log.infof("All HTTP requests complete, drained in %d ms",
+                                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - drainStart));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Registers a connection of the HTTP server, this must be called from the event loop of the connection.
+     */
+    public void connectionOpened(HttpConnection connection) {
+        connections.put(connection, new ConnectionState(connection, Vertx.currentContext()));
+    }
+
+    public void connectionClosed(HttpConnection connection) {
+        connections.remove(connection);
+    }
+
     @Override
     public void shutdown(ShutdownNotification notification) {
         this.notification.set(notification);
+        drainStart = System.nanoTime();
         running = false;
+        for (ConnectionState connection : connections.values()) {
+            connection.drain();
+        }
         if (currentRequestCount.get() == 0) {
             if (this.notification.compareAndSet(notification, null)) {
                 notification.done();
             }
         } else {
-            log.info("Waiting for HTTP requests to complete");
+            log.infof("Waiting for HTTP requests to complete, in-flight requests per path: %s", currentRequestCountByPath);
         }
     }
 
@@ -68,4 +128,55 @@ public class GracefulShutdownFilter implements ShutdownListener, Handler<HttpSer
         this.next = next;
     }
 
+    private static final class ConnectionState {
+
+        private final HttpConnection connection;
+        private final Context context;
+        private final AtomicInteger currentRequestCount = new AtomicInteger();
+        /**
+         * The last request received, HTTP/1.x connections only handle one request at a time
+         */
+        private volatile HttpServerRequest request;
+
+        private ConnectionState(HttpConnection connection, Context context) {
+            this.connection = connection;
+            this.context = context;
+        }
+
+        void requestStarted(HttpServerRequest request) {
+            currentRequestCount.incrementAndGet();
+            this.request = request;
+        }
+
+        void requestDone(boolean running) {
+            if (currentRequestCount.decrementAndGet() == 0 && !running) {
+                connection.close();
+            }
+        }
+
+        /**
+         * Closes the connection if it is idle, otherwise makes sure no more requests are sent on it. This runs on the event
+         * loop of the connection, so that no request can start in the meantime.
+         */
+        void drain() {
+            context.runOnContext(new Handler<Void>() {
+                @Override
+                public void handle(Void event) {
+                    HttpServerRequest request = ConnectionState.this.request;
+                    if (currentRequestCount.get() == 0) {
+                        connection.close();
+                    } else if (request.version() == HttpVersion.HTTP_2) {
+                        // sends a GOAWAY frame, the in-flight streams still complete
+                        connection.shutdown();
+                    } else {
+                        // the connection is closed once the request completes, tell the client beforehand
+                        HttpServerResponse response = request.response();
+                        if (!response.headWritten()) {
+                            response.headers().set(HttpHeaderNames.CONNECTION, HttpHeaderValues.CLOSE);
+                        }
+                    }
+                }
+            });
+        }
+    }
 }
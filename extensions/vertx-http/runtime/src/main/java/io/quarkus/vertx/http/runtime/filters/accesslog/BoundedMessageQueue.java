@@ -0,0 +1,87 @@
+package io.quarkus.vertx.http.runtime.filters.accesslog;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded, lock-free queue of access log messages backed by a preallocated ring of exactly the configured capacity.
+ * <p>
+ * Unlike {@link java.util.concurrent.ConcurrentLinkedDeque}, offering a message does not allocate a node, and
+ * {@link #offer(String)} fails instead of growing the queue when the writer falls behind. Any number of threads can
+ * offer messages, only a single thread may poll them.
+ */
+final class BoundedMessageQueue {
+
+    private final int capacity;
+    private final AtomicReferenceArray<String> messages;
+    // the sequence of each slot tells whether it's ready to be written (sequence == index)
+    // or to be read (sequence == index + 1)
+    private final AtomicLongArray sequences;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+
+    BoundedMessageQueue(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("The capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+        this.messages = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * @return {@code true} if the message was queued, {@code false} if the queue is full
+     */
+    boolean offer(String message) {
+        if (message == null) {
+            throw new NullPointerException();
+        }
+        long index = tail.get();
+        for (;;) {
+            int slot = slot(index);
+            long diff = sequences.get(slot) - index;
+            if (diff == 0) {
+                if (tail.compareAndSet(index, index + 1)) {
+                    messages.lazySet(slot, message);
+                    sequences.set(slot, index + 1);
+                    return true;
+                }
+                index = tail.get();
+            } else if (diff < 0) {
+                // the slot still holds a message from the previous lap
+                return false;
+            } else {
+                index = tail.get();
+            }
+        }
+    }
+
+    /**
+     * @return the oldest message or {@code null} if there is no message ready to be read
+     */
+    String poll() {
+        long index = head.get();
+        int slot = slot(index);
+        if (sequences.get(slot) != index + 1) {
+            return null;
+        }
+        String message = messages.get(slot);
+        messages.lazySet(slot, null);
+        head.lazySet(index + 1);
+        sequences.set(slot, index + capacity);
+        return message;
+    }
+
+    boolean isEmpty() {
+        long index = head.get();
+        return sequences.get(slot(index)) != index + 1;
+    }
+
+    private int slot(long index) {
+        return (int) (index % capacity);
+    }
+}
@@ -21,7 +21,12 @@ package io.quarkus.vertx.http.runtime.filters.accesslog;
 import java.io.Closeable;
 import java.io.File;
 import java.io.IOException;
-import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -30,12 +35,13 @@ import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Date;
-import java.util.Deque;
 import java.util.List;
 import java.util.Locale;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentLinkedDeque;
 import java.util.concurrent.Executor;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.jboss.logging.Logger;
 
@@ -46,6 +52,10 @@ import org.jboss.logging.Logger;
  * Web threads do not touch the log file, but simply queue messages to be written later by a worker thread.
  * A lightweight CAS based locking mechanism is used to ensure than only 1 thread is active writing messages at
  * any given time
+ * <p/>
+ * If a queue size is set, messages are queued in a preallocated ring of that size instead of an unbounded queue,
+ * and messages that don't fit because the writer cannot keep up are dropped. The number of dropped messages is
+ * reported in the log and available from {@link #getDroppedMessages()}.
  *
  * @author Stuart Douglas
  */
@@ -55,9 +65,16 @@ public class DefaultAccessLogReceiver implements AccessLogReceiver, Runnable, Cl
 
     private static final String DEFAULT_LOG_SUFFIX = "log";
 
+    private static final int WRITE_BUFFER_SIZE = 8192;
+
     private final Executor logWriteExecutor;
 
-    private final Deque<String> pendingMessages;
+    // exactly one of the queues is used, depending on whether a queue size is set
+    private final Queue<String> pendingMessages;
+    private final BoundedMessageQueue boundedMessages;
+
+    private final LongAdder droppedMessages = new LongAdder();
+    private long reportedDroppedMessages;
 
     //0 = not running
     //1 = queued
@@ -78,7 +95,11 @@ public class DefaultAccessLogReceiver implements AccessLogReceiver, Runnable, Cl
     private final String logBaseName;
     private final String logNameSuffix;
 
-    private Writer writer = null;
+    private FileChannel channel = null;
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE)
+            .onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private final ByteBuffer writeBuffer = ByteBuffer.allocate(WRITE_BUFFER_SIZE);
 
     private volatile boolean closed = false;
     private boolean initialRun = true;
@@ -110,18 +131,24 @@ public class DefaultAccessLogReceiver implements AccessLogReceiver, Runnable, Cl
 
     public DefaultAccessLogReceiver(final Executor logWriteExecutor, final Path outputDirectory, final String logBaseName,
             final String logNameSuffix, boolean rotate) {
-        this(logWriteExecutor, outputDirectory, logBaseName, logNameSuffix, rotate, null);
+        this(logWriteExecutor, outputDirectory, logBaseName, logNameSuffix, rotate, null, 0);
+    }
+
+    public DefaultAccessLogReceiver(final Executor logWriteExecutor, final Path outputDirectory, final String logBaseName,
+            final String logNameSuffix, boolean rotate, int queueSize) {
+        this(logWriteExecutor, outputDirectory, logBaseName, logNameSuffix, rotate, null, queueSize);
     }
 
     private DefaultAccessLogReceiver(final Executor logWriteExecutor, final Path outputDirectory, final String logBaseName,
-            final String logNameSuffix, boolean rotate, LogFileHeaderGenerator fileHeader) {
+            final String logNameSuffix, boolean rotate, LogFileHeaderGenerator fileHeader, int queueSize) {
         this.logWriteExecutor = logWriteExecutor;
         this.outputDirectory = outputDirectory;
         this.logBaseName = logBaseName;
         this.rotate = rotate;
         this.fileHeaderGenerator = fileHeader;
         this.logNameSuffix = (logNameSuffix != null) ? logNameSuffix : DEFAULT_LOG_SUFFIX;
-        this.pendingMessages = new ConcurrentLinkedDeque<>();
+        this.boundedMessages = queueSize > 0 ? new BoundedMessageQueue(queueSize) : null;
+        this.pendingMessages = queueSize > 0 ? null : new ConcurrentLinkedDeque<>();
         this.defaultLogFile = outputDirectory.resolve(logBaseName + this.logNameSuffix);
         calculateChangeOverPoint();
     }
@@ -147,7 +174,9 @@ public class DefaultAccessLogReceiver implements AccessLogReceiver, Runnable, Cl
 
     @Override
     public void logMessage(final String message) {
-        this.pendingMessages.add(message);
+        if (!offerMessage(message)) {
+            droppedMessages.increment();
+        }
         int state = stateUpdater.get(this);
         if (state == 0) {
             if (stateUpdater.compareAndSet(this, 0, 1)) {
@@ -186,7 +215,7 @@ public class DefaultAccessLogReceiver implements AccessLogReceiver, Runnable, Cl
         String msg;
         //only grab at most 1000 messages at a time
         for (int i = 0; i < 1000; ++i) {
-            msg = pendingMessages.poll();
+            msg = pollMessage();
             if (msg == null) {
                 break;
             }
@@ -196,21 +225,18 @@ public class DefaultAccessLogReceiver implements AccessLogReceiver, Runnable, Cl
             if (!messages.isEmpty()) {
                 writeMessage(messages);
             }
+            reportDroppedMessages();
         } finally {
             stateUpdater.set(this, 0);
             //check to see if there is still more messages
             //if so then run this again
-            if (!pendingMessages.isEmpty() || forceLogRotation) {
+            if (hasPendingMessages() || forceLogRotation) {
                 if (stateUpdater.compareAndSet(this, 0, 1)) {
                     logWriteExecutor.execute(this);
                 }
             } else if (closed) {
                 try {
-                    if (writer != null) {
-                        writer.flush();
-                        writer.close();
-                        writer = null;
-                    }
+                    closeChannel();
                 } catch (IOException e) {
                     log.error("Error writing access log", e);
                 }
@@ -218,6 +244,34 @@ public class DefaultAccessLogReceiver implements AccessLogReceiver, Runnable, Cl
         }
     }
 
+    private boolean offerMessage(String message) {
+        return boundedMessages != null ? boundedMessages.offer(message) : pendingMessages.offer(message);
+    }
+
+    private String pollMessage() {
+        return boundedMessages != null ? boundedMessages.poll() : pendingMessages.poll();
+    }
+
+    private boolean hasPendingMessages() {
+        return boundedMessages != null ? !boundedMessages.isEmpty() : !pendingMessages.isEmpty();
+    }
+
+    /**
+     * Returns the number of messages that were dropped since this receiver was created, because the queue was full.
+     */
+    public long getDroppedMessages() {
+        return droppedMessages.sum();
+    }
+
+    private void reportDroppedMessages() {
+        long dropped = droppedMessages.sum();
+        if (dropped != reportedDroppedMessages) {
+            log.warnf("%d access log messages were dropped because the access log queue is full, "
+                    + "consider increasing quarkus.http.access-log.queue-size", dropped - reportedDroppedMessages);
+            reportedDroppedMessages = dropped;
+        }
+    }
+
     /**
      * For tests only. Blocks the current thread until all messages are written
      * Just does a busy wait.
@@ -225,7 +279,7 @@ public class DefaultAccessLogReceiver implements AccessLogReceiver, Runnable, Cl
      * DO NOT USE THIS OUTSIDE OF A TEST
      */
     void awaitWrittenForTest() throws InterruptedException {
-        while (!pendingMessages.isEmpty() || forceLogRotation) {
+        while (hasPendingMessages() || forceLogRotation) {
             Thread.sleep(10);
         }
         while (state != 0) {
@@ -238,40 +292,77 @@ public class DefaultAccessLogReceiver implements AccessLogReceiver, Runnable, Cl
             doRotate();
         }
         try {
-            if (writer == null) {
-                boolean created = !Files.exists(defaultLogFile);
-                writer = Files.newBufferedWriter(defaultLogFile, StandardCharsets.UTF_8, StandardOpenOption.APPEND,
-                        StandardOpenOption.CREATE);
-                if (Files.size(defaultLogFile) == 0 && fileHeaderGenerator != null) {
+            if (channel == null) {
+                channel = FileChannel.open(defaultLogFile, StandardOpenOption.APPEND, StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE);
+                if (channel.size() == 0 && fileHeaderGenerator != null) {
                     String header = fileHeaderGenerator.generateHeader();
                     if (header != null) {
-                        writer.write(header);
-                        writer.write("\n");
-                        writer.flush();
+                        writeLine(header);
                     }
                 }
             }
+            //the whole batch is encoded into the same buffer, which is only written when full
             for (String message : messages) {
-                writer.write(message);
-                writer.write('\n');
+                writeLine(message);
             }
-            writer.flush();
+            flushWriteBuffer();
         } catch (IOException e) {
+            writeBuffer.clear();
             log.error("Error writing access log", e);
         }
     }
 
+    private void writeLine(String line) throws IOException {
+        encode(CharBuffer.wrap(line));
+        if (!writeBuffer.hasRemaining()) {
+            flushWriteBuffer();
+        }
+        writeBuffer.put((byte) '\n');
+    }
+
+    private void encode(CharBuffer chars) throws IOException {
+        encoder.reset();
+        for (;;) {
+            CoderResult result = encoder.encode(chars, writeBuffer, true);
+            if (result.isOverflow()) {
+                flushWriteBuffer();
+            } else if (result.isUnderflow()) {
+                break;
+            } else {
+                result.throwException();
+            }
+        }
+        while (encoder.flush(writeBuffer).isOverflow()) {
+            flushWriteBuffer();
+        }
+    }
+
+    private void flushWriteBuffer() throws IOException {
+        writeBuffer.flip();
+        while (writeBuffer.hasRemaining()) {
+            channel.write(writeBuffer);
+        }
+        writeBuffer.clear();
+    }
+
+    private void closeChannel() throws IOException {
+        if (channel != null) {
+            try {
+                channel.close();
+            } finally {
+                channel = null;
+            }
+        }
+    }
+
     private void doRotate() {
         forceLogRotation = false;
         if (!rotate) {
             return;
         }
         try {
-            if (writer != null) {
-                writer.flush();
-                writer.close();
-                writer = null;
-            }
+            closeChannel();
             if (!Files.exists(defaultLogFile)) {
                 return;
             }
@@ -319,6 +410,7 @@ public class DefaultAccessLogReceiver implements AccessLogReceiver, Runnable, Cl
         private String logNameSuffix;
         private boolean rotate;
         private LogFileHeaderGenerator logFileHeaderGenerator;
+        private int queueSize;
 
         public Executor getLogWriteExecutor() {
             return logWriteExecutor;
@@ -374,9 +466,22 @@ public class DefaultAccessLogReceiver implements AccessLogReceiver, Runnable, Cl
             return this;
         }
 
+        public int getQueueSize() {
+            return queueSize;
+        }
+
+        /**
+         * Sets the maximum number of messages waiting to be written, messages are dropped once it is reached.
+         * A value of 0, the default, means that the queue is not bounded.
+         */
+        public Builder setQueueSize(int queueSize) {
+            this.queueSize = queueSize;
+            return this;
+        }
+
         public DefaultAccessLogReceiver build() {
             return new DefaultAccessLogReceiver(logWriteExecutor, outputDirectory, logBaseName, logNameSuffix, rotate,
-                    logFileHeaderGenerator);
+                    logFileHeaderGenerator, queueSize);
         }
     }
 }
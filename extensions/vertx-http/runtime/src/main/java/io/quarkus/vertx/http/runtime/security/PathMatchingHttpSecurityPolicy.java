@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -23,46 +24,55 @@ import io.vertx.ext.web.RoutingContext;
  * A security policy that allows for matching of other security policies based on paths.
  *
  * This is used for the default path/method based RBAC.
+ * <p>
+ * The policies that apply to each path and HTTP method are resolved once, when the permissions are initialized,
+ * so that a request only needs a path lookup and a method lookup to find them. If all of them are
+ * {@link PermitSecurityPolicy permit} or {@link DenySecurityPolicy deny} policies the result of the check is known
+ * in advance, and is returned without waiting for the {@link SecurityIdentity}.
  */
 @Singleton
 public class PathMatchingHttpSecurityPolicy implements HttpSecurityPolicy {
 
-    private final PathMatcher<List<HttpMatcher>> pathMatcher = new PathMatcher<>();
+    private static final Uni<CheckResult> PERMITTED = Uni.createFrom().item(CheckResult.PERMIT);
+    private static final Uni<CheckResult> DENIED = Uni.createFrom().item(CheckResult.DENY);
+
+    private final PathMatcher<PathPolicies> pathMatcher = new PathMatcher<>();
 
     public String getAuthMechanismName(RoutingContext routingContext) {
-        PathMatcher.PathMatch<List<HttpMatcher>> toCheck = pathMatcher.match(routingContext.request().path());
-        if (toCheck.getValue() == null || toCheck.getValue().isEmpty()) {
+        PathPolicies pathPolicies = pathMatcher.match(routingContext.request().path()).getValue();
+        if (pathPolicies == null) {
             return null;
         }
-        for (HttpMatcher i : toCheck.getValue()) {
-            if (i.authMechanism != null) {
-                return i.authMechanism;
-            }
-        }
-        return null;
+        return pathPolicies.authMechanism;
     }
 
     @Override
     public Uni<CheckResult> checkPermission(RoutingContext routingContext, Uni<SecurityIdentity> identity,
             AuthorizationRequestContext requestContext) {
-        List<HttpSecurityPolicy> permissionCheckers = findPermissionCheckers(routingContext.request());
-        return doPermissionCheck(routingContext, identity, 0, null, permissionCheckers, requestContext);
+        MethodPolicies methodPolicies = findMethodPolicies(routingContext.request());
+        if (methodPolicies == null) {
+            return PERMITTED;
+        }
+        if (methodPolicies.result != null) {
+            return methodPolicies.result;
+        }
+        return doPermissionCheck(routingContext, identity, 0, null, methodPolicies.checks, requestContext);
     }
 
     private Uni<CheckResult> doPermissionCheck(RoutingContext routingContext,
             Uni<SecurityIdentity> identity, int index, SecurityIdentity augmentedIdentity,
-            List<HttpSecurityPolicy> permissionCheckers, AuthorizationRequestContext requestContext) {
-        if (index == permissionCheckers.size()) {
-            return Uni.createFrom().item(new CheckResult(true, augmentedIdentity));
+            HttpSecurityPolicy[] permissionCheckers, AuthorizationRequestContext requestContext) {
+        if (index == permissionCheckers.length) {
+            return augmentedIdentity == null ? PERMITTED : Uni.createFrom().item(new CheckResult(true, augmentedIdentity));
         }
         //get the current checker
-        HttpSecurityPolicy res = permissionCheckers.get(index);
+        HttpSecurityPolicy res = permissionCheckers[index];
         return res.checkPermission(routingContext, identity, requestContext)
                 .flatMap(new Function<CheckResult, Uni<? extends CheckResult>>() {
                     @Override
                     public Uni<? extends CheckResult> apply(CheckResult checkResult) {
                         if (!checkResult.isPermitted()) {
-                            return Uni.createFrom().item(CheckResult.DENY);
+                            return DENIED;
                         } else {
                             if (checkResult.getAugmentedIdentity() != null) {
 
@@ -111,43 +121,115 @@ public class PathMatchingHttpSecurityPolicy implements HttpSecurityPolicy {
                         List<HttpMatcher> perms = new ArrayList<>();
                         tempMap.put(path, perms);
                         perms.add(m);
-                        if (path.endsWith("/*")) {
-                            String stripped = path.substring(0, path.length() - 2);
-                            pathMatcher.addPrefixPath(stripped.isEmpty() ? "/" : stripped, perms);
-                        } else if (path.endsWith("*")) {
-                            pathMatcher.addPrefixPath(path.substring(0, path.length() - 1), perms);
-                        } else {
-                            pathMatcher.addExactPath(path, perms);
-                        }
                     }
                 }
             }
         }
+        for (Map.Entry<String, List<HttpMatcher>> entry : tempMap.entrySet()) {
+            String path = entry.getKey();
+            PathPolicies pathPolicies = new PathPolicies(entry.getValue());
+            if (path.endsWith("/*")) {
+                String stripped = path.substring(0, path.length() - 2);
+                pathMatcher.addPrefixPath(stripped.isEmpty() ? "/" : stripped, pathPolicies);
+            } else if (path.endsWith("*")) {
+                pathMatcher.addPrefixPath(path.substring(0, path.length() - 1), pathPolicies);
+            } else {
+                pathMatcher.addExactPath(path, pathPolicies);
+            }
+        }
     }
 
     public List<HttpSecurityPolicy> findPermissionCheckers(HttpServerRequest request) {
-        PathMatcher.PathMatch<List<HttpMatcher>> toCheck = pathMatcher.match(request.path());
-        if (toCheck.getValue() == null || toCheck.getValue().isEmpty()) {
+        MethodPolicies methodPolicies = findMethodPolicies(request);
+        if (methodPolicies == null) {
             return Collections.emptyList();
         }
-        List<HttpSecurityPolicy> methodMatch = new ArrayList<>();
-        List<HttpSecurityPolicy> noMethod = new ArrayList<>();
-        for (HttpMatcher i : toCheck.getValue()) {
-            if (i.methods == null || i.methods.isEmpty()) {
-                noMethod.add(i.checker);
-            } else if (i.methods.contains(request.method().toString())) {
-                methodMatch.add(i.checker);
-            }
+        return methodPolicies.policies;
+    }
+
+    private MethodPolicies findMethodPolicies(HttpServerRequest request) {
+        PathPolicies pathPolicies = pathMatcher.match(request.path()).getValue();
+        if (pathPolicies == null) {
+            return null;
         }
-        if (!methodMatch.isEmpty()) {
-            return methodMatch;
-        } else if (!noMethod.isEmpty()) {
-            return noMethod;
-        } else {
-            //we deny if we did not match due to method filtering
-            return Collections.singletonList(DenySecurityPolicy.INSTANCE);
+        MethodPolicies methodPolicies = pathPolicies.methods.get(request.method().name());
+        return methodPolicies != null ? methodPolicies : pathPolicies.otherMethods;
+    }
+
+    /**
+     * The policies of a path, resolved for each HTTP method mentioned by its permissions.
+     */
+    static final class PathPolicies {
+
+        final String authMechanism;
+        final Map<String, MethodPolicies> methods = new HashMap<>();
+        final MethodPolicies otherMethods;
+
+        PathPolicies(List<HttpMatcher> matchers) {
+            String authMechanism = null;
+            Set<String> methodNames = new LinkedHashSet<>();
+            List<HttpSecurityPolicy> noMethod = new ArrayList<>();
+            for (HttpMatcher i : matchers) {
+                if (authMechanism == null) {
+                    authMechanism = i.authMechanism;
+                }
+                if (i.methods == null || i.methods.isEmpty()) {
+                    noMethod.add(i.checker);
+                } else {
+                    methodNames.addAll(i.methods);
+                }
+            }
+            this.authMechanism = authMechanism;
+            this.otherMethods = new MethodPolicies(noMethod);
+            for (String method : methodNames) {
+                List<HttpSecurityPolicy> methodMatch = new ArrayList<>();
+                for (HttpMatcher i : matchers) {
+                    if (i.methods != null && i.methods.contains(method)) {
+                        methodMatch.add(i.checker);
+                    }
+                }
+                methods.put(method, methodMatch.isEmpty() ? otherMethods : new MethodPolicies(methodMatch));
+            }
         }
+    }
 
+    /**
+     * The policies that apply to a path and HTTP method, in the order in which they are checked.
+     */
+    static final class MethodPolicies {
+
+        final List<HttpSecurityPolicy> policies;
+        /**
+         * The policies that actually need to be invoked, i.e. without the permit policies.
+         */
+        final HttpSecurityPolicy[] checks;
+        /**
+         * The result of the check if it does not depend on the identity, or {@code null}.
+         */
+        final Uni<CheckResult> result;
+
+        MethodPolicies(List<HttpSecurityPolicy> policies) {
+            if (policies.isEmpty()) {
+                //we deny if we did not match due to method filtering
+                policies = Collections.singletonList(DenySecurityPolicy.INSTANCE);
+            }
+            this.policies = Collections.unmodifiableList(policies);
+            List<HttpSecurityPolicy> checks = new ArrayList<>();
+            boolean constant = true;
+            boolean deny = false;
+            for (HttpSecurityPolicy policy : policies) {
+                if (policy.getClass() == DenySecurityPolicy.class) {
+                    deny = true;
+                } else if (policy.getClass() != PermitSecurityPolicy.class) {
+                    constant = false;
+                }
+                if (policy.getClass() != PermitSecurityPolicy.class) {
+                    checks.add(policy);
+                }
+            }
+            this.checks = checks.toArray(new HttpSecurityPolicy[0]);
+            this.result = constant ? (deny ? DENIED : PERMITTED) : null;
+        }
     }
 
     static class HttpMatcher {
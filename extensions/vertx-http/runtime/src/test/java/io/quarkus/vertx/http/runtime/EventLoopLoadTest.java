@@ -0,0 +1,122 @@
+package io.quarkus.vertx.http.runtime;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.netty.util.concurrent.DefaultEventExecutor;
+import io.netty.util.concurrent.EventExecutor;
+import io.vertx.core.Vertx;
+
+public class EventLoopLoadTest {
+
+    private final List<EventExecutor> executors = new ArrayList<>();
+    private Vertx vertx;
+
+    @BeforeEach
+    public void before() {
+        vertx = Vertx.vertx();
+    }
+
+    @AfterEach
+    public void after() {
+        EventLoopLoad.clear(vertx);
+        vertx.close();
+        for (EventExecutor executor : executors) {
+            executor.shutdownGracefully(0, 1, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    public void testBalancing() throws Exception {
+        List<EventLoopLoad> loads = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            loads.add(register());
+        }
+        EventLoopLoadHandler handler = new EventLoopLoadHandler(null, true, 2);
+        EventLoopLoad busy = loads.get(0);
+        int active = 0;
+        for (int i = 0; i < EventLoopLoadHandler.MIN_ACTIVE_REQUESTS - 1; i++) {
+            active = busy.requestStarted();
+        }
+        // far above the average, but too few requests to be worth closing connections
+        Assertions.assertFalse(handler.isOverloaded(active));
+        active = busy.requestStarted();
+        Assertions.assertTrue(handler.isOverloaded(active));
+
+        for (int i = 1; i < loads.size(); i++) {
+            for (int j = 0; j < 8; j++) {
+                loads.get(i).requestStarted();
+            }
+        }
+        Assertions.assertFalse(handler.isOverloaded(active));
+        Assertions.assertEquals(16, busy.getActiveRequests());
+    }
+
+    @Test
+    public void testTaskLatency() throws Exception {
+        EventLoopLoad load = register();
+        EventExecutor executor = executors.get(executors.size() - 1);
+        executor.submit(() -> {
+            load.probeTaskLatency();
+            // keeps the probe task waiting
+            Thread.sleep(50);
+            return null;
+        }).get();
+        executor.submit(() -> null).get();
+        Assertions.assertTrue(load.getTaskLatency() >= TimeUnit.MILLISECONDS.toNanos(50), "" + load.getTaskLatency());
+        Assertions.assertEquals(0, load.getPendingTasks());
+    }
+
+    @Test
+    public void testClear() throws Exception {
+        EventLoopLoad load = register();
+        List<EventLoopLoad> notified = new ArrayList<>();
+        EventLoopLoad.setListener(notified::add);
+        Assertions.assertEquals(List.of(load), notified);
+
+        // the listener belongs to the application, it is removed when the application is stopped
+        EventLoopLoad.start(vertx);
+        EventLoopLoad.stop();
+        register();
+        Assertions.assertEquals(1, notified.size());
+
+        EventLoopLoad.clear(vertx);
+        Assertions.assertTrue(EventLoopLoad.all().isEmpty());
+        EventExecutor executor = executors.get(0);
+        Assertions.assertNull(executor.submit(EventLoopLoad::current).get());
+    }
+
+    @Test
+    public void testAnotherVertxInstance() throws Exception {
+        register();
+        Vertx other = Vertx.vertx();
+        try {
+            EventExecutor executor = new DefaultEventExecutor();
+            executors.add(executor);
+            EventLoopLoad load = executor.submit(() -> EventLoopLoad.register(other, executor)).get();
+            // the loads of the previous Vert.x instance are discarded
+            Assertions.assertEquals(List.of(load), new ArrayList<>(EventLoopLoad.all()));
+            EventLoopLoad.clear(vertx);
+            Assertions.assertEquals(List.of(load), new ArrayList<>(EventLoopLoad.all()));
+            EventLoopLoad.clear(other);
+            Assertions.assertTrue(EventLoopLoad.all().isEmpty());
+        } finally {
+            other.close();
+        }
+    }
+
+    private EventLoopLoad register() throws Exception {
+        EventExecutor executor = new DefaultEventExecutor();
+        executors.add(executor);
+        EventLoopLoad load = executor.submit(() -> EventLoopLoad.register(vertx, executor)).get();
+        Assertions.assertTrue(EventLoopLoad.all().contains(load));
+        Assertions.assertSame(load, executor.submit(EventLoopLoad::current).get());
+        return load;
+    }
+}
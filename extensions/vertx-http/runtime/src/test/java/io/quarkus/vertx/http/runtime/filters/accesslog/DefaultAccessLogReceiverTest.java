@@ -0,0 +1,124 @@
+package io.quarkus.vertx.http.runtime.filters.accesslog;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.bootstrap.util.IoUtils;
+
+public class DefaultAccessLogReceiverTest {
+
+    private Path logDirectory;
+
+    @BeforeEach
+    public void before() throws IOException {
+        logDirectory = Files.createTempDirectory("quarkus-access-log");
+    }
+
+    @AfterEach
+    public void after() throws IOException {
+        IoUtils.recursiveDelete(logDirectory);
+    }
+
+    @Test
+    public void testMessagesAreDroppedWhenTheQueueIsFull() throws IOException {
+        Queue<Runnable> tasks = new ArrayDeque<>();
+        DefaultAccessLogReceiver receiver = DefaultAccessLogReceiver.builder()
+                .setLogWriteExecutor(tasks::add)
+                .setOutputDirectory(logDirectory)
+                .setLogBaseName("server.")
+                .setQueueSize(4)
+                .build();
+        for (int i = 0; i < 6; i++) {
+            receiver.logMessage("message " + i + " \u00e9");
+        }
+        Assertions.assertEquals(2, receiver.getDroppedMessages());
+        runAll(tasks);
+
+        receiver.logMessage("message 6");
+        runAll(tasks);
+        receiver.close();
+        runAll(tasks);
+
+        Assertions.assertEquals(
+                Arrays.asList("message 0 \u00e9", "message 1 \u00e9", "message 2 \u00e9", "message 3 \u00e9", "message 6"),
+                Files.readAllLines(logDirectory.resolve("server.log"), StandardCharsets.UTF_8));
+        Assertions.assertEquals(2, receiver.getDroppedMessages());
+    }
+
+    @Test
+    public void testQueueSizeIsEnforcedExactly() throws IOException {
+        Queue<Runnable> tasks = new ArrayDeque<>();
+        DefaultAccessLogReceiver receiver = DefaultAccessLogReceiver.builder()
+                .setLogWriteExecutor(tasks::add)
+                .setOutputDirectory(logDirectory)
+                .setLogBaseName("server.")
+                .setQueueSize(5)
+                .build();
+        List<String> expected = new ArrayList<>();
+        // several laps, so that the ring wraps around with a capacity that is not a power of two
+        for (int lap = 0; lap < 3; lap++) {
+            for (int i = 0; i < 8; i++) {
+                String message = "message " + lap + "-" + i;
+                receiver.logMessage(message);
+                if (i < 5) {
+                    expected.add(message);
+                }
+            }
+            Assertions.assertEquals(3 * (lap + 1), receiver.getDroppedMessages());
+            runAll(tasks);
+        }
+        receiver.close();
+        runAll(tasks);
+
+        Assertions.assertEquals(expected, Files.readAllLines(logDirectory.resolve("server.log"), StandardCharsets.UTF_8));
+        Assertions.assertEquals(9, receiver.getDroppedMessages());
+    }
+
+    @Test
+    public void testLargeBatch() throws IOException {
+        Queue<Runnable> tasks = new ArrayDeque<>();
+        DefaultAccessLogReceiver receiver = DefaultAccessLogReceiver.builder()
+                .setLogWriteExecutor(tasks::add)
+                .setOutputDirectory(logDirectory)
+                .setLogBaseName("server.")
+                .setLogFileHeaderGenerator(() -> "#header")
+                .build();
+        // larger than the write buffer, so that the batch is written in several chunks
+        char[] chars = new char[10000];
+        Arrays.fill(chars, '\u20ac');
+        String large = new String(chars);
+        for (int i = 0; i < 100; i++) {
+            receiver.logMessage(i % 10 == 0 ? large : "message " + i);
+        }
+        receiver.close();
+        runAll(tasks);
+
+        String[] lines = new String(Files.readAllBytes(logDirectory.resolve("server.log")), StandardCharsets.UTF_8)
+                .split("\n");
+        Assertions.assertEquals(101, lines.length);
+        Assertions.assertEquals("#header", lines[0]);
+        for (int i = 0; i < 100; i++) {
+            Assertions.assertEquals(i % 10 == 0 ? large : "message " + i, lines[i + 1]);
+        }
+        Assertions.assertEquals(0, receiver.getDroppedMessages());
+    }
+
+    private static void runAll(Queue<Runnable> tasks) {
+        Runnable task;
+        while ((task = tasks.poll()) != null) {
+            task.run();
+        }
+    }
+}
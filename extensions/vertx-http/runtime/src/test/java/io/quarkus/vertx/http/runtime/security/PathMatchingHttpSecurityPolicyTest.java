@@ -0,0 +1,114 @@
+package io.quarkus.vertx.http.runtime.security;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import io.quarkus.security.identity.SecurityIdentity;
+import io.quarkus.vertx.http.runtime.AuthConfig;
+import io.quarkus.vertx.http.runtime.HttpBuildTimeConfig;
+import io.quarkus.vertx.http.runtime.PolicyMappingConfig;
+import io.smallrye.mutiny.Uni;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.ext.web.RoutingContext;
+
+public class PathMatchingHttpSecurityPolicyTest {
+
+    private final AtomicInteger identityRequests = new AtomicInteger();
+    private final Uni<SecurityIdentity> identity = Uni.createFrom().item(() -> {
+        identityRequests.incrementAndGet();
+        return mock(SecurityIdentity.class);
+    });
+    private final AtomicInteger customChecks = new AtomicInteger();
+    private PathMatchingHttpSecurityPolicy policy;
+
+    @BeforeEach
+    public void init() {
+        Map<String, PolicyMappingConfig> permissions = new LinkedHashMap<>();
+        permissions.put("public", permission("permit", null, "/public/*", "/mixed"));
+        permissions.put("deny", permission("deny", null, "/deny", "/mixed"));
+        permissions.put("get", permission("permit", Arrays.asList("GET"), "/get"));
+        permissions.put("custom", permission("custom", Arrays.asList("POST"), "/public/*"));
+        HttpBuildTimeConfig config = new HttpBuildTimeConfig();
+        config.auth = new AuthConfig();
+        config.auth.permissions = permissions;
+
+        Map<String, Supplier<HttpSecurityPolicy>> policies = new HashMap<>();
+        policies.put("permit", PermitSecurityPolicy::new);
+        policies.put("deny", DenySecurityPolicy::new);
+        policies.put("custom", () -> new HttpSecurityPolicy() {
+            @Override
+            public Uni<CheckResult> checkPermission(RoutingContext request, Uni<SecurityIdentity> identity,
+                    AuthorizationRequestContext requestContext) {
+                customChecks.incrementAndGet();
+                return identity.map(i -> CheckResult.PERMIT);
+            }
+        });
+        policy = new PathMatchingHttpSecurityPolicy();
+        policy.init(config, policies);
+    }
+
+    @Test
+    public void testConstantResults() {
+        Assertions.assertTrue(check(HttpMethod.GET, "/public/a"));
+        Assertions.assertTrue(check(HttpMethod.GET, "/unmentioned"));
+        Assertions.assertFalse(check(HttpMethod.GET, "/deny"));
+        Assertions.assertFalse(check(HttpMethod.GET, "/mixed"));
+        Assertions.assertTrue(check(HttpMethod.GET, "/get"));
+        //we deny if we did not match due to method filtering
+        Assertions.assertFalse(check(HttpMethod.PUT, "/get"));
+        Assertions.assertEquals(0, identityRequests.get());
+        Assertions.assertEquals(0, customChecks.get());
+    }
+
+    @Test
+    public void testMethodSpecificPolicy() {
+        Assertions.assertTrue(check(HttpMethod.POST, "/public/a"));
+        Assertions.assertEquals(1, customChecks.get());
+        Assertions.assertEquals(1, identityRequests.get());
+
+        List<HttpSecurityPolicy> checkers = policy.findPermissionCheckers(request(HttpMethod.POST, "/public/a"));
+        Assertions.assertEquals(1, checkers.size());
+        Assertions.assertFalse(checkers.get(0) instanceof PermitSecurityPolicy);
+        checkers = policy.findPermissionCheckers(request(HttpMethod.GET, "/public/a"));
+        Assertions.assertEquals(1, checkers.size());
+        Assertions.assertTrue(checkers.get(0) instanceof PermitSecurityPolicy);
+    }
+
+    private boolean check(HttpMethod method, String path) {
+        RoutingContext routingContext = mock(RoutingContext.class);
+        HttpServerRequest request = request(method, path);
+        when(routingContext.request()).thenReturn(request);
+        return policy.checkPermission(routingContext, identity, null).await().indefinitely().isPermitted();
+    }
+
+    private static HttpServerRequest request(HttpMethod method, String path) {
+        HttpServerRequest request = mock(HttpServerRequest.class);
+        when(request.method()).thenReturn(method);
+        when(request.path()).thenReturn(path);
+        return request;
+    }
+
+    private static PolicyMappingConfig permission(String policy, List<String> methods, String... paths) {
+        PolicyMappingConfig config = new PolicyMappingConfig();
+        config.enabled = Optional.empty();
+        config.policy = policy;
+        config.methods = Optional.ofNullable(methods);
+        config.paths = Optional.of(Arrays.asList(paths));
+        config.authMechanism = Optional.empty();
+        return config;
+    }
+}
@@ -0,0 +1,20 @@
+package io.quarkus.vertx.core.deployment;
+
+import io.quarkus.runtime.annotations.ConfigItem;
+import io.quarkus.runtime.annotations.ConfigPhase;
+import io.quarkus.runtime.annotations.ConfigRoot;
+
+@ConfigRoot(name = "vertx", phase = ConfigPhase.BUILD_TIME)
+public class VertxBuildConfig {
+
+    /**
+     * If set to {@code true} the state of the CDI request context is stored in the current duplicated Vert.x context
+     * while running on an event loop thread, so that it does not have to be propagated between the callbacks of the same
+     * request. Worker threads, including the ones used by {@code executeBlocking}, always keep their own state.
+     * <p>
+     * By default, the state is stored in a thread local.
+     */
+    @ConfigItem(name = "request-context.duplicated-context-storage", defaultValue = "false")
+    public boolean requestContextDuplicatedContextStorage;
+
+}
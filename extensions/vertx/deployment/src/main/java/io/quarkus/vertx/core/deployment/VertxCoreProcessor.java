@@ -26,6 +26,7 @@ import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
 
+import io.quarkus.arc.deployment.CurrentContextFactoryBuildItem;
 import io.quarkus.arc.deployment.SyntheticBeanBuildItem;
 import io.quarkus.deployment.annotations.BuildProducer;
 import io.quarkus.deployment.annotations.BuildStep;
@@ -172,6 +173,15 @@ class VertxCoreProcessor {
         return new LogCategoryBuildItem("io.vertx.core.impl.ContextImpl", Level.ERROR);
     }
 
+    @BuildStep
+    @Record(ExecutionTime.STATIC_INIT)
+    CurrentContextFactoryBuildItem currentContextFactory(VertxCoreRecorder recorder, VertxBuildConfig config) {
+        if (!config.requestContextDuplicatedContextStorage) {
+            return null;
+        }
+        return new CurrentContextFactoryBuildItem(recorder.currentContextFactory());
+    }
+
     @BuildStep
     @Record(ExecutionTime.STATIC_INIT)
     IOThreadDetectorBuildItem ioThreadDetector(VertxCoreRecorder recorder) {
@@ -0,0 +1,104 @@
+package io.quarkus.vertx.locals;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import javax.enterprise.context.RequestScoped;
+import javax.inject.Inject;
+
+import org.assertj.core.api.Assertions;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.ManagedContext;
+import io.quarkus.test.QuarkusUnitTest;
+import io.smallrye.common.vertx.VertxContext;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.ContextInternal;
+
+public class RequestContextLocalsTest {
+
+    @RegisterExtension
+    static final QuarkusUnitTest config = new QuarkusUnitTest()
+            .setArchiveProducer(() -> ShrinkWrap
+                    .create(JavaArchive.class).addClasses(RequestScopedBean.class))
+            .overrideConfigKey("quarkus.vertx.request-context.duplicated-context-storage", "true");
+
+    @Inject
+    Vertx vertx;
+
+    @Inject
+    RequestScopedBean bean;
+
+    @Test
+    public void testRequestContextStoredInDuplicatedContext()
+            throws ExecutionException, InterruptedException, TimeoutException {
+        Context root = vertx.getOrCreateContext();
+        Context local = VertxContext.getOrCreateDuplicatedContext(root);
+        Context otherLocal = ((ContextInternal) root).duplicate();
+        ManagedContext requestContext = Arc.container().requestContext();
+
+        CompletableFuture<String> activated = new CompletableFuture<>();
+        local.runOnContext(x -> {
+            requestContext.activate();
+            activated.complete(bean.getId());
+        });
+        String id = activated.get(5, TimeUnit.SECONDS);
+
+        // Callbacks of the same duplicated context on the event loop see the same state
+        CompletableFuture<String> callback = new CompletableFuture<>();
+        local.runOnContext(x -> callback.complete(bean.getId()));
+        Assertions.assertThat(callback.get(5, TimeUnit.SECONDS)).isEqualTo(id);
+
+        // A worker thread running on behalf of the same duplicated context keeps its own state
+        CompletableFuture<Boolean> blocking = new CompletableFuture<>();
+        local.executeBlocking(promise -> {
+            boolean active = requestContext.isActive();
+            requestContext.activate();
+            requestContext.terminate();
+            promise.complete(active);
+        }, false, ar -> {
+            if (ar.succeeded()) {
+                blocking.complete((Boolean) ar.result());
+            } else {
+                blocking.completeExceptionally(ar.cause());
+            }
+        });
+        Assertions.assertThat(blocking.get(5, TimeUnit.SECONDS)).isFalse();
+
+        CompletableFuture<String> afterBlocking = new CompletableFuture<>();
+        local.runOnContext(x -> afterBlocking.complete(requestContext.isActive() ? bean.getId() : null));
+        Assertions.assertThat(afterBlocking.get(5, TimeUnit.SECONDS)).isEqualTo(id);
+
+        // A different duplicated context, e.g. another request, does not
+        CompletableFuture<Boolean> otherActive = new CompletableFuture<>();
+        otherLocal.runOnContext(x -> otherActive.complete(requestContext.isActive()));
+        Assertions.assertThat(otherActive.get(5, TimeUnit.SECONDS)).isFalse();
+
+        CompletableFuture<Boolean> terminated = new CompletableFuture<>();
+        local.runOnContext(x -> {
+            requestContext.terminate();
+            terminated.complete(requestContext.isActive());
+        });
+        Assertions.assertThat(terminated.get(5, TimeUnit.SECONDS)).isFalse();
+    }
+
+    @RequestScoped
+    public static class RequestScopedBean {
+
+        private final String id = UUID.randomUUID().toString();
+
+        public String getId() {
+            return id;
+        }
+
+    }
+
+}
@@ -0,0 +1,188 @@
+package io.quarkus.vertx.core.runtime;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.util.concurrent.ThreadFactory;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelFactory;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.ReflectiveChannelFactory;
+import io.netty.channel.ServerChannel;
+import io.netty.channel.socket.DatagramChannel;
+import io.netty.channel.socket.InternetProtocolFamily;
+import io.vertx.core.net.ClientOptionsBase;
+import io.vertx.core.net.NetServerOptions;
+import io.vertx.core.net.impl.transport.Transport;
+
+/**
+ * A Vert.x transport based on the Netty io_uring incubator transport, which must be added to the application.
+ * <p>
+ * The Netty classes are loaded reflectively, so that Quarkus does not depend on the incubator artifact.
+ */
+final class IOUringTransport extends Transport {
+
+    static final String PACKAGE = "io.netty.incubator.channel.uring.";
+
+    /**
+     * The same threshold as the Vert.x epoll transport
+     */
+    private static final int PENDING_FAST_OPEN_REQUESTS_THRESHOLD = 256;
+
+    static final String DOMAIN_SOCKETS_UNSUPPORTED = "Domain sockets are not supported by the io_uring transport,"
+            + " set quarkus.vertx.prefer-io-uring=false to use them";
+
+    private final Throwable unavailabilityCause;
+    private Constructor<? extends EventLoopGroup> eventLoopGroupConstructor;
+    private Class<? extends Channel> socketChannelClass;
+    private Class<? extends ServerChannel> serverSocketChannelClass;
+    private Class<? extends DatagramChannel> datagramChannelClass;
+    private ChannelOption<Boolean> reusePort;
+    private ChannelOption<Integer> tcpFastOpen;
+    private ChannelOption<Boolean> tcpFastOpenConnect;
+    private ChannelOption<Boolean> tcpQuickAck;
+    private ChannelOption<Boolean> tcpCork;
+
+    IOUringTransport() {
+        this(IOUringTransport.class.getClassLoader(), PACKAGE);
+    }
+
+    /**
+     * @param cl the class loader of the Netty io_uring transport
+     * @param packageName the package of the Netty io_uring transport, including the trailing dot
+     */
+    IOUringTransport(ClassLoader cl, String packageName) {
+        Throwable cause;
+        try {
+            Class<?> ioUring = Class.forName(packageName + "IOUring", true, cl);
+            cause = (Throwable) ioUring.getMethod("unavailabilityCause").invoke(null);
+            if (cause == null) {
+                eventLoopGroupConstructor = Class.forName(packageName + "IOUringEventLoopGroup", true, cl)
+                        .asSubclass(EventLoopGroup.class).getConstructor(int.class, ThreadFactory.class);
+                socketChannelClass = Class.forName(packageName + "IOUringSocketChannel", true, cl)
+                        .asSubclass(Channel.class);
+                serverSocketChannelClass = Class.forName(packageName + "IOUringServerSocketChannel", true, cl)
+                        .asSubclass(ServerChannel.class);
+                datagramChannelClass = Class.forName(packageName + "IOUringDatagramChannel", true, cl)
+                        .asSubclass(DatagramChannel.class);
+                Class<?> options = Class.forName(packageName + "IOUringChannelOption", true, cl);
+                reusePort = channelOption(options, "SO_REUSEPORT");
+                tcpFastOpen = channelOption(options, "TCP_FASTOPEN");
+                tcpFastOpenConnect = channelOption(options, "TCP_FASTOPEN_CONNECT");
+                tcpQuickAck = channelOption(options, "TCP_QUICKACK");
+                tcpCork = channelOption(options, "TCP_CORK");
+            }
+        } catch (ClassNotFoundException | LinkageError e) {
+            cause = new IllegalStateException(
+                    "The io_uring transport requires the io.netty.incubator:netty-incubator-transport-native-io_uring dependency",
+                    e);
+        } catch (InvocationTargetException e) {
+            cause = e.getCause();
+        } catch (ReflectiveOperationException e) {
+            cause = e;
+        }
+        this.unavailabilityCause = cause;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> ChannelOption<T> channelOption(Class<?> options, String name) {
+        try {
+            return (ChannelOption<T>) options.getField(name).get(null);
+        } catch (ReflectiveOperationException e) {
+            // not supported by this version of the transport
+            return null;
+        }
+    }
+
+    @Override
+    public boolean isAvailable() {
+        return unavailabilityCause == null;
+    }
+
+    @Override
+    public Throwable unavailabilityCause() {
+        return unavailabilityCause;
+    }
+
+    @Override
+    public EventLoopGroup eventLoopGroup(int type, int nThreads, ThreadFactory threadFactory, int ioRatio) {
+        try {
+            return eventLoopGroupConstructor.newInstance(nThreads, threadFactory);
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to create the io_uring event loop group", e);
+        }
+    }
+
+    @Override
+    public DatagramChannel datagramChannel() {
+        return newInstance(datagramChannelClass);
+    }
+
+    @Override
+    public DatagramChannel datagramChannel(InternetProtocolFamily family) {
+        // the io_uring datagram channels support both IPv4 and IPv6
+        return newInstance(datagramChannelClass);
+    }
+
+    @Override
+    public ChannelFactory<? extends Channel> channelFactory(boolean domainSocket) {
+        if (domainSocket) {
+            throw new IllegalArgumentException(DOMAIN_SOCKETS_UNSUPPORTED);
+        }
+        return new ReflectiveChannelFactory<>(socketChannelClass);
+    }
+
+    @Override
+    public ChannelFactory<? extends ServerChannel> serverChannelFactory(boolean domainSocket) {
+        if (domainSocket) {
+            throw new IllegalArgumentException(DOMAIN_SOCKETS_UNSUPPORTED);
+        }
+        return new ReflectiveChannelFactory<>(serverSocketChannelClass);
+    }
+
+    @Override
+    public void configure(ClientOptionsBase options, boolean domainSocket, Bootstrap bootstrap) {
+        if (!domainSocket) {
+            if (options.isTcpFastOpen() && tcpFastOpenConnect != null) {
+                bootstrap.option(tcpFastOpenConnect, options.isTcpFastOpen());
+            }
+            if (tcpQuickAck != null) {
+                bootstrap.option(tcpQuickAck, options.isTcpQuickAck());
+            }
+            if (tcpCork != null) {
+                bootstrap.option(tcpCork, options.isTcpCork());
+            }
+        }
+        super.configure(options, domainSocket, bootstrap);
+    }
+
+    @Override
+    public void configure(NetServerOptions options, boolean domainSocket, ServerBootstrap bootstrap) {
+        if (!domainSocket) {
+            if (reusePort != null) {
+                bootstrap.option(reusePort, options.isReusePort());
+            }
+            if (options.isTcpFastOpen() && tcpFastOpen != null) {
+                bootstrap.option(tcpFastOpen, PENDING_FAST_OPEN_REQUESTS_THRESHOLD);
+            }
+            if (tcpQuickAck != null) {
+                bootstrap.childOption(tcpQuickAck, options.isTcpQuickAck());
+            }
+            if (tcpCork != null) {
+                bootstrap.childOption(tcpCork, options.isTcpCork());
+            }
+        }
+        super.configure(options, domainSocket, bootstrap);
+    }
+
+    private static <T> T newInstance(Class<T> type) {
+        try {
+            return type.getConstructor().newInstance();
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Unable to create " + type.getName(), e);
+        }
+    }
+}
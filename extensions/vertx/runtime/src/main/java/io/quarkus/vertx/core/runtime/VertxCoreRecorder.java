@@ -26,14 +26,17 @@ import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 
+import org.eclipse.microprofile.config.ConfigProvider;
 import org.jboss.logging.Logger;
 import org.jboss.threads.ContextHandler;
 import org.wildfly.common.cpu.ProcessorInfo;
 
 import io.netty.channel.EventLoopGroup;
 import io.netty.util.concurrent.FastThreadLocal;
+import io.quarkus.arc.CurrentContextFactory;
 import io.quarkus.runtime.IOThreadDetector;
 import io.quarkus.runtime.LaunchMode;
+import io.quarkus.runtime.RuntimeValue;
 import io.quarkus.runtime.ShutdownContext;
 import io.quarkus.runtime.annotations.Recorder;
 import io.quarkus.vertx.core.runtime.config.AddressResolverConfiguration;
@@ -53,6 +56,7 @@ import io.vertx.core.impl.ContextInternal;
 import io.vertx.core.impl.VertxBuilder;
 import io.vertx.core.impl.VertxImpl;
 import io.vertx.core.impl.VertxThread;
+import io.vertx.core.net.impl.transport.Transport;
 import io.vertx.core.spi.VertxThreadFactory;
 import io.vertx.core.spi.resolver.ResolverProvider;
 
@@ -154,6 +158,10 @@ public class VertxCoreRecorder {
         }
     }
 
+    public RuntimeValue<CurrentContextFactory> currentContextFactory() {
+        return new RuntimeValue<>(new VertxCurrentContextFactory());
+    }
+
     public IOThreadDetector detector() {
         return new IOThreadDetector() {
             @Override
@@ -213,11 +221,13 @@ public class VertxCoreRecorder {
                 return createVertxThread(target, name, worker, maxExecTime, maxExecTimeUnit, launchMode, nonDevModeTccl);
             }
         };
+        Transport transport = conf != null && conf.preferNativeTransport && conf.preferIoUring ? ioUringTransport() : null;
         if (conf != null && conf.cluster != null && conf.cluster.clustered) {
             CompletableFuture<Vertx> latch = new CompletableFuture<>();
             new VertxBuilder(options)
                     .threadFactory(vertxThreadFactory)
                     .executorServiceFactory(new QuarkusExecutorFactory(conf, launchMode))
+                    .transport(transport)
                     .init().clusteredVertx(new Handler<AsyncResult<Vertx>>() {
                         @Override
                         public void handle(AsyncResult<Vertx> ar) {
@@ -233,6 +243,7 @@ public class VertxCoreRecorder {
             vertx = new VertxBuilder(options)
                     .threadFactory(vertxThreadFactory)
                     .executorServiceFactory(new QuarkusExecutorFactory(conf, launchMode))
+                    .transport(transport)
                     .init().vertx();
         }
 
@@ -245,6 +256,24 @@ public class VertxCoreRecorder {
         return logVertxInitialization(vertx);
     }
 
+    /**
+     * @return the io_uring transport, or {@code null} if it is not available or the HTTP server listens on a domain
+     *         socket, in which case Vert.x uses the default native transport
+     */
+    private static Transport ioUringTransport() {
+        if (ConfigProvider.getConfig().getOptionalValue("quarkus.http.domain-socket-enabled", Boolean.class).orElse(false)) {
+            LOGGER.warn("The io_uring transport does not support domain sockets, falling back to the default native transport");
+            return null;
+        }
+        IOUringTransport transport = new IOUringTransport();
+        if (transport.isAvailable()) {
+            return transport;
+        }
+        LOGGER.warnf("The io_uring transport is not available, falling back to the default native transport: %s",
+                transport.unavailabilityCause().getMessage());
+        return null;
+    }
+
     /**
      * Depending on the launch mode we may need do handle the TCCL differently.
      *
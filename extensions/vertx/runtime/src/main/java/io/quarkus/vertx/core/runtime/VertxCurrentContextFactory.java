@@ -0,0 +1,79 @@
+package io.quarkus.vertx.core.runtime;
+
+import java.lang.annotation.Annotation;
+
+import io.netty.util.concurrent.FastThreadLocal;
+import io.quarkus.arc.CurrentContext;
+import io.quarkus.arc.CurrentContextFactory;
+import io.quarkus.arc.InjectableContext.ContextState;
+import io.smallrye.common.vertx.VertxContext;
+import io.vertx.core.Context;
+import io.vertx.core.Vertx;
+import io.vertx.core.impl.ContextInternal;
+
+/**
+ * Stores the state of a context in the locals of the current duplicated Vert.x context while running on its event loop
+ * thread, so that it follows the callbacks of a request without being captured and restored by the context propagation.
+ * <p>
+ * A thread local is used on any other thread, e.g. a worker thread used by {@code executeBlocking} or a thread that is
+ * not managed by Vert.x. The state is therefore never shared by multiple threads and an activation or termination on a
+ * worker thread is not visible on the event loop.
+ */
+public class VertxCurrentContextFactory implements CurrentContextFactory {
+
+    private static final String LOCAL_KEY_PREFIX = "io.quarkus.vertx.cdi-current-context:";
+
+    @Override
+    public <T extends ContextState> CurrentContext<T> create(Class<? extends Annotation> scope) {
+        return new VertxCurrentContext<>(LOCAL_KEY_PREFIX + scope.getName());
+    }
+
+    private static final class VertxCurrentContext<T extends ContextState> implements CurrentContext<T> {
+
+        private final String key;
+        private final FastThreadLocal<T> fallback = new FastThreadLocal<>();
+
+        private VertxCurrentContext(String key) {
+            this.key = key;
+        }
+
+        @Override
+        public T get() {
+            ContextInternal context = duplicatedContext();
+            if (context != null) {
+                return VertxLocalsHelper.getLocal(context, key);
+            }
+            return fallback.get();
+        }
+
+        @Override
+        public void set(T state) {
+            ContextInternal context = duplicatedContext();
+            if (context != null) {
+                VertxLocalsHelper.putLocal(context, key, state);
+            } else {
+                fallback.set(state);
+            }
+        }
+
+        @Override
+        public void remove() {
+            ContextInternal context = duplicatedContext();
+            if (context != null) {
+                VertxLocalsHelper.removeLocal(context, key);
+            } else {
+                fallback.remove();
+            }
+        }
+
+        private static ContextInternal duplicatedContext() {
+            if (!Context.isOnEventLoopThread()) {
+                return null;
+            }
+            ContextInternal context = (ContextInternal) Vertx.currentContext();
+            return context != null && VertxContext.isDuplicatedContext(context) ? context : null;
+        }
+
+    }
+
+}
@@ -119,4 +119,12 @@ public class VertxConfiguration {
     @ConfigItem
     public boolean preferNativeTransport;
 
+    /**
+     * Whether the io_uring transport should be used on Linux rather than epoll, when the native transport is enabled.
+     * It requires the {@code io.netty.incubator:netty-incubator-transport-native-io_uring} dependency. If io_uring is not
+     * available, the default native transport is used.
+     */
+    @ConfigItem
+    public boolean preferIoUring;
+
 }
@@ -0,0 +1,144 @@
+package io.quarkus.vertx.core.runtime;
+
+import java.util.Map;
+import java.util.concurrent.ThreadFactory;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import io.netty.bootstrap.Bootstrap;
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.DefaultEventLoopGroup;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.channel.socket.oio.OioDatagramChannel;
+import io.vertx.core.net.NetClientOptions;
+import io.vertx.core.net.NetServerOptions;
+
+public class IOUringTransportTest {
+
+    @Test
+    public void testUnavailableWithoutTheIncubatorTransport() {
+        IOUringTransport transport = new IOUringTransport();
+        Assertions.assertFalse(transport.isAvailable());
+        Assertions.assertTrue(transport.unavailabilityCause().getMessage().contains("netty-incubator-transport-native-io_uring"),
+                transport.unavailabilityCause().getMessage());
+    }
+
+    @Test
+    public void testChannelFactories() throws Exception {
+        IOUringTransport transport = stubTransport();
+        Assertions.assertTrue(transport.isAvailable());
+
+        Channel channel = transport.channelFactory(false).newChannel();
+        Assertions.assertTrue(channel instanceof IOUringSocketChannel);
+        channel.unsafe().closeForcibly();
+        Channel serverChannel = transport.serverChannelFactory(false).newChannel();
+        Assertions.assertTrue(serverChannel instanceof IOUringServerSocketChannel);
+        serverChannel.unsafe().closeForcibly();
+        Channel datagramChannel = transport.datagramChannel();
+        Assertions.assertTrue(datagramChannel instanceof IOUringDatagramChannel);
+        datagramChannel.unsafe().closeForcibly();
+
+        EventLoopGroup group = transport.eventLoopGroup(IOUringTransport.IO_EVENT_LOOP_GROUP, 1, Thread::new, 50);
+        Assertions.assertTrue(group instanceof IOUringEventLoopGroup);
+        group.shutdownGracefully().sync();
+
+        IllegalArgumentException e = Assertions.assertThrows(IllegalArgumentException.class,
+                () -> transport.channelFactory(true));
+        Assertions.assertEquals(IOUringTransport.DOMAIN_SOCKETS_UNSUPPORTED, e.getMessage());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> transport.serverChannelFactory(true));
+    }
+
+    @Test
+    public void testServerOptions() {
+        ServerBootstrap bootstrap = new ServerBootstrap();
+        stubTransport().configure(new NetServerOptions().setReusePort(true).setTcpFastOpen(true).setTcpQuickAck(true)
+                .setTcpCork(true), false, bootstrap);
+
+        Map<ChannelOption<?>, Object> options = bootstrap.config().options();
+        Assertions.assertEquals(true, options.get(IOUringChannelOption.SO_REUSEPORT));
+        Assertions.assertEquals(256, options.get(IOUringChannelOption.TCP_FASTOPEN));
+        Assertions.assertFalse(options.containsKey(IOUringChannelOption.TCP_FASTOPEN_CONNECT));
+        Map<ChannelOption<?>, Object> childOptions = bootstrap.config().childOptions();
+        Assertions.assertEquals(true, childOptions.get(IOUringChannelOption.TCP_QUICKACK));
+        Assertions.assertEquals(true, childOptions.get(IOUringChannelOption.TCP_CORK));
+    }
+
+    @Test
+    public void testClientOptions() {
+        Bootstrap bootstrap = new Bootstrap();
+        stubTransport().configure(new NetClientOptions().setTcpFastOpen(true).setTcpQuickAck(true).setTcpCork(false), false,
+                bootstrap);
+
+        Map<ChannelOption<?>, Object> options = bootstrap.config().options();
+        Assertions.assertEquals(true, options.get(IOUringChannelOption.TCP_FASTOPEN_CONNECT));
+        Assertions.assertFalse(options.containsKey(IOUringChannelOption.TCP_FASTOPEN));
+        Assertions.assertEquals(true, options.get(IOUringChannelOption.TCP_QUICKACK));
+        Assertions.assertEquals(false, options.get(IOUringChannelOption.TCP_CORK));
+
+        bootstrap = new Bootstrap();
+        stubTransport().configure(new NetClientOptions(), false, bootstrap);
+        Assertions.assertFalse(bootstrap.config().options().containsKey(IOUringChannelOption.TCP_FASTOPEN_CONNECT));
+    }
+
+    @Test
+    public void testDomainSocketOptions() {
+        ServerBootstrap serverBootstrap = new ServerBootstrap();
+        stubTransport().configure(new NetServerOptions().setReusePort(true).setTcpFastOpen(true), true, serverBootstrap);
+        Assertions.assertFalse(serverBootstrap.config().options().containsKey(IOUringChannelOption.SO_REUSEPORT));
+        Assertions.assertFalse(serverBootstrap.config().options().containsKey(IOUringChannelOption.TCP_FASTOPEN));
+
+        Bootstrap bootstrap = new Bootstrap();
+        stubTransport().configure(new NetClientOptions().setTcpFastOpen(true), true, bootstrap);
+        Assertions.assertFalse(bootstrap.config().options().containsKey(IOUringChannelOption.TCP_FASTOPEN_CONNECT));
+    }
+
+    /**
+     * @return a transport backed by the stubs below instead of the Netty io_uring classes
+     */
+    private static IOUringTransport stubTransport() {
+        return new IOUringTransport(IOUringTransportTest.class.getClassLoader(), IOUringTransportTest.class.getName() + "$");
+    }
+
+    public static class IOUring {
+
+        public static Throwable unavailabilityCause() {
+            return null;
+        }
+    }
+
+    public static class IOUringEventLoopGroup extends DefaultEventLoopGroup {
+
+        public IOUringEventLoopGroup(int nThreads, ThreadFactory threadFactory) {
+            super(nThreads, threadFactory);
+        }
+    }
+
+    public static class IOUringSocketChannel extends NioSocketChannel {
+    }
+
+    public static class IOUringServerSocketChannel extends NioServerSocketChannel {
+    }
+
+    @SuppressWarnings("deprecation")
+    public static class IOUringDatagramChannel extends OioDatagramChannel {
+    }
+
+    public static class IOUringChannelOption {
+
+        public static final ChannelOption<Boolean> SO_REUSEPORT = ChannelOption.valueOf(IOUringChannelOption.class,
+                "SO_REUSEPORT");
+        public static final ChannelOption<Integer> TCP_FASTOPEN = ChannelOption.valueOf(IOUringChannelOption.class,
+                "TCP_FASTOPEN");
+        public static final ChannelOption<Boolean> TCP_FASTOPEN_CONNECT = ChannelOption.valueOf(IOUringChannelOption.class,
+                "TCP_FASTOPEN_CONNECT");
+        public static final ChannelOption<Boolean> TCP_QUICKACK = ChannelOption.valueOf(IOUringChannelOption.class,
+                "TCP_QUICKACK");
+        public static final ChannelOption<Boolean> TCP_CORK = ChannelOption.valueOf(IOUringChannelOption.class,
+                "TCP_CORK");
+    }
+}
@@ -16,6 +16,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -294,9 +295,27 @@ public class BeanDeployment {
                     Collections.unmodifiableSet(removedDecorators));
         }
         buildContext.putInternal(BuildExtension.Key.REMOVED_BEANS.asString(), Collections.unmodifiableSet(removedBeans));
+        initRequestContextIndexes();
         LOGGER.debugf("Bean deployment initialized in %s ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
     }
 
+    /**
+     * Assigns a dense index to every request scoped bean, so that the request context can store the contextual instances
+     * in an array instead of a map. The beans are sorted by identifier so that the indexes are stable across builds.
+     */
+    private void initRequestContextIndexes() {
+        List<BeanInfo> requestScoped = new ArrayList<>();
+        for (BeanInfo bean : beans) {
+            if (BuiltinScope.REQUEST.is(bean.getScope())) {
+                requestScoped.add(bean);
+            }
+        }
+        requestScoped.sort(Comparator.comparing(BeanInfo::getIdentifier));
+        for (int i = 0; i < requestScoped.size(); i++) {
+            requestScoped.get(i).setRequestContextIndex(i);
+        }
+    }
+
     /**
      * Re-initialize the map that is used to speed-up lookup requests.
      */
@@ -433,6 +452,7 @@ public class BeanDeployment {
 
     ValidationContext validate(List<BeanDeploymentValidator> validators,
             Consumer<BytecodeTransformer> bytecodeTransformerConsumer) {
+        long start = System.nanoTime();
         // Validate the bean deployment
         List<Throwable> errors = new ArrayList<>();
         // First, validate all beans internally
@@ -445,6 +465,7 @@ public class BeanDeployment {
         for (BeanDeploymentValidator validator : validators) {
             validator.validate(validationContext);
         }
+        LOGGER.debugf("Bean deployment validated in %s ms", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
         return validationContext;
     }
 
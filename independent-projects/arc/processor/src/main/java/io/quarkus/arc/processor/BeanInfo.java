@@ -87,6 +87,8 @@ public class BeanInfo implements InjectionTargetInfo {
 
     private final String targetPackageName;
 
+    private int requestContextIndex = -1;
+
     BeanInfo(AnnotationTarget target, BeanDeployment beanDeployment, ScopeInfo scope, Set<Type> types,
             Set<AnnotationInstance> qualifiers, List<Injection> injections, BeanInfo declaringBean, DisposerInfo disposer,
             boolean alternative, List<StereotypeInfo> stereotypes, String name, boolean isDefaultBean, String targetPackageName,
@@ -441,6 +443,20 @@ public class BeanInfo implements InjectionTargetInfo {
         return defaultBean;
     }
 
+    /**
+     *
+     * @return the index of the slot that holds the contextual instance in the request context, or {@code -1} if the bean
+     *         is not {@link javax.enterprise.context.RequestScoped}
+     * @see io.quarkus.arc.InjectableBean#getRequestContextIndex()
+     */
+    public int getRequestContextIndex() {
+        return requestContextIndex;
+    }
+
+    void setRequestContextIndex(int requestContextIndex) {
+        this.requestContextIndex = requestContextIndex;
+    }
+
     /**
      * @param requiredType
      * @param requiredQualifiers
@@ -12,14 +12,18 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.Callable;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -42,7 +46,7 @@ import org.jboss.logging.Logger;
  * <li>{@link #initialize(Consumer)}</li>
  * <li>{@link #validate(Consumer)}</li>
  * <li>{@link #processValidationErrors(io.quarkus.arc.processor.BeanDeploymentValidator.ValidationContext)}</li>
- * <li>{@link #generateResources(ReflectionRegistration, Set, Consumer)}</li>
+ * <li>{@link #generateResources(ReflectionRegistration, Set, Consumer, boolean, ExecutorService)}</li>
  * </ol>
  */
 public class BeanProcessor {
@@ -150,12 +154,36 @@ public class BeanProcessor {
     public List<Resource> generateResources(ReflectionRegistration reflectionRegistration, Set<String> existingClasses,
             Consumer<BytecodeTransformer> bytecodeTransformerConsumer, boolean detectUnusedFalsePositives)
             throws IOException {
+        return generateResources(reflectionRegistration, existingClasses, bytecodeTransformerConsumer,
+                detectUnusedFalsePositives, null);
+    }
+
+    /**
+     * The interceptors, decorators and beans are generated in parallel if an executor is specified. Synthetic beans and
+     * observers are always generated on the calling thread because their logic is supplied by extensions. The order of the
+     * returned resources and the order in which the bytecode transformers are passed to the consumer do not depend on the
+     * executor.
+     *
+     * @param reflectionRegistration
+     * @param existingClasses
+     * @param bytecodeTransformerConsumer
+     * @param detectUnusedFalsePositives
+     * @param executor The executor used to generate the resources or {@code null} if the resources should be generated
+     *        sequentially
+     * @return the list of resources
+     * @throws IOException
+     */
+    public List<Resource> generateResources(ReflectionRegistration reflectionRegistration, Set<String> existingClasses,
+            Consumer<BytecodeTransformer> bytecodeTransformerConsumer, boolean detectUnusedFalsePositives,
+            ExecutorService executor) throws IOException {
         if (reflectionRegistration == null) {
             reflectionRegistration = this.reflectionRegistration;
         }
+        long start = System.nanoTime();
         PrivateMembersCollector privateMembers = new PrivateMembersCollector();
-        Map<BeanInfo, String> beanToGeneratedName = new HashMap<>();
-        Map<ObserverInfo, String> observerToGeneratedName = new HashMap<>();
+        // These maps are populated by the generators and may be accessed concurrently
+        Map<BeanInfo, String> beanToGeneratedName = new ConcurrentHashMap<>();
+        Map<ObserverInfo, String> observerToGeneratedName = new ConcurrentHashMap<>();
 
         BeanGenerator beanGenerator = new BeanGenerator(annotationLiterals, applicationClassPredicate, privateMembers,
                 generateSources, reflectionRegistration, existingClasses, beanToGeneratedName,
@@ -175,61 +203,73 @@ public class BeanProcessor {
                 injectionPointAnnotationsPredicate, allowMocking);
         AnnotationLiteralGenerator annotationLiteralsGenerator = new AnnotationLiteralGenerator(generateSources);
 
-        List<Resource> resources = new ArrayList<>();
-
+        // Each component is generated by a separate task
+        List<GenerationTask> tasks = new ArrayList<>();
         // Generate interceptors
         for (InterceptorInfo interceptor : beanDeployment.getInterceptors()) {
-            for (Resource resource : interceptorGenerator.generate(interceptor)) {
-                resources.add(resource);
-            }
+            tasks.add(new GenerationTask(false, transformers -> interceptorGenerator.generate(interceptor)));
         }
         // Generate decorators
         for (DecoratorInfo decorator : beanDeployment.getDecorators()) {
-            for (Resource resource : decoratorGenerator.generate(decorator)) {
-                resources.add(resource);
-            }
+            tasks.add(new GenerationTask(false, transformers -> decoratorGenerator.generate(decorator)));
         }
-        // Generate beans
+        // Generate beans - the creation and destruction logic of synthetic beans is supplied by extensions and may not be
+        // thread-safe, therefore synthetic beans are always generated on the calling thread
+        ReflectionRegistration registration = reflectionRegistration;
         for (BeanInfo bean : beanDeployment.getBeans()) {
-            for (Resource resource : beanGenerator.generate(bean)) {
-                resources.add(resource);
-                if (SpecialType.BEAN.equals(resource.getSpecialType())) {
-                    if (bean.getScope().isNormal()) {
-                        // Generate client proxy
-                        Collection<Resource> proxyResources = clientProxyGenerator.generate(bean,
-                                resource.getFullyQualifiedName(),
-                                bytecodeTransformerConsumer, transformUnproxyableClasses);
-                        if (bean.isClassBean()) {
-                            for (Resource r : proxyResources) {
-                                if (r.getSpecialType() == SpecialType.CLIENT_PROXY) {
-                                    reflectionRegistration.registerClientProxy(bean.getBeanClass(), r.getFullyQualifiedName());
-                                    break;
-                                }
-                            }
-                        }
-                        resources.addAll(proxyResources);
+            tasks.add(new GenerationTask(bean.isSynthetic(), transformers -> generateBean(bean, beanGenerator,
+                    clientProxyGenerator, subclassGenerator, registration, transformers)));
+        }
+        // Generate observers - a single task is used because inherited observer methods share the same generated class;
+        // the notification logic of synthetic observers is supplied by extensions so the task runs on the calling thread
+        tasks.add(new GenerationTask(true, transformers -> {
+            List<Resource> observerResources = new ArrayList<>();
+            for (ObserverInfo observer : beanDeployment.getObservers()) {
+                observerResources.addAll(observerGenerator.generate(observer));
+            }
+            return observerResources;
+        }));
+
+        List<Collection<Resource>> results = new ArrayList<>(tasks.size());
+        if (executor == null) {
+            for (GenerationTask task : tasks) {
+                results.add(task.call());
+            }
+        } else {
+            List<Future<Collection<Resource>>> futures = new ArrayList<>(tasks.size());
+            for (GenerationTask task : tasks) {
+                futures.add(task.sequential ? null : executor.submit(task));
+            }
+            try {
+                for (int i = 0; i < tasks.size(); i++) {
+                    GenerationTask task = tasks.get(i);
+                    results.add(task.sequential ? task.call() : null);
+                }
+                for (int i = 0; i < tasks.size(); i++) {
+                    Future<Collection<Resource>> future = futures.get(i);
+                    if (future != null) {
+                        results.set(i, getResult(future));
                     }
-                    if (bean.isSubclassRequired()) {
-                        Collection<Resource> subclassResources = subclassGenerator.generate(bean,
-                                resource.getFullyQualifiedName());
-                        for (Resource r : subclassResources) {
-                            if (r.getSpecialType() == SpecialType.SUBCLASS) {
-                                reflectionRegistration.registerSubclass(bean.getBeanClass(), r.getFullyQualifiedName());
-                                break;
-                            }
-                        }
-                        resources.addAll(subclassResources);
+                }
+            } catch (RuntimeException | Error e) {
+                for (Future<Collection<Resource>> future : futures) {
+                    if (future != null) {
+                        future.cancel(true);
                     }
                 }
+                throw e;
             }
         }
-
-        // Generate observers
-        for (ObserverInfo observer : beanDeployment.getObservers()) {
-            for (Resource resource : observerGenerator.generate(observer)) {
-                resources.add(resource);
-            }
+        // Resources and bytecode transformers are produced in the order of tasks, i.e. regardless of the executor
+        List<Resource> resources = new ArrayList<>();
+        for (int i = 0; i < tasks.size(); i++) {
+            resources.addAll(results.get(i));
+            tasks.get(i).transformers.forEach(bytecodeTransformerConsumer);
         }
+        LOGGER.debugf("Generated %s interceptors, %s decorators, %s beans and %s observers in %s ms%s",
+                beanDeployment.getInterceptors().size(), beanDeployment.getDecorators().size(),
+                beanDeployment.getBeans().size(), beanDeployment.getObservers().size(),
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start), executor != null ? " (in parallel)" : "");
 
         privateMembers.log();
 
@@ -254,6 +294,83 @@ public class BeanProcessor {
         return resources;
     }
 
+    private Collection<Resource> generateBean(BeanInfo bean, BeanGenerator beanGenerator,
+            ClientProxyGenerator clientProxyGenerator, SubclassGenerator subclassGenerator,
+            ReflectionRegistration reflectionRegistration, Consumer<BytecodeTransformer> bytecodeTransformerConsumer) {
+        List<Resource> resources = new ArrayList<>();
+        for (Resource resource : beanGenerator.generate(bean)) {
+            resources.add(resource);
+            if (SpecialType.BEAN.equals(resource.getSpecialType())) {
+                if (bean.getScope().isNormal()) {
+                    // Generate client proxy
+                    Collection<Resource> proxyResources = clientProxyGenerator.generate(bean,
+                            resource.getFullyQualifiedName(),
+                            bytecodeTransformerConsumer, transformUnproxyableClasses);
+                    if (bean.isClassBean()) {
+                        for (Resource r : proxyResources) {
+                            if (r.getSpecialType() == SpecialType.CLIENT_PROXY) {
+                                reflectionRegistration.registerClientProxy(bean.getBeanClass(), r.getFullyQualifiedName());
+                                break;
+                            }
+                        }
+                    }
+                    resources.addAll(proxyResources);
+                }
+                if (bean.isSubclassRequired()) {
+                    Collection<Resource> subclassResources = subclassGenerator.generate(bean,
+                            resource.getFullyQualifiedName());
+                    for (Resource r : subclassResources) {
+                        if (r.getSpecialType() == SpecialType.SUBCLASS) {
+                            reflectionRegistration.registerSubclass(bean.getBeanClass(), r.getFullyQualifiedName());
+                            break;
+                        }
+                    }
+                    resources.addAll(subclassResources);
+                }
+            }
+        }
+        return resources;
+    }
+
+    private static final class GenerationTask implements Callable<Collection<Resource>> {
+
+        // If set to true the task is always executed on the calling thread
+        final boolean sequential;
+        // The bytecode transformers produced by this task
+        final List<BytecodeTransformer> transformers;
+        final Function<Consumer<BytecodeTransformer>, Collection<Resource>> generator;
+
+        GenerationTask(boolean sequential, Function<Consumer<BytecodeTransformer>, Collection<Resource>> generator) {
+            this.sequential = sequential;
+            this.transformers = new ArrayList<>();
+            this.generator = generator;
+        }
+
+        @Override
+        public Collection<Resource> call() {
+            return generator.apply(transformers::add);
+        }
+
+    }
+
+    private static Collection<Resource> getResult(Future<Collection<Resource>> result) {
+        try {
+            return result.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while generating resources", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
     public BeanDeployment getBeanDeployment() {
         return beanDeployment;
     }
@@ -628,7 +745,7 @@ public class BeanProcessor {
             this.fwkDescriptions = LOGGER.isDebugEnabled() ? new ArrayList<>() : null;
         }
 
-        void add(boolean isApplicationClass, String description) {
+        synchronized void add(boolean isApplicationClass, String description) {
             if (isApplicationClass) {
                 appDescriptions.add(description);
             } else if (fwkDescriptions != null) {
@@ -640,7 +757,8 @@ public class BeanProcessor {
             // Log application problems
             if (!appDescriptions.isEmpty()) {
                 int limit = LOGGER.isDebugEnabled() ? Integer.MAX_VALUE : 3;
-                String info = appDescriptions.stream().limit(limit).map(d -> "\t- " + d).collect(Collectors.joining(",\n"));
+                String info = appDescriptions.stream().sorted().limit(limit).map(d -> "\t- " + d)
+                        .collect(Collectors.joining(",\n"));
                 if (appDescriptions.size() > limit) {
                     info += "\n\t- and " + (appDescriptions.size() - limit)
                             + " more - please enable debug logging to see the full list";
@@ -653,7 +771,7 @@ public class BeanProcessor {
             if (fwkDescriptions != null && !fwkDescriptions.isEmpty()) {
                 LOGGER.debugf(
                         "Found unrecommended usage of private members (use package-private instead) in framework beans:%n%s",
-                        fwkDescriptions.stream().map(d -> "\t- " + d).collect(Collectors.joining(",\n")));
+                        fwkDescriptions.stream().sorted().map(d -> "\t- " + d).collect(Collectors.joining(",\n")));
             }
         }
 
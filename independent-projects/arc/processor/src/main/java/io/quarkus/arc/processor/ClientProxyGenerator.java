@@ -8,6 +8,7 @@ import static org.objectweb.asm.Opcodes.ACC_VOLATILE;
 import io.quarkus.arc.ClientProxy;
 import io.quarkus.arc.InjectableBean;
 import io.quarkus.arc.InjectableContext;
+import io.quarkus.arc.impl.ContextInstanceHandleImpl;
 import io.quarkus.arc.impl.Mockable;
 import io.quarkus.arc.processor.BeanGenerator.ProviderType;
 import io.quarkus.arc.processor.ResourceOutput.Resource;
@@ -53,6 +54,7 @@ public class ClientProxyGenerator extends AbstractGenerator {
     static final String BEAN_FIELD = "bean";
     static final String MOCK_FIELD = "mock";
     static final String CONTEXT_FIELD = "context";
+    static final String HANDLE_FIELD = "handle";
 
     private final Predicate<DotName> applicationClassPredicate;
     private final boolean mockable;
@@ -132,6 +134,9 @@ public class ClientProxyGenerator extends AbstractGenerator {
             // It is safe to store the application context instance on the proxy
             contextField = clientProxy.getFieldCreator(CONTEXT_FIELD, InjectableContext.class)
                     .setModifiers(ACC_PRIVATE | ACC_FINAL);
+            // The handle of the contextual instance is cached until the instance is destroyed
+            clientProxy.getFieldCreator(HANDLE_FIELD, ContextInstanceHandleImpl.class)
+                    .setModifiers(ACC_PRIVATE | ACC_VOLATILE);
         }
 
         createConstructor(clientProxy, superClass, beanField.getFieldDescriptor(),
@@ -290,11 +295,24 @@ public class ClientProxyGenerator extends AbstractGenerator {
 
         if (BuiltinScope.APPLICATION.is(bean.getScope())) {
             // Application context is stored in a field and is always active
-            creator.returnValue(creator.invokeStaticMethod(MethodDescriptors.CLIENT_PROXIES_GET_APP_SCOPED_DELEGATE,
+            // The contextual instance can only be destroyed explicitly so we don't need to query the context for every call
+            FieldDescriptor handleField = FieldDescriptor.of(clientProxy.getClassName(), HANDLE_FIELD,
+                    ContextInstanceHandleImpl.class);
+            // if (handle != null && !handle.isDestroyed()) return handle.get()
+            ResultHandle handle = creator.readInstanceField(handleField, creator.getThis());
+            BytecodeCreator cached = creator.ifNotNull(handle).trueBranch();
+            BytecodeCreator notDestroyed = cached
+                    .ifFalse(cached.invokeVirtualMethod(MethodDescriptors.CONTEXT_INSTANCE_HANDLE_IS_DESTROYED, handle))
+                    .trueBranch();
+            notDestroyed.returnValue(notDestroyed.invokeInterfaceMethod(MethodDescriptors.INSTANCE_HANDLE_GET, handle));
+            // handle = ClientProxies.getApplicationScopedHandle(context, bean)
+            ResultHandle newHandle = creator.invokeStaticMethod(MethodDescriptors.CLIENT_PROXIES_GET_APP_SCOPED_HANDLE,
                     creator.readInstanceField(
                             FieldDescriptor.of(clientProxy.getClassName(), CONTEXT_FIELD, InjectableContext.class),
                             creator.getThis()),
-                    beanHandle));
+                    beanHandle);
+            creator.writeInstanceField(handleField, creator.getThis(), newHandle);
+            creator.returnValue(creator.invokeInterfaceMethod(MethodDescriptors.INSTANCE_HANDLE_GET, newHandle));
         } else {
             creator.returnValue(creator.invokeStaticMethod(MethodDescriptors.CLIENT_PROXIES_GET_DELEGATE,
                     beanHandle));
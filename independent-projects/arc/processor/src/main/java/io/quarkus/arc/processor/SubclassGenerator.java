@@ -304,9 +304,12 @@ public class SubclassGenerator extends AbstractGenerator {
             List<Type> parameters = method.parameters();
 
             if (interception != null) {
-                // Each intercepted method has a corresponding InterceptedMethodMetadata field
+                // Each intercepted method has a corresponding InterceptedMethodMetadata field and a forwarding function field
                 FieldCreator metadataField = subclass
-                        .getFieldCreator("arc$" + methodIdx++, InterceptedMethodMetadata.class.getName())
+                        .getFieldCreator("arc$" + methodIdx, InterceptedMethodMetadata.class.getName())
+                        .setModifiers(ACC_PRIVATE | ACC_FINAL);
+                FieldCreator forwardFunctionField = subclass
+                        .getFieldCreator("arc$" + methodIdx++ + "$forward", Function.class.getName())
                         .setModifiers(ACC_PRIVATE | ACC_FINAL);
 
                 // 1. Interceptor chain
@@ -341,13 +344,18 @@ public class SubclassGenerator extends AbstractGenerator {
 
                 constructor.writeInstanceField(metadataField.getFieldDescriptor(), constructor.getThis(), methodMetadataHandle);
 
+                // 4. Function<InvocationContext, Object> forward = ctx -> super.foo((java.lang.String)ctx.getParameters()[0])
+                DecoratorInfo decorator = decoration != null ? decoration.decorators.get(0) : null;
+                constructor.writeInstanceField(forwardFunctionField.getFieldDescriptor(), constructor.getThis(),
+                        createForwardingFunction(constructor, method, subclass, forwardDescriptor, decorator));
+
                 // Needed when running on native image
                 reflectionRegistration.registerMethod(method);
 
                 // Finally create the intercepted method
                 createInterceptedMethod(classOutput, bean, method, subclass, providerTypeName,
-                        metadataField.getFieldDescriptor(), constructedField.getFieldDescriptor(), forwardDescriptor,
-                        decoration != null ? decoration.decorators.get(0) : null);
+                        metadataField.getFieldDescriptor(), forwardFunctionField.getFieldDescriptor(),
+                        constructedField.getFieldDescriptor(), forwardDescriptor, decorator);
             } else {
                 // Only decorators are applied
                 MethodCreator decoratedMethod = subclass.getMethodCreator(methodDescriptor);
@@ -662,49 +670,26 @@ public class SubclassGenerator extends AbstractGenerator {
         return forwardDescriptor;
     }
 
-    private void createInterceptedMethod(ClassOutput classOutput, BeanInfo bean, MethodInfo method, ClassCreator subclass,
-            String providerTypeName, FieldDescriptor metadataField, FieldDescriptor constructedField,
+    /**
+     * The forwarding function does not depend on the invocation and so it is created once per subclass instance.
+     *
+     * @return the handle of the forwarding function
+     */
+    private ResultHandle createForwardingFunction(MethodCreator constructor, MethodInfo method, ClassCreator subclass,
             MethodDescriptor forwardMethod, DecoratorInfo decorator) {
-
-        MethodDescriptor originalMethodDescriptor = MethodDescriptor.of(method);
-        MethodCreator interceptedMethod = subclass.getMethodCreator(originalMethodDescriptor);
-
-        // Params
-        // Object[] params = new Object[] {p1}
+        MethodDescriptor methodDescriptor = MethodDescriptor.of(method);
         List<Type> parameters = method.parameters();
-        ResultHandle paramsHandle;
-        if (parameters.isEmpty()) {
-            paramsHandle = interceptedMethod.loadNull();
-        } else {
-            paramsHandle = interceptedMethod.newArray(Object.class,
-                    interceptedMethod.load(parameters.size()));
-            for (int i = 0; i < parameters.size(); i++) {
-                interceptedMethod.writeArrayValue(paramsHandle, i, interceptedMethod.getMethodParam(i));
-            }
-        }
-
-        // Delegate to super class if not constructed yet
-        BytecodeCreator notConstructed = interceptedMethod
-                .ifFalse(interceptedMethod.readInstanceField(constructedField, interceptedMethod.getThis())).trueBranch();
-        ResultHandle[] params = new ResultHandle[parameters.size()];
-        for (int i = 0; i < parameters.size(); ++i) {
-            params[i] = notConstructed.getMethodParam(i);
-        }
-        if (Modifier.isAbstract(method.flags())) {
-            notConstructed.throwException(IllegalStateException.class, "Cannot delegate to an abstract method");
-        } else {
-            notConstructed.returnValue(notConstructed.invokeVirtualMethod(forwardMethod, notConstructed.getThis(), params));
-        }
 
+        // The decorator instance is set before the interceptor chains are initialized
         ResultHandle decoratorHandle = null;
         if (decorator != null) {
-            decoratorHandle = interceptedMethod.readInstanceField(FieldDescriptor.of(subclass.getClassName(),
-                    decorator.getIdentifier(), Object.class.getName()), interceptedMethod.getThis());
+            decoratorHandle = constructor.readInstanceField(FieldDescriptor.of(subclass.getClassName(),
+                    decorator.getIdentifier(), Object.class.getName()), constructor.getThis());
         }
 
         // Forwarding function
         // Function<InvocationContext, Object> forward = ctx -> super.foo((java.lang.String)ctx.getParameters()[0])
-        FunctionCreator func = interceptedMethod.createFunction(Function.class);
+        FunctionCreator func = constructor.createFunction(Function.class);
         BytecodeCreator funcBytecode = func.getBytecode();
         ResultHandle ctxHandle = funcBytecode.getMethodParam(0);
         ResultHandle[] superParamHandles;
@@ -730,17 +715,53 @@ public class SubclassGenerator extends AbstractGenerator {
                 String targetPackage = DotNames.packageName(decorator.getProviderType().name());
                 declaringClass = generatedNameFromTarget(targetPackage, baseName, DecoratorGenerator.ABSTRACT_IMPL_SUFFIX);
             }
-            MethodDescriptor methodDescriptor = MethodDescriptor.ofMethod(
-                    declaringClass, originalMethodDescriptor.getName(),
-                    originalMethodDescriptor.getReturnType(), originalMethodDescriptor.getParameterTypes());
-            funcBytecode
-                    .returnValue(funcBytecode.invokeVirtualMethod(methodDescriptor, funDecoratorInstance, superParamHandles));
+            MethodDescriptor virtualMethodDescriptor = MethodDescriptor.ofMethod(
+                    declaringClass, methodDescriptor.getName(),
+                    methodDescriptor.getReturnType(), methodDescriptor.getParameterTypes());
+            funcBytecode.returnValue(
+                    funcBytecode.invokeVirtualMethod(virtualMethodDescriptor, funDecoratorInstance, superParamHandles));
 
         } else {
-            ResultHandle superResult = funcBytecode.invokeVirtualMethod(forwardMethod, interceptedMethod.getThis(),
+            ResultHandle superResult = funcBytecode.invokeVirtualMethod(forwardMethod, constructor.getThis(),
                     superParamHandles);
             funcBytecode.returnValue(superResult != null ? superResult : funcBytecode.loadNull());
         }
+        return func.getInstance();
+    }
+
+    private void createInterceptedMethod(ClassOutput classOutput, BeanInfo bean, MethodInfo method, ClassCreator subclass,
+            String providerTypeName, FieldDescriptor metadataField, FieldDescriptor forwardFunctionField,
+            FieldDescriptor constructedField, MethodDescriptor forwardMethod, DecoratorInfo decorator) {
+
+        MethodDescriptor originalMethodDescriptor = MethodDescriptor.of(method);
+        MethodCreator interceptedMethod = subclass.getMethodCreator(originalMethodDescriptor);
+
+        // Params
+        // Object[] params = new Object[] {p1}
+        List<Type> parameters = method.parameters();
+        ResultHandle paramsHandle;
+        if (parameters.isEmpty()) {
+            paramsHandle = interceptedMethod.loadNull();
+        } else {
+            paramsHandle = interceptedMethod.newArray(Object.class,
+                    interceptedMethod.load(parameters.size()));
+            for (int i = 0; i < parameters.size(); i++) {
+                interceptedMethod.writeArrayValue(paramsHandle, i, interceptedMethod.getMethodParam(i));
+            }
+        }
+
+        // Delegate to super class if not constructed yet
+        BytecodeCreator notConstructed = interceptedMethod
+                .ifFalse(interceptedMethod.readInstanceField(constructedField, interceptedMethod.getThis())).trueBranch();
+        ResultHandle[] params = new ResultHandle[parameters.size()];
+        for (int i = 0; i < parameters.size(); ++i) {
+            params[i] = notConstructed.getMethodParam(i);
+        }
+        if (Modifier.isAbstract(method.flags())) {
+            notConstructed.throwException(IllegalStateException.class, "Cannot delegate to an abstract method");
+        } else {
+            notConstructed.returnValue(notConstructed.invokeVirtualMethod(forwardMethod, notConstructed.getThis(), params));
+        }
 
         for (Type declaredException : method.exceptions()) {
             interceptedMethod.addException(declaredException.name().toString());
@@ -785,7 +806,8 @@ public class SubclassGenerator extends AbstractGenerator {
         ResultHandle methodMetadataHandle = tryCatch.readInstanceField(metadataField, tryCatch.getThis());
         ResultHandle ret = tryCatch.invokeStaticMethod(MethodDescriptors.INVOCATION_CONTEXTS_PERFORM_AROUND_INVOKE,
                 tryCatch.getThis(),
-                tryCatch.readInstanceField(FIELD_METADATA_METHOD, methodMetadataHandle), func.getInstance(), paramsHandle,
+                tryCatch.readInstanceField(FIELD_METADATA_METHOD, methodMetadataHandle),
+                tryCatch.readInstanceField(forwardFunctionField, tryCatch.getThis()), paramsHandle,
                 tryCatch.readInstanceField(FIELD_METADATA_CHAIN, methodMetadataHandle),
                 tryCatch.readInstanceField(FIELD_METADATA_BINDINGS, methodMetadataHandle));
         tryCatch.returnValue(ret);
@@ -0,0 +1,127 @@
+package io.quarkus.arc.processor;
+
+import static io.quarkus.arc.processor.Basics.index;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import io.quarkus.arc.processor.ResourceOutput.Resource;
+import io.quarkus.arc.processor.types.Baz;
+import io.quarkus.arc.processor.types.Foo;
+import io.quarkus.arc.processor.types.FooQualifier;
+import java.io.IOException;
+import java.util.AbstractCollection;
+import java.util.AbstractList;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.context.Dependent;
+import javax.enterprise.event.Observes;
+import javax.enterprise.inject.Any;
+import javax.enterprise.inject.Default;
+import javax.enterprise.inject.Produces;
+import javax.inject.Inject;
+import org.jboss.jandex.Index;
+import org.junit.jupiter.api.Test;
+
+public class GenerateResourcesTest {
+
+    @Test
+    public void testParallelGeneration() throws IOException {
+        Index index = index(Foo.class, Baz.class, FooQualifier.class, Alpha.class, Bravo.class, Default.class, Any.class,
+                AbstractList.class, AbstractCollection.class, Collection.class, List.class, Iterable.class, Object.class,
+                String.class, Long.class, Number.class, Charlie.class, Delta.class, Integer.class, Comparable.class);
+
+        List<String> sequentialTransformers = new ArrayList<>();
+        List<String> sequential = generate(index, null, sequentialTransformers);
+        assertFalse(sequential.isEmpty());
+        assertEquals(2, sequentialTransformers.size());
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<String> parallelTransformers = new ArrayList<>();
+            Set<Thread> creatorThreads = ConcurrentHashMap.newKeySet();
+            // The order of resources and transformers must not depend on the executor
+            assertEquals(sequential, generate(index, executor, parallelTransformers, creatorThreads));
+            assertEquals(sequentialTransformers, parallelTransformers);
+            // Synthetic beans are always generated on the calling thread
+            assertEquals(1, creatorThreads.size());
+            assertSame(Thread.currentThread(), creatorThreads.iterator().next());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private List<String> generate(Index index, ExecutorService executor, List<String> transformed) throws IOException {
+        return generate(index, executor, transformed, ConcurrentHashMap.newKeySet());
+    }
+
+    private List<String> generate(Index index, ExecutorService executor, List<String> transformed,
+            Set<Thread> creatorThreads) throws IOException {
+        Consumer<BytecodeTransformer> transformers = t -> transformed.add(t.getClassToTransform());
+        BeanProcessor processor = BeanProcessor.builder().setBeanArchiveIndex(index).setTransformUnproxyableClasses(true)
+                .addBeanRegistrar(context -> context.configure(Integer.class).unremovable().types(Integer.class)
+                        .creator(mc -> {
+                            creatorThreads.add(Thread.currentThread());
+                            mc.returnValue(mc.load(1));
+                        }).done())
+                .build();
+        processor.registerCustomContexts();
+        processor.registerScopes();
+        processor.registerBeans();
+        processor.getBeanDeployment().initBeanByTypeMap();
+        processor.registerSyntheticObservers();
+        processor.initialize(t -> {
+        }, List.of());
+        processor.processValidationErrors(processor.validate(t -> {
+        }));
+        return processor.generateResources(null, new HashSet<>(), transformers, false, executor).stream()
+                .map(Resource::getName).collect(Collectors.toList());
+    }
+
+    @ApplicationScoped
+    static class Alpha {
+
+        void observe(@Observes String event) {
+        }
+
+    }
+
+    @Dependent
+    static class Bravo {
+
+        @Inject
+        Alpha alpha;
+
+        @Produces
+        Long produce() {
+            return 1L;
+        }
+
+    }
+
+    @ApplicationScoped
+    static class Charlie {
+
+        final void ping() {
+        }
+
+    }
+
+    @ApplicationScoped
+    static class Delta {
+
+        final void ping() {
+        }
+
+    }
+
+}
@@ -16,12 +16,22 @@ public final class Arc {
      * @return the initialized container
      */
     public static ArcContainer initialize() {
+        return initialize(null);
+    }
+
+    /**
+     *
+     * @param currentContextFactory the factory used to store the state of the built-in request context, may be
+     *        {@code null} in which case a {@link ThreadLocal} is used
+     * @return the initialized container
+     */
+    public static ArcContainer initialize(CurrentContextFactory currentContextFactory) {
         ArcContainerImpl container = INSTANCE.get();
         if (container == null) {
             synchronized (INSTANCE) {
                 container = INSTANCE.get();
                 if (container == null) {
-                    container = new ArcContainerImpl();
+                    container = new ArcContainerImpl(currentContextFactory);
                     // Set the container instance first because Arc.container() can be used within ArcContainerImpl.init() 
                     INSTANCE.set(container);
                     container.init();
@@ -0,0 +1,43 @@
+package io.quarkus.arc;
+
+import java.util.concurrent.Executor;
+import javax.enterprise.event.Event;
+import javax.enterprise.event.NotificationOptions;
+
+/**
+ * Notification options supported by the container when firing asynchronous events.
+ *
+ * @see Event#fireAsync(Object, NotificationOptions)
+ */
+public final class AsyncNotification {
+
+    /**
+     * If set to {@link Boolean#TRUE} the events fired asynchronously by the same {@link Event} instance are queued and
+     * delivered sequentially by a single executor task, instead of submitting a task for each event.
+     * <p>
+     * This reduces the overhead of high-frequency events. However, the observers are not notified concurrently and a slow
+     * observer delays the delivery of the subsequent events.
+     */
+    public static final String BATCHED = "io.quarkus.arc.async.batched";
+
+    /**
+     *
+     * @return the options of a batched notification that uses the default executor
+     */
+    public static NotificationOptions batched() {
+        return NotificationOptions.builder().set(BATCHED, Boolean.TRUE).build();
+    }
+
+    /**
+     *
+     * @param executor
+     * @return the options of a batched notification that uses the given executor
+     */
+    public static NotificationOptions batched(Executor executor) {
+        return NotificationOptions.builder().setExecutor(executor).set(BATCHED, Boolean.TRUE).build();
+    }
+
+    private AsyncNotification() {
+    }
+
+}
@@ -0,0 +1,30 @@
+package io.quarkus.arc;
+
+import io.quarkus.arc.InjectableContext.ContextState;
+
+/**
+ * Holds the state of the current context for a particular normal scope.
+ *
+ * @param <T> the type of the context state
+ * @see CurrentContextFactory
+ */
+public interface CurrentContext<T extends ContextState> {
+
+    /**
+     *
+     * @return the current state or {@code null} if the context is not active
+     */
+    T get();
+
+    /**
+     *
+     * @param state
+     */
+    void set(T state);
+
+    /**
+     * Removes the current state.
+     */
+    void remove();
+
+}
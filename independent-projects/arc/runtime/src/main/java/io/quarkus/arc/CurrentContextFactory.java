@@ -0,0 +1,24 @@
+package io.quarkus.arc;
+
+import io.quarkus.arc.InjectableContext.ContextState;
+import java.lang.annotation.Annotation;
+
+/**
+ * This factory can be used to create a new {@link CurrentContext} for a normal scope, e.g. for
+ * {@link javax.enterprise.context.RequestScoped}. By default, the state is stored in a {@link ThreadLocal}. An integrator
+ * may provide a different storage, e.g. one that is bound to the current reactive processing so that the state does not
+ * need to be captured and restored when the processing moves from one thread to another.
+ *
+ * @see Arc#initialize(CurrentContextFactory)
+ */
+public interface CurrentContextFactory {
+
+    /**
+     *
+     * @param <T>
+     * @param scope
+     * @return a new current context
+     */
+    <T extends ContextState> CurrentContext<T> create(Class<? extends Annotation> scope);
+
+}
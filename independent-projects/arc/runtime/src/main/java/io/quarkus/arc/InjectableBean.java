@@ -140,6 +140,16 @@ public interface InjectableBean<T> extends Bean<T>, InjectableReferenceProvider<
         return 0;
     }
 
+    /**
+     * Request scoped beans discovered at build time are assigned a unique index, so that the request context can store
+     * their contextual instances in an array.
+     *
+     * @return the index of the slot in the request context, or {@code -1} if no index was assigned
+     */
+    default int getRequestContextIndex() {
+        return -1;
+    }
+
     enum Kind {
 
         CLASS,
@@ -31,6 +31,17 @@ abstract class AbstractSharedContext implements InjectableContext, InjectableCon
         }).get();
     }
 
+    @SuppressWarnings("unchecked")
+    <T> ContextInstanceHandleImpl<T> getInstanceHandle(InjectableBean<T> bean, CreationalContext<T> creationalContext) {
+        return (ContextInstanceHandleImpl<T>) instances.computeIfAbsent(bean.getIdentifier(),
+                new Supplier<ContextInstanceHandle<?>>() {
+                    @Override
+                    public ContextInstanceHandle<?> get() {
+                        return createInstanceHandle(bean, creationalContext);
+                    }
+                });
+    }
+
     @SuppressWarnings("unchecked")
     @Override
     public <T> T get(Contextual<T> contextual) {
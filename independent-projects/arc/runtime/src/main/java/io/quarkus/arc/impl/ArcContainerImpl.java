@@ -6,6 +6,7 @@ import io.quarkus.arc.Arc;
 import io.quarkus.arc.ArcContainer;
 import io.quarkus.arc.Components;
 import io.quarkus.arc.ComponentsProvider;
+import io.quarkus.arc.CurrentContextFactory;
 import io.quarkus.arc.InjectableBean;
 import io.quarkus.arc.InjectableContext;
 import io.quarkus.arc.InjectableDecorator;
@@ -23,6 +24,7 @@ import java.lang.reflect.Type;
 import java.lang.reflect.TypeVariable;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
@@ -95,7 +97,7 @@ public class ArcContainerImpl implements ArcContainer {
 
     private volatile ExecutorService executorService;
 
-    public ArcContainerImpl() {
+    public ArcContainerImpl(CurrentContextFactory currentContextFactory) {
         id = String.valueOf(ID_GENERATOR.incrementAndGet());
         running = new AtomicBoolean(true);
         List<InjectableBean<?>> beans = new ArrayList<>();
@@ -105,14 +107,7 @@ public class ArcContainerImpl implements ArcContainer {
         List<InjectableObserverMethod<?>> observers = new ArrayList<>();
         Map<Class<? extends Annotation>, Set<Annotation>> transitiveInterceptorBindings = new HashMap<>();
         Map<String, Set<String>> qualifierNonbindingMembers = new HashMap<>();
-
-        applicationContext = new ApplicationContext();
-        singletonContext = new SingletonContext();
-        requestContext = new RequestContext();
-        contexts = new HashMap<>();
-        putContext(requestContext);
-        putContext(applicationContext);
-        putContext(singletonContext);
+        List<InjectableContext> customContexts = new ArrayList<>();
 
         for (ComponentsProvider componentsProvider : ServiceLoader.load(ComponentsProvider.class)) {
             Components components = componentsProvider.getComponents();
@@ -137,7 +132,7 @@ public class ArcContainerImpl implements ArcContainer {
                     throw new IllegalStateException(
                             "Failed to register a context - built-in singleton context is always active: " + context);
                 }
-                putContext(context);
+                customContexts.add(context);
             }
             transitiveInterceptorBindings.putAll(components.getTransitiveInterceptorBindings());
             qualifierNonbindingMembers.putAll(components.getQualifierNonbindingMembers());
@@ -145,6 +140,19 @@ public class ArcContainerImpl implements ArcContainer {
         // register built-in beans
         addBuiltInBeans(beans);
 
+        applicationContext = new ApplicationContext();
+        singletonContext = new SingletonContext();
+        requestContext = new RequestContext(
+                currentContextFactory != null ? currentContextFactory : ThreadLocalCurrentContextFactory.INSTANCE,
+                requestContextSize(beans));
+        contexts = new HashMap<>();
+        putContext(requestContext);
+        putContext(applicationContext);
+        putContext(singletonContext);
+        for (InjectableContext context : customContexts) {
+            putContext(context);
+        }
+
         interceptors.sort((i1, i2) -> Integer.compare(i2.getPriority(), i1.getPriority()));
 
         resolved = new ComputingCache<>(this::resolve);
@@ -179,6 +187,27 @@ public class ArcContainerImpl implements ArcContainer {
         }
     }
 
+    /**
+     * The request context indexes are assigned per deployment. If the indexes of the beans do not form a dense range of
+     * unique values, e.g. because several deployments are loaded, the request context falls back to a map for all beans.
+     */
+    private static int requestContextSize(List<InjectableBean<?>> beans) {
+        BitSet indexes = new BitSet();
+        int count = 0;
+        for (InjectableBean<?> bean : beans) {
+            int index = bean.getRequestContextIndex();
+            if (index >= 0) {
+                if (indexes.get(index)) {
+                    LOGGER.debugf("Duplicate request context index %s found for %s - indexed storage disabled", index, bean);
+                    return 0;
+                }
+                indexes.set(index);
+                count++;
+            }
+        }
+        return indexes.length() == count ? count : 0;
+    }
+
     private static void addBuiltInBeans(List<InjectableBean<?>> beans) {
         // BeanManager, Event<?>, Instance<?>
         beans.add(new BeanManagerBean());
@@ -12,12 +12,17 @@ public final class ClientProxies {
     private ClientProxies() {
     }
 
-    public static <T> T getApplicationScopedDelegate(InjectableContext applicationContext, InjectableBean<T> bean) {
-        T result = applicationContext.get(bean);
-        if (result == null) {
-            result = applicationContext.get(bean, newCreationalContext(bean));
-        }
-        return result;
+    /**
+     * The application context is always active and its contextual instances are only destroyed explicitly, so that a client
+     * proxy can hold the returned handle as long as it is not destroyed.
+     *
+     * @param applicationContext
+     * @param bean
+     * @return the handle of the contextual instance, the instance is created if needed
+     */
+    public static <T> ContextInstanceHandleImpl<T> getApplicationScopedHandle(InjectableContext applicationContext,
+            InjectableBean<T> bean) {
+        return ((AbstractSharedContext) applicationContext).getInstanceHandle(bean, newCreationalContext(bean));
     }
 
     public static <T> T getDelegate(InjectableBean<T> bean) {
@@ -11,13 +11,24 @@ import javax.enterprise.context.spi.CreationalContext;
  */
 public class ContextInstanceHandleImpl<T> extends EagerInstanceHandle<T> implements ContextInstanceHandle<T> {
 
+    private volatile boolean destroyed;
+
     public ContextInstanceHandleImpl(InjectableBean<T> bean, T instance, CreationalContext<T> creationalContext) {
         super(bean, instance, creationalContext);
     }
 
     @Override
     public void destroy() {
+        destroyed = true;
         destroyInternal();
     }
 
+    /**
+     *
+     * @return {@code true} if the instance was destroyed by the context, {@code false} otherwise
+     */
+    public boolean isDestroyed() {
+        return destroyed;
+    }
+
 }
@@ -3,6 +3,7 @@ package io.quarkus.arc.impl;
 import static javax.transaction.Status.STATUS_COMMITTED;
 
 import io.quarkus.arc.Arc;
+import io.quarkus.arc.AsyncNotification;
 import io.quarkus.arc.InstanceHandle;
 import io.quarkus.arc.ManagedContext;
 import java.lang.annotation.Annotation;
@@ -14,13 +15,16 @@ import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Queue;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
 import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 import javax.enterprise.event.Event;
@@ -90,10 +94,16 @@ class EventImpl<T> implements Event<T> {
             executor = Arc.container().getExecutorService();
         }
 
-        if (notifier.isEmpty()) {
+        if (!notifier.hasAsyncObservers()) {
             return AsyncEventDeliveryStage.completed(event, executor);
         }
 
+        if (Boolean.TRUE.equals(options.get(AsyncNotification.BATCHED))) {
+            CompletableFuture<U> completableFuture = new CompletableFuture<>();
+            notifier.addToAsyncBatch(executor, event, completableFuture);
+            return new AsyncEventDeliveryStage<>(completableFuture, executor);
+        }
+
         Supplier<U> notifyLogic = new Supplier<U>() {
             @Override
             public U get() {
@@ -197,29 +207,45 @@ class EventImpl<T> implements Event<T> {
         return resolvedType;
     }
 
-    private void handleExceptions(ObserverExceptionHandler handler) {
+    private static void handleExceptions(ObserverExceptionHandler handler) {
+        CompletionException exception = collectExceptions(handler);
+        if (exception != null) {
+            throw exception;
+        }
+    }
+
+    private static CompletionException collectExceptions(ObserverExceptionHandler handler) {
         List<Throwable> handledExceptions = handler.getHandledExceptions();
-        if (!handledExceptions.isEmpty()) {
-            CompletionException exception = null;
-            if (handledExceptions.size() == 1) {
-                exception = new CompletionException(handledExceptions.get(0));
-            } else {
-                exception = new CompletionException(null);
-                for (Throwable handledException : handledExceptions) {
-                    exception.addSuppressed(handledException);
-                }
+        if (handledExceptions.isEmpty()) {
+            return null;
+        }
+        CompletionException exception = null;
+        if (handledExceptions.size() == 1) {
+            exception = new CompletionException(handledExceptions.get(0));
+        } else {
+            exception = new CompletionException(null);
+            for (Throwable handledException : handledExceptions) {
+                exception.addSuppressed(handledException);
             }
-            throw exception;
         }
+        return exception;
     }
 
     static class Notifier<T> {
 
+        private static final Predicate<ObserverMethod<?>> SYNC = om -> !om.isAsync();
+        private static final Predicate<ObserverMethod<?>> ASYNC = ObserverMethod::isAsync;
+
         private final Class<?> runtimeType;
         private final List<ObserverMethod<? super T>> observerMethods;
         private final EventMetadata eventMetadata;
         private final boolean hasTxObservers;
+        private final boolean hasSyncObservers;
+        private final boolean hasAsyncObservers;
         private final boolean activateRequestContext;
+        // Initialized lazily, only used for batched asynchronous notifications
+        // A batch is removed once it is idle, so that the batches of short-lived executors are not retained
+        private volatile ConcurrentMap<Executor, AsyncBatch<T>> asyncBatches;
 
         Notifier(Class<?> runtimeType, List<ObserverMethod<? super T>> observerMethods, EventMetadata eventMetadata) {
             this(runtimeType, observerMethods, eventMetadata, true);
@@ -231,6 +257,8 @@ class EventImpl<T> implements Event<T> {
             this.observerMethods = observerMethods;
             this.eventMetadata = eventMetadata;
             this.hasTxObservers = observerMethods.stream().anyMatch(this::isTxObserver);
+            this.hasSyncObservers = observerMethods.stream().anyMatch(SYNC);
+            this.hasAsyncObservers = observerMethods.stream().anyMatch(ASYNC);
             this.activateRequestContext = activateRequestContext;
         }
 
@@ -238,12 +266,11 @@ class EventImpl<T> implements Event<T> {
             notify(event, ObserverExceptionHandler.IMMEDIATE_HANDLER, false);
         }
 
-        @SuppressWarnings("rawtypes")
+        @SuppressWarnings({ "rawtypes", "unchecked" })
         void notify(T event, ObserverExceptionHandler exceptionHandler, boolean async) {
-            if (!isEmpty()) {
+            if (async ? hasAsyncObservers : hasSyncObservers) {
 
-                Predicate<ObserverMethod<? super T>> predicate = async ? ObserverMethod::isAsync
-                        : Predicate.not(ObserverMethod::isAsync);
+                Predicate<ObserverMethod<? super T>> predicate = (Predicate) (async ? ASYNC : SYNC);
 
                 if (!async && hasTxObservers) {
                     // Note that tx observers are never async
@@ -329,6 +356,41 @@ class EventImpl<T> implements Event<T> {
             return observerMethods.isEmpty();
         }
 
+        boolean hasAsyncObservers() {
+            return hasAsyncObservers;
+        }
+
+        void addToAsyncBatch(Executor executor, T event, CompletableFuture<T> future) {
+            ConcurrentMap<Executor, AsyncBatch<T>> batches = asyncBatches;
+            if (batches == null) {
+                synchronized (this) {
+                    batches = asyncBatches;
+                    if (batches == null) {
+                        batches = asyncBatches = new ConcurrentHashMap<>(DEFAULT_CACHE_CAPACITY);
+                    }
+                }
+            }
+            PendingEvent<T> pending = new PendingEvent<>(event, future);
+            // The event is queued atomically with respect to the removal of an idle batch, so it is never added to a batch
+            // that was already removed
+            AsyncBatch<T> batch = batches.compute(executor, (e, b) -> {
+                if (b == null) {
+                    b = new AsyncBatch<>(this, e);
+                }
+                b.queue.add(pending);
+                return b;
+            });
+            // The task must not be submitted while computing, a synchronous executor would then remove the batch recursively
+            batch.schedule();
+        }
+
+        void removeIfIdle(AsyncBatch<T> batch) {
+            ConcurrentMap<Executor, AsyncBatch<T>> batches = asyncBatches;
+            if (batches != null) {
+                batches.computeIfPresent(batch.executor, (e, b) -> b == batch && b.isIdle() ? null : b);
+            }
+        }
+
         private boolean isTxObserver(ObserverMethod<?> observer) {
             return !observer.getTransactionPhase().equals(TransactionPhase.IN_PROGRESS);
         }
@@ -343,6 +405,83 @@ class EventImpl<T> implements Event<T> {
 
     }
 
+    /**
+     * Delivers the batched asynchronous events of a notifier sequentially. The events fired while a batch is being delivered
+     * are picked up by the same executor task.
+     */
+    static class AsyncBatch<T> implements Runnable {
+
+        // The max number of events delivered by a single task so that a busy batch does not monopolize an executor thread
+        private static final int MAX_EVENTS_PER_TASK = 1024;
+
+        private final Notifier<T> notifier;
+        private final Executor executor;
+        private final Queue<PendingEvent<T>> queue;
+        private final AtomicBoolean scheduled;
+
+        AsyncBatch(Notifier<T> notifier, Executor executor) {
+            this.notifier = notifier;
+            this.executor = executor;
+            this.queue = new ConcurrentLinkedQueue<>();
+            this.scheduled = new AtomicBoolean();
+        }
+
+        void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    executor.execute(this);
+                } catch (RuntimeException e) {
+                    scheduled.set(false);
+                    throw e;
+                }
+            }
+        }
+
+        @Override
+        public void run() {
+            PendingEvent<T> pending;
+            int delivered = 0;
+            while (delivered++ < MAX_EVENTS_PER_TASK && (pending = queue.poll()) != null) {
+                try {
+                    ObserverExceptionHandler exceptionHandler = new CollectingExceptionHandler();
+                    notifier.notify(pending.event, exceptionHandler, true);
+                    CompletionException exception = collectExceptions(exceptionHandler);
+                    if (exception != null) {
+                        pending.future.completeExceptionally(exception);
+                    } else {
+                        pending.future.complete(pending.event);
+                    }
+                } catch (Throwable e) {
+                    pending.future.completeExceptionally(new CompletionException(e));
+                }
+            }
+            scheduled.set(false);
+            // Events added after the last poll need to be delivered by another task
+            if (!queue.isEmpty()) {
+                schedule();
+            } else {
+                notifier.removeIfIdle(this);
+            }
+        }
+
+        boolean isIdle() {
+            return queue.isEmpty() && !scheduled.get();
+        }
+
+    }
+
+    static final class PendingEvent<T> {
+
+        final T event;
+        final CompletableFuture<T> future;
+
+        PendingEvent(T event, CompletableFuture<T> future) {
+            this.event = event;
+            this.future = future;
+        }
+
+    }
+
     static class EventContextImpl<T> implements EventContext<T> {
 
         private final T payload;
@@ -1,19 +1,22 @@
 package io.quarkus.arc.impl;
 
 import io.quarkus.arc.ContextInstanceHandle;
+import io.quarkus.arc.CurrentContext;
+import io.quarkus.arc.CurrentContextFactory;
 import io.quarkus.arc.InjectableBean;
 import io.quarkus.arc.ManagedContext;
 import io.quarkus.arc.impl.EventImpl.Notifier;
 import java.lang.annotation.Annotation;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
-import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 import javax.enterprise.context.BeforeDestroyed;
 import javax.enterprise.context.ContextNotActiveException;
 import javax.enterprise.context.Destroyed;
@@ -33,14 +36,18 @@ class RequestContext implements ManagedContext {
 
     private static final Logger LOGGER = Logger.getLogger(RequestContext.class.getPackage().getName());
 
-    // It's a normal scope so there may be no more than one mapped instance per contextual type per thread
-    private final ThreadLocal<RequestContextState> currentContext = new ThreadLocal<>();
+    private final CurrentContext<RequestContextState> currentContext;
 
     private final LazyValue<Notifier<Object>> initializedNotifier;
     private final LazyValue<Notifier<Object>> beforeDestroyedNotifier;
     private final LazyValue<Notifier<Object>> destroyedNotifier;
 
-    public RequestContext() {
+    // The number of request scoped beans with an index assigned at build time
+    private final int indexedSize;
+
+    public RequestContext(CurrentContextFactory currentContextFactory, int indexedSize) {
+        this.currentContext = currentContextFactory.create(RequestScoped.class);
+        this.indexedSize = indexedSize;
         this.initializedNotifier = new LazyValue<>(RequestContext::createInitializedNotifier);
         this.beforeDestroyedNotifier = new LazyValue<>(RequestContext::createBeforeDestroyedNotifier);
         this.destroyedNotifier = new LazyValue<>(RequestContext::createDestroyedNotifier);
@@ -58,17 +65,21 @@ class RequestContext implements ManagedContext {
         Objects.requireNonNull(creationalContextFun, "CreationalContext supplier must not be null");
         RequestContextState ctxState = currentContext.get();
         if (ctxState == null) {
-            // Thread local not set - context is not active!
+            // Current context not set - context is not active!
             return null;
         }
-        Map<Contextual<?>, ContextInstanceHandle<?>> ctxMap = currentContext.get().value;
-        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) ctxMap.get(contextual);
+        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) ctxState.get(contextual);
         if (instance == null) {
             CreationalContext<T> creationalContext = creationalContextFun.apply(contextual);
             // Bean instance does not exist - create one if we have CreationalContext
             instance = new ContextInstanceHandleImpl<T>((InjectableBean<T>) contextual,
                     contextual.create(creationalContext), creationalContext);
-            ctxMap.put(contextual, instance);
+            ContextInstanceHandle<T> existing = (ContextInstanceHandle<T>) ctxState.putIfAbsent(contextual, instance);
+            if (existing != null) {
+                // Another thread sharing the same state was faster - discard our instance
+                instance.destroy();
+                instance = existing;
+            }
         }
         return instance.get();
     }
@@ -78,7 +89,7 @@ class RequestContext implements ManagedContext {
         T result = getIfActive(contextual,
                 CreationalContextImpl.unwrap(Objects.requireNonNull(creationalContext, "CreationalContext must not be null")));
         if (result == null) {
-            // Thread local not set - context is not active!
+            // Current context not set - context is not active!
             throw new ContextNotActiveException();
         }
         return result;
@@ -88,12 +99,12 @@ class RequestContext implements ManagedContext {
     @Override
     public <T> T get(Contextual<T> contextual) {
         Objects.requireNonNull(contextual, "Contextual must not be null");
-        Map<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get().value;
-        if (ctx == null) {
-            // Thread local not set - context is not active!
+        RequestContextState ctxState = currentContext.get();
+        if (ctxState == null) {
+            // Current context not set - context is not active!
             throw new ContextNotActiveException();
         }
-        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) ctx.get(contextual);
+        ContextInstanceHandle<T> instance = (ContextInstanceHandle<T>) ctxState.get(contextual);
         return instance == null ? null : instance.get();
     }
 
@@ -104,12 +115,12 @@ class RequestContext implements ManagedContext {
 
     @Override
     public void destroy(Contextual<?> contextual) {
-        Map<Contextual<?>, ContextInstanceHandle<?>> ctx = currentContext.get().value;
-        if (ctx == null) {
-            // Thread local not set - context is not active!
+        RequestContextState ctxState = currentContext.get();
+        if (ctxState == null) {
+            // Current context not set - context is not active!
             throw new ContextNotActiveException();
         }
-        ContextInstanceHandle<?> instance = ctx.remove(contextual);
+        ContextInstanceHandle<?> instance = ctxState.remove(contextual);
         if (instance != null) {
             instance.destroy();
         }
@@ -118,7 +129,7 @@ class RequestContext implements ManagedContext {
     @Override
     public void activate(ContextState initialState) {
         if (initialState == null) {
-            currentContext.set(new RequestContextState(new ConcurrentHashMap<>()));
+            currentContext.set(new RequestContextState(indexedSize));
             // Fire an event with qualifier @Initialized(RequestScoped.class) if there are any observers for it
             fireIfNotEmpty(initializedNotifier);
         } else {
@@ -134,7 +145,7 @@ class RequestContext implements ManagedContext {
     public ContextState getState() {
         RequestContextState ctx = currentContext.get();
         if (ctx == null) {
-            // Thread local not set - context is not active!
+            // Current context not set - context is not active!
             throw new ContextNotActiveException();
         }
         return ctx;
@@ -166,36 +177,48 @@ class RequestContext implements ManagedContext {
         }
         if (state instanceof RequestContextState) {
             RequestContextState reqState = ((RequestContextState) state);
-            reqState.isValid.set(false);
-            destroy(reqState.value);
+            reqState.valid = false;
+            destroyInstances(reqState);
         } else {
             throw new IllegalArgumentException("Invalid state: " + state.getClass().getName());
         }
     }
 
-    private void destroy(Map<Contextual<?>, ContextInstanceHandle<?>> currentContext) {
-        if (currentContext != null) {
-            synchronized (currentContext) {
-                // Fire an event with qualifier @BeforeDestroyed(RequestScoped.class) if there are any observers for it
-                try {
-                    fireIfNotEmpty(beforeDestroyedNotifier);
-                } catch (Exception e) {
-                    LOGGER.warn("An error occurred during delivery of the @BeforeDestroyed(RequestScoped.class) event", e);
+    private void destroyInstances(RequestContextState state) {
+        // Fire an event with qualifier @BeforeDestroyed(RequestScoped.class) if there are any observers for it
+        try {
+            fireIfNotEmpty(beforeDestroyedNotifier);
+        } catch (Exception e) {
+            LOGGER.warn("An error occurred during delivery of the @BeforeDestroyed(RequestScoped.class) event", e);
+        }
+        // Each instance is removed atomically before it's destroyed so that concurrent calls cannot destroy it twice
+        AtomicReferenceArray<ContextInstanceHandle<?>> indexed = state.indexed;
+        if (indexed != null) {
+            for (int i = 0; i < indexed.length(); i++) {
+                ContextInstanceHandle<?> instance = indexed.getAndSet(i, null);
+                if (instance != null) {
+                    destroyContextElement(instance);
                 }
-                //Performance: avoid an iterator on the map elements
-                currentContext.forEach(this::destroyContextElement);
-                // Fire an event with qualifier @Destroyed(RequestScoped.class) if there are any observers for it
-                try {
-                    fireIfNotEmpty(destroyedNotifier);
-                } catch (Exception e) {
-                    LOGGER.warn("An error occurred during delivery of the @Destroyed(RequestScoped.class) event", e);
+            }
+        }
+        ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> other = state.other;
+        if (other != null) {
+            for (Contextual<?> contextual : other.keySet()) {
+                ContextInstanceHandle<?> instance = other.remove(contextual);
+                if (instance != null) {
+                    destroyContextElement(instance);
                 }
-                currentContext.clear();
             }
         }
+        // Fire an event with qualifier @Destroyed(RequestScoped.class) if there are any observers for it
+        try {
+            fireIfNotEmpty(destroyedNotifier);
+        } catch (Exception e) {
+            LOGGER.warn("An error occurred during delivery of the @Destroyed(RequestScoped.class) event", e);
+        }
     }
 
-    private void destroyContextElement(Contextual<?> contextual, ContextInstanceHandle<?> contextInstanceHandle) {
+    private void destroyContextElement(ContextInstanceHandle<?> contextInstanceHandle) {
         try {
             contextInstanceHandle.destroy();
         } catch (Exception e) {
@@ -228,25 +251,93 @@ class RequestContext implements ManagedContext {
                 ArcContainerImpl.instance(), false);
     }
 
+    /**
+     * The instances of the beans with a request context index are stored in an array, the instances of other contextuals
+     * (e.g. beans registered by a different deployment) are stored in a map that is only created when needed.
+     */
     static class RequestContextState implements ContextState {
 
-        private final ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> value;
-        private final AtomicBoolean isValid;
+        private final AtomicReferenceArray<ContextInstanceHandle<?>> indexed;
+        private volatile ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> other;
+        private volatile boolean valid;
+
+        RequestContextState(int indexedSize) {
+            this.indexed = indexedSize > 0 ? new AtomicReferenceArray<>(indexedSize) : null;
+            this.valid = true;
+        }
 
-        RequestContextState(ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> value) {
-            this.value = value;
-            this.isValid = new AtomicBoolean(true);
+        ContextInstanceHandle<?> get(Contextual<?> contextual) {
+            int index = indexOf(contextual);
+            if (index >= 0) {
+                return indexed.get(index);
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> other = this.other;
+            return other != null ? other.get(contextual) : null;
+        }
+
+        ContextInstanceHandle<?> putIfAbsent(Contextual<?> contextual, ContextInstanceHandle<?> instance) {
+            int index = indexOf(contextual);
+            if (index >= 0) {
+                return indexed.compareAndSet(index, null, instance) ? null : indexed.get(index);
+            }
+            return other().putIfAbsent(contextual, instance);
+        }
+
+        ContextInstanceHandle<?> remove(Contextual<?> contextual) {
+            int index = indexOf(contextual);
+            if (index >= 0) {
+                return indexed.getAndSet(index, null);
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> other = this.other;
+            return other != null ? other.remove(contextual) : null;
+        }
+
+        private int indexOf(Contextual<?> contextual) {
+            if (indexed != null && contextual instanceof InjectableBean) {
+                int index = ((InjectableBean<?>) contextual).getRequestContextIndex();
+                if (index < indexed.length()) {
+                    return index;
+                }
+            }
+            return -1;
+        }
+
+        private ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> other() {
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> other = this.other;
+            if (other == null) {
+                synchronized (this) {
+                    other = this.other;
+                    if (other == null) {
+                        this.other = other = new ConcurrentHashMap<>();
+                    }
+                }
+            }
+            return other;
         }
 
         @Override
         public Map<InjectableBean<?>, Object> getContextualInstances() {
-            return value.values().stream()
-                    .collect(Collectors.toUnmodifiableMap(ContextInstanceHandle::getBean, ContextInstanceHandle::get));
+            Map<InjectableBean<?>, Object> instances = new HashMap<>();
+            if (indexed != null) {
+                for (int i = 0; i < indexed.length(); i++) {
+                    ContextInstanceHandle<?> instance = indexed.get(i);
+                    if (instance != null) {
+                        instances.put(instance.getBean(), instance.get());
+                    }
+                }
+            }
+            ConcurrentMap<Contextual<?>, ContextInstanceHandle<?>> other = this.other;
+            if (other != null) {
+                for (ContextInstanceHandle<?> instance : other.values()) {
+                    instances.put(instance.getBean(), instance.get());
+                }
+            }
+            return Collections.unmodifiableMap(instances);
         }
 
         @Override
         public boolean isValid() {
-            return isValid.get();
+            return valid;
         }
 
     }
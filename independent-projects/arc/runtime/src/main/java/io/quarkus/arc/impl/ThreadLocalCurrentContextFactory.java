@@ -0,0 +1,45 @@
+package io.quarkus.arc.impl;
+
+import io.quarkus.arc.CurrentContext;
+import io.quarkus.arc.CurrentContextFactory;
+import io.quarkus.arc.InjectableContext.ContextState;
+import java.lang.annotation.Annotation;
+
+/**
+ * The default factory, stores the state in a {@link ThreadLocal}.
+ */
+public final class ThreadLocalCurrentContextFactory implements CurrentContextFactory {
+
+    public static final ThreadLocalCurrentContextFactory INSTANCE = new ThreadLocalCurrentContextFactory();
+
+    private ThreadLocalCurrentContextFactory() {
+    }
+
+    @Override
+    public <T extends ContextState> CurrentContext<T> create(Class<? extends Annotation> scope) {
+        return new ThreadLocalCurrentContext<>();
+    }
+
+    private static final class ThreadLocalCurrentContext<T extends ContextState> implements CurrentContext<T> {
+
+        // It's a normal scope so there may be no more than one mapped instance per contextual type per thread
+        private final ThreadLocal<T> currentContext = new ThreadLocal<>();
+
+        @Override
+        public T get() {
+            return currentContext.get();
+        }
+
+        @Override
+        public void set(T state) {
+            currentContext.set(state);
+        }
+
+        @Override
+        public void remove() {
+            currentContext.remove();
+        }
+
+    }
+
+}
@@ -0,0 +1,62 @@
+package io.quarkus.arc.test.contexts.application;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.InjectableContext;
+import io.quarkus.arc.InstanceHandle;
+import io.quarkus.arc.test.ArcTestContainer;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.annotation.PreDestroy;
+import javax.enterprise.context.ApplicationScoped;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class ApplicationContextDestroyTest {
+
+    @RegisterExtension
+    ArcTestContainer container = new ArcTestContainer(Boom.class);
+
+    @Test
+    public void testClientProxyAfterDestroy() {
+        InstanceHandle<Boom> handle = Arc.container().instance(Boom.class);
+        Boom boom = handle.get();
+        String id1 = boom.ping();
+        assertEquals(id1, boom.ping());
+
+        InjectableContext appContext = Arc.container().getActiveContext(ApplicationScoped.class);
+        appContext.destroy(handle.getBean());
+        assertEquals(1, Boom.DESTROYED.get());
+
+        // The client proxy must not use the destroyed instance
+        String id2 = boom.ping();
+        assertNotEquals(id1, id2);
+        assertEquals(id2, boom.ping());
+        assertEquals(id2, Arc.container().instance(Boom.class).get().ping());
+    }
+
+    @ApplicationScoped
+    static class Boom {
+
+        static final AtomicInteger DESTROYED = new AtomicInteger();
+
+        private String id;
+
+        Boom() {
+            this.id = UUID.randomUUID().toString();
+        }
+
+        String ping() {
+            return id;
+        }
+
+        @PreDestroy
+        void destroy() {
+            DESTROYED.incrementAndGet();
+        }
+
+    }
+
+}
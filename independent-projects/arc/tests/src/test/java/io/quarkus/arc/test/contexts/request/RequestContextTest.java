@@ -8,8 +8,14 @@ import static org.junit.jupiter.api.Assertions.fail;
 
 import io.quarkus.arc.Arc;
 import io.quarkus.arc.ArcContainer;
+import io.quarkus.arc.InjectableBean;
+import io.quarkus.arc.InjectableContext.ContextState;
 import io.quarkus.arc.ManagedContext;
 import io.quarkus.arc.test.ArcTestContainer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import javax.enterprise.context.ContextNotActiveException;
 import javax.enterprise.context.control.RequestContextController;
 import org.junit.jupiter.api.Test;
@@ -115,6 +121,36 @@ public class RequestContextTest {
         assertTrue(Controller.DESTROYED.get());
     }
 
+    @Test
+    public void testRequestContextStateSharedBetweenThreads()
+            throws InterruptedException, ExecutionException, TimeoutException {
+        Controller.DESTROYED.set(false);
+        ArcContainer arc = Arc.container();
+        ManagedContext requestContext = arc.requestContext();
+        InjectableBean<Controller> bean = arc.instance(Controller.class).getBean();
+        assertTrue(bean.getRequestContextIndex() >= 0);
+
+        requestContext.activate();
+        ContextState state = requestContext.getState();
+        String controllerId = arc.instance(Controller.class).get().getId();
+        String otherThreadControllerId = CompletableFuture.supplyAsync(() -> {
+            requestContext.activate(state);
+            try {
+                return arc.instance(Controller.class).get().getId();
+            } finally {
+                requestContext.deactivate();
+            }
+        }).get(5, TimeUnit.SECONDS);
+        assertEquals(controllerId, otherThreadControllerId);
+        assertEquals(1, state.getContextualInstances().size());
+        assertTrue(state.getContextualInstances().containsKey(bean));
+
+        requestContext.terminate();
+        assertTrue(Controller.DESTROYED.get());
+        assertFalse(state.isValid());
+        assertTrue(state.getContextualInstances().isEmpty());
+    }
+
     @Test
     public void testRequestContextEvents() {
         // reset counters since other tests might have triggered it already
@@ -0,0 +1,122 @@
+package io.quarkus.arc.test.observers.async;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.quarkus.arc.Arc;
+import io.quarkus.arc.AsyncNotification;
+import io.quarkus.arc.test.ArcTestContainer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.enterprise.context.Dependent;
+import javax.enterprise.event.Event;
+import javax.enterprise.event.NotificationOptions;
+import javax.enterprise.event.ObservesAsync;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class BatchedAsyncObserverTest {
+
+    @RegisterExtension
+    public ArcTestContainer container = new ArcTestContainer(IntegerProducer.class, IntegerObserver.class);
+
+    @Test
+    public void testBatchedNotification() throws InterruptedException, ExecutionException, TimeoutException {
+        IntegerProducer producer = Arc.container().instance(IntegerProducer.class).get();
+        IntegerObserver observer = Arc.container().instance(IntegerObserver.class).get();
+        AtomicInteger tasks = new AtomicInteger();
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        // Block the executor until all the events are fired
+        CountDownLatch fired = new CountDownLatch(1);
+        executorService.execute(() -> {
+            try {
+                fired.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        NotificationOptions options = AsyncNotification.batched(r -> {
+            tasks.incrementAndGet();
+            executorService.execute(r);
+        });
+        try {
+            List<CompletableFuture<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < 2000; i++) {
+                results.add(producer.produceAsync(i, options).toCompletableFuture());
+            }
+            fired.countDown();
+            for (int i = 0; i < results.size(); i++) {
+                assertEquals(i, results.get(i).get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        // The events are delivered in order, a task delivers at most 1024 events
+        assertEquals(2000, observer.getEvents().size());
+        for (int i = 0; i < 2000; i++) {
+            assertEquals(i, observer.getEvents().get(i));
+        }
+        assertEquals(2, tasks.get());
+    }
+
+    @Test
+    public void testBatchedNotificationFailure() throws InterruptedException, TimeoutException {
+        IntegerProducer producer = Arc.container().instance(IntegerProducer.class).get();
+        CompletableFuture<Integer> failed = producer.produceAsync(-1, AsyncNotification.batched()).toCompletableFuture();
+        CompletableFuture<Integer> delivered = producer.produceAsync(1, AsyncNotification.batched()).toCompletableFuture();
+        try {
+            failed.get(10, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            assertTrue(e.getCause() instanceof IllegalArgumentException);
+        }
+        assertTrue(failed.isCompletedExceptionally());
+        try {
+            assertEquals(1, delivered.get(10, TimeUnit.SECONDS));
+        } catch (ExecutionException e) {
+            throw new AssertionError(e);
+        }
+    }
+
+    @Singleton
+    static class IntegerObserver {
+
+        private final List<Integer> events = new CopyOnWriteArrayList<>();
+
+        void observeAsync(@ObservesAsync Integer value) {
+            if (value < 0) {
+                throw new IllegalArgumentException();
+            }
+            events.add(value);
+        }
+
+        List<Integer> getEvents() {
+            return events;
+        }
+
+    }
+
+    @Dependent
+    static class IntegerProducer {
+
+        @Inject
+        Event<Integer> event;
+
+        CompletionStage<Integer> produceAsync(Integer value, NotificationOptions options) {
+            return event.fireAsync(value, options);
+        }
+
+    }
+
+}
@@ -0,0 +1,220 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipEntry;
+
+/**
+ * A jar resource that serves the resource data from a memory-mapped view of the jar file, instead of going through
+ * the streams of a {@link java.util.jar.JarFile}.
+ * <p>
+ * This works best with jars whose entries are stored without compression, as the data is then copied straight from the
+ * mapped region, but compressed entries are supported as well. Jars that cannot be handled here, i.e. multi-release jars,
+ * ZIP64 archives and archives larger than 2GB, are read by the regular {@link JarResource} implementation.
+ * Everything but {@link #getResourceData(String)} is delegated to the regular implementation as well.
+ */
+public class MappedJarResource extends JarResource {
+
+    private static final int LOCAL_HEADER_SIGNATURE = 0x04034b50;
+    private static final int CENTRAL_HEADER_SIGNATURE = 0x02014b50;
+    private static final int END_HEADER_SIGNATURE = 0x06054b50;
+    private static final int END_HEADER_SIZE = 22;
+    private static final int MAX_COMMENT_SIZE = 0xFFFF;
+    private static final String META_INF_VERSIONS = SerializedApplication.META_INF_VERSIONS;
+
+    private static final MappedJar UNSUPPORTED = new MappedJar(null, null);
+
+    private final Path jarPath;
+
+    //Lazily created, and released by close() and resetInternalCaches().
+    //Readers don't need a lock: a mapped buffer stays valid for as long as it's referenced.
+    private volatile MappedJar mappedJar;
+
+    public MappedJarResource(ManifestInfo manifestInfo, Path jarPath) {
+        super(manifestInfo, jarPath);
+        this.jarPath = jarPath;
+    }
+
+    @Override
+    public byte[] getResourceData(String resource) {
+        final MappedJar mappedJar = getMappedJar();
+        if (mappedJar == UNSUPPORTED) {
+            return super.getResourceData(resource);
+        }
+        final Entry entry = mappedJar.entries.get(resource);
+        if (entry == null) {
+            return null;
+        }
+        try {
+            return entry.read(mappedJar.buffer);
+        } catch (RuntimeException | DataFormatException e) {
+            throw new RuntimeException("Failed to read zip entry " + resource + " from " + jarPath, e);
+        }
+    }
+
+    private MappedJar getMappedJar() {
+        MappedJar mappedJar = this.mappedJar;
+        if (mappedJar == null) {
+            synchronized (this) {
+                mappedJar = this.mappedJar;
+                if (mappedJar == null) {
+                    this.mappedJar = mappedJar = map(jarPath);
+                }
+            }
+        }
+        return mappedJar;
+    }
+
+    @Override
+    public void close() {
+        synchronized (this) {
+            this.mappedJar = null;
+        }
+        super.close();
+    }
+
+    @Override
+    public void resetInternalCaches() {
+        synchronized (this) {
+            this.mappedJar = null;
+        }
+        super.resetInternalCaches();
+    }
+
+    @Override
+    public String toString() {
+        return "MappedJarResource{" +
+                jarPath.getFileName() +
+                '}';
+    }
+
+    private static MappedJar map(Path jarPath) {
+        final MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(jarPath, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                return UNSUPPORTED;
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to map " + jarPath, e);
+        }
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        final int end = findEndHeader(buffer);
+        if (end < 0) {
+            return UNSUPPORTED;
+        }
+        final int count = Short.toUnsignedInt(buffer.getShort(end + 10));
+        final long offset = Integer.toUnsignedLong(buffer.getInt(end + 16));
+        if (count == 0xFFFF || offset >= end) {
+            // ZIP64, or not a well-formed archive
+            return UNSUPPORTED;
+        }
+        final Map<String, Entry> entries = new HashMap<>((int) (count / 0.75f) + 1);
+        int pos = (int) offset;
+        for (int i = 0; i < count; i++) {
+            if (buffer.getInt(pos) != CENTRAL_HEADER_SIGNATURE) {
+                return UNSUPPORTED;
+            }
+            final int method = Short.toUnsignedInt(buffer.getShort(pos + 10));
+            final long compressedSize = Integer.toUnsignedLong(buffer.getInt(pos + 20));
+            final long size = Integer.toUnsignedLong(buffer.getInt(pos + 24));
+            final int nameLength = Short.toUnsignedInt(buffer.getShort(pos + 28));
+            final int extraLength = Short.toUnsignedInt(buffer.getShort(pos + 30));
+            final int commentLength = Short.toUnsignedInt(buffer.getShort(pos + 32));
+            final long localHeaderOffset = Integer.toUnsignedLong(buffer.getInt(pos + 42));
+            final byte[] nameBytes = new byte[nameLength];
+            buffer.position(pos + 46);
+            buffer.get(nameBytes);
+            final String name = new String(nameBytes, StandardCharsets.UTF_8);
+            if (name.startsWith(META_INF_VERSIONS)) {
+                // the entries of multi-release jars depend on the runtime version, leave that to JarFile
+                return UNSUPPORTED;
+            }
+            if ((method != ZipEntry.STORED && method != ZipEntry.DEFLATED)
+                    || compressedSize > Integer.MAX_VALUE || size > Integer.MAX_VALUE
+                    || localHeaderOffset >= end) {
+                return UNSUPPORTED;
+            }
+            // the first occurrence wins, as with JarFile
+            entries.putIfAbsent(name, new Entry(method, (int) localHeaderOffset, (int) compressedSize, (int) size));
+            pos += 46 + nameLength + extraLength + commentLength;
+        }
+        return new MappedJar(buffer, entries);
+    }
+
+    private static int findEndHeader(ByteBuffer buffer) {
+        final int limit = Math.max(0, buffer.capacity() - END_HEADER_SIZE - MAX_COMMENT_SIZE);
+        for (int pos = buffer.capacity() - END_HEADER_SIZE; pos >= limit; pos--) {
+            if (buffer.getInt(pos) == END_HEADER_SIGNATURE) {
+                return pos;
+            }
+        }
+        return -1;
+    }
+
+    private static final class MappedJar {
+        final ByteBuffer buffer;
+        final Map<String, Entry> entries;
+
+        MappedJar(ByteBuffer buffer, Map<String, Entry> entries) {
+            this.buffer = buffer;
+            this.entries = entries;
+        }
+    }
+
+    private static final class Entry {
+        final int method;
+        final int localHeaderOffset;
+        final int compressedSize;
+        final int size;
+
+        Entry(int method, int localHeaderOffset, int compressedSize, int size) {
+            this.method = method;
+            this.localHeaderOffset = localHeaderOffset;
+            this.compressedSize = compressedSize;
+            this.size = size;
+        }
+
+        byte[] read(ByteBuffer mapped) throws DataFormatException {
+            if (mapped.getInt(localHeaderOffset) != LOCAL_HEADER_SIGNATURE) {
+                throw new IllegalStateException("Invalid local file header");
+            }
+            // the name and extra field lengths of the local header may differ from the central directory ones
+            final int dataOffset = localHeaderOffset + 30 + Short.toUnsignedInt(mapped.getShort(localHeaderOffset + 26))
+                    + Short.toUnsignedInt(mapped.getShort(localHeaderOffset + 28));
+            // don't touch the position of the shared buffer
+            final ByteBuffer data = mapped.duplicate();
+            data.position(dataOffset).limit(dataOffset + compressedSize);
+            final byte[] result = new byte[size];
+            if (method == ZipEntry.STORED) {
+                data.get(result);
+                return result;
+            }
+            final Inflater inflater = new Inflater(true);
+            try {
+                inflater.setInput(data);
+                int read = 0;
+                while (read < size) {
+                    int inflated = inflater.inflate(result, read, size - read);
+                    if (inflated == 0 && (inflater.finished() || inflater.needsInput() || inflater.needsDictionary())) {
+                        throw new IllegalStateException("Failed to read all data");
+                    }
+                    read += inflated;
+                }
+                return result;
+            } finally {
+                inflater.end();
+            }
+        }
+    }
+}
@@ -20,6 +20,7 @@ public class QuarkusEntryPoint {
 
     public static final String QUARKUS_APPLICATION_DAT = "quarkus/quarkus-application.dat";
     public static final String LIB_DEPLOYMENT_DEPLOYMENT_CLASS_PATH_DAT = "lib/deployment/deployment-class-path.dat";
+    public static final String QUARKUS_LOADED_CLASSES_DAT = "quarkus/quarkus-loaded-classes.dat";
 
     public static void main(String... args) throws Throwable {
         System.setProperty("java.util.logging.manager", org.jboss.logmanager.LogManager.class.getName());
@@ -53,6 +54,15 @@ public class QuarkusEntryPoint {
                 app = SerializedApplication.read(in, appRoot);
             }
             final RunnerClassLoader appRunnerClassLoader = app.getRunnerClassLoader();
+            Path loadedClasses = appRoot.resolve(QUARKUS_LOADED_CLASSES_DAT);
+            if (Boolean.getBoolean("quarkus.launch.record-loaded-classes")) {
+                // a training run, the classes loaded during the boot are written when it completes
+                appRunnerClassLoader.recordLoadedClasses(loadedClasses);
+            } else if (Boolean.getBoolean("quarkus.launch.preload-classes") && Files.exists(loadedClasses)) {
+                try (InputStream in = new BufferedInputStream(Files.newInputStream(loadedClasses))) {
+                    appRunnerClassLoader.preloadClasses(SerializedApplication.readLoadedClasses(in));
+                }
+            }
             try {
                 Thread.currentThread().setContextClassLoader(appRunnerClassLoader);
                 QuarkusForkJoinWorkerThread.setQuarkusAppClassloader(appRunnerClassLoader);
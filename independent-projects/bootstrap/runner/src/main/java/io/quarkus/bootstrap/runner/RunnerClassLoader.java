@@ -1,12 +1,23 @@
 package io.quarkus.bootstrap.runner;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Enumeration;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.jboss.logging.Logger;
 
 /**
  * Classloader used with the fast-jar package type.
@@ -38,8 +49,18 @@ public final class RunnerClassLoader extends ClassLoader {
 
     //Mutations protected by synchronization on the field value itself:
     private final ClassLoadingResource[] currentlyBufferedResources = new ClassLoadingResource[4];//Experimentally found to be a reasonable number
-    //Protected by synchronization on the above field, as they are related.
-    private boolean postBootPhase = false;
+    //Only written while holding the lock on the above field, but read without it so that the class loading
+    //during the boot, when there is nothing to track yet, doesn't contend on that lock.
+    private volatile boolean postBootPhase = false;
+    //Mirrors currentlyBufferedResources[0], so that repeated accesses to the same resource don't need the lock.
+    private volatile ClassLoadingResource mostRecentlyAccessedResource;
+
+    //The class data read ahead of time by preloadClasses(), keyed by class resource name.
+    private final Map<String, PreloadedClass> preloadedClasses = new ConcurrentHashMap<>();
+    private volatile boolean preloading = false;
+    //The class resources defined during the boot, in loading order, only set by recordLoadedClasses()
+    private volatile Queue<String> loadedClasses;
+    private volatile Path loadedClassesTarget;
 
     RunnerClassLoader(ClassLoader parent, Map<String, ClassLoadingResource[]> resourceDirectoryMap,
             Set<String> parentFirstPackages, Set<String> nonExistentResources,
@@ -86,34 +107,55 @@ public final class RunnerClassLoader extends ClassLoader {
         }
         if (resources != null) {
             String classResource = name.replace('.', '/') + ".class";
+            if (preloading) {
+                PreloadedClass preloaded = preloadedClasses.remove(classResource);
+                if (preloaded != null) {
+                    return defineClass(name, packageName, classResource, resources, preloaded.resource, preloaded.data);
+                }
+            }
             for (ClassLoadingResource resource : resources) {
                 accessingResource(resource);
                 byte[] data = resource.getResourceData(classResource);
                 if (data == null) {
                     continue;
                 }
-                definePackage(packageName, resources);
-                try {
-                    return defineClass(name, data, 0, data.length, resource.getProtectionDomain());
-                } catch (LinkageError e) {
-                    loaded = findLoadedClass(name);
-                    if (loaded != null) {
-                        return loaded;
-                    }
-                    throw e;
-                }
+                return defineClass(name, packageName, classResource, resources, resource, data);
             }
         }
         return getParent().loadClass(name);
     }
 
+    private Class<?> defineClass(String name, String packageName, String classResource, ClassLoadingResource[] resources,
+            ClassLoadingResource resource, byte[] data) {
+        definePackage(packageName, resources);
+        final Class<?> defined;
+        try {
+            defined = defineClass(name, data, 0, data.length, resource.getProtectionDomain());
+        } catch (LinkageError e) {
+            Class<?> loaded = findLoadedClass(name);
+            if (loaded != null) {
+                return loaded;
+            }
+            throw e;
+        }
+        final Queue<String> loadedClasses = this.loadedClasses;
+        if (loadedClasses != null) {
+            loadedClasses.add(classResource);
+        }
+        return defined;
+    }
+
     private void accessingResource(final ClassLoadingResource resource) {
+        if (!postBootPhase) {
+            //We only want to limit the jar buffers after the initial bootstrap has been completed
+            return;
+        }
+        if (mostRecentlyAccessedResource == resource) {
+            //it's already on the head of the cache: nothing to be done.
+            return;
+        }
         final ClassLoadingResource toEvict;
         synchronized (this.currentlyBufferedResources) {
-            if (!postBootPhase) {
-                //We only want to limit the jar buffers after the initial bootstrap has been completed
-                return;
-            }
             // This is not a cache aiming to accurately retain the most hot resources:
             // it's too small to benefit from traditional hit metrics,
             // we rather prefer to keep it very light.
@@ -128,6 +170,7 @@ public final class RunnerClassLoader extends ClassLoader {
                     final ClassLoadingResource previous = currentlyBufferedResources[i - 1];
                     currentlyBufferedResources[i - 1] = resource;
                     currentlyBufferedResources[i] = previous;
+                    mostRecentlyAccessedResource = currentlyBufferedResources[0];
                     return;
                 }
             }
@@ -244,7 +287,7 @@ public final class RunnerClassLoader extends ClassLoader {
         return className.substring(0, index);
     }
 
-    private String getDirNameFromResourceName(String resourceName) {
+    private static String getDirNameFromResourceName(String resourceName) {
         final int index = resourceName.lastIndexOf('/');
         if (index == -1) {
             // we return null here since in this case no package is defined
@@ -281,6 +324,10 @@ public final class RunnerClassLoader extends ClassLoader {
     }
 
     public void resetInternalCaches() {
+        // the boot is over, anything that was not used by now is unlikely to be needed
+        this.preloading = false;
+        this.preloadedClasses.clear();
+        writeLoadedClasses();
         synchronized (this.currentlyBufferedResources) {
             for (Map.Entry<String, ClassLoadingResource[]> entry : resourceDirectoryMap.entrySet()) {
                 for (ClassLoadingResource i : entry.getValue()) {
@@ -290,4 +337,102 @@ public final class RunnerClassLoader extends ClassLoader {
             this.postBootPhase = true;
         }
     }
+
+    /**
+     * Records the classes defined by this ClassLoader until the application has booted, i.e. until
+     * {@link #resetInternalCaches()} is invoked, and then writes their names to the given file.
+     * <p>
+     * The file can be passed to {@link #preloadClasses(List)} in subsequent runs of the same application.
+     */
+    public void recordLoadedClasses(Path target) {
+        this.loadedClasses = new ConcurrentLinkedQueue<>();
+        this.loadedClassesTarget = target;
+    }
+
+    private void writeLoadedClasses() {
+        final Queue<String> loadedClasses = this.loadedClasses;
+        final Path target = this.loadedClassesTarget;
+        if (loadedClasses == null || target == null) {
+            return;
+        }
+        this.loadedClasses = null;
+        this.loadedClassesTarget = null;
+        try (OutputStream out = Files.newOutputStream(target)) {
+            SerializedApplication.writeLoadedClasses(out, new ArrayList<>(loadedClasses));
+        } catch (IOException e) {
+            Logger.getLogger(RunnerClassLoader.class).warn("Failed to write the loaded classes to " + target, e);
+        }
+    }
+
+    /**
+     * Reads the data of the given classes in parallel, using a background thread per group of classes that are located
+     * in the same jar, so that they are already in memory when they are loaded during the boot. Any class that has not
+     * been loaded by the time the application has booted is discarded.
+     *
+     * @param classResources the class resource names, as recorded by {@link #recordLoadedClasses(Path)}
+     */
+    public void preloadClasses(List<String> classResources) {
+        final Map<ClassLoadingResource, List<String>> classResourcesByJar = new LinkedHashMap<>();
+        for (String classResource : classResources) {
+            String dirName = getDirNameFromResourceName(classResource);
+            ClassLoadingResource[] resources = resourceDirectoryMap.get(dirName == null ? "" : dirName);
+            if (resources != null) {
+                classResourcesByJar.computeIfAbsent(resources[0], r -> new ArrayList<>()).add(classResource);
+            }
+        }
+        if (classResourcesByJar.isEmpty()) {
+            return;
+        }
+        this.preloading = true;
+        final int threads = Math.min(Runtime.getRuntime().availableProcessors(), classResourcesByJar.size());
+        final ExecutorService executor = Executors.newFixedThreadPool(threads, r -> {
+            Thread thread = new Thread(r, "quarkus-class-preloader");
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (List<String> jarClassResources : classResourcesByJar.values()) {
+            executor.execute(() -> preloadJarClasses(jarClassResources));
+        }
+        executor.shutdown();
+    }
+
+    private void preloadJarClasses(List<String> classResources) {
+        for (String classResource : classResources) {
+            if (!preloading) {
+                return;
+            }
+            String name = classResource.substring(0, classResource.length() - ".class".length()).replace('/', '.');
+            if (findLoadedClass(name) != null || preloadedClasses.containsKey(classResource)) {
+                continue;
+            }
+            String dirName = getDirNameFromResourceName(classResource);
+            for (ClassLoadingResource resource : resourceDirectoryMap.get(dirName == null ? "" : dirName)) {
+                byte[] data;
+                try {
+                    data = resource.getResourceData(classResource);
+                } catch (RuntimeException e) {
+                    // the class will be read, and the failure reported, when it's actually loaded
+                    break;
+                }
+                if (data != null) {
+                    preloadedClasses.put(classResource, new PreloadedClass(resource, data));
+                    break;
+                }
+            }
+        }
+        if (!preloading) {
+            // the boot completed while we were reading
+            preloadedClasses.clear();
+        }
+    }
+
+    private static final class PreloadedClass {
+        final ClassLoadingResource resource;
+        final byte[] data;
+
+        PreloadedClass(ClassLoadingResource resource, byte[] data) {
+            this.resource = resource;
+            this.data = data;
+        }
+    }
 }
@@ -37,7 +37,8 @@ public class SerializedApplication {
     private static final List<String> FULLY_INDEXED_PATHS = List.of("", "META-INF/services");
 
     private static final int MAGIC = 0XF0315432;
-    private static final int VERSION = 2;
+    private static final int LOADED_CLASSES_MAGIC = 0XF0315433;
+    private static final int VERSION = 3;
 
     private static final ClassLoadingResource[] EMPTY_ARRAY = new ClassLoadingResource[0];
     private static final JarResource SENTINEL = new JarResource(null, Path.of("wqxehxivam"));
@@ -58,13 +59,17 @@ public class SerializedApplication {
         return mainClass;
     }
 
+    /**
+     * @param memoryMappedJars whether the class path jars should be read using a {@link MappedJarResource}
+     */
     public static void write(OutputStream outputStream, String mainClass, Path applicationRoot, List<Path> classPath,
-            List<Path> parentFirst, List<String> nonExistentResources)
+            List<Path> parentFirst, List<String> nonExistentResources, boolean memoryMappedJars)
             throws IOException {
         try (DataOutputStream data = new DataOutputStream(outputStream)) {
             data.writeInt(MAGIC);
             data.writeInt(VERSION);
             data.writeUTF(mainClass);
+            data.writeBoolean(memoryMappedJars);
             data.writeShort(classPath.size());
             Map<String, List<Integer>> directlyIndexedResourcesToCPJarIndex = new HashMap<>();
             for (int i = 0; i < classPath.size(); i++) {
@@ -110,6 +115,7 @@ public class SerializedApplication {
                 throw new RuntimeException("Wrong class path version");
             }
             String mainClass = in.readUTF();
+            boolean memoryMappedJars = in.readBoolean();
             ResourceDirectoryTracker resourceDirectoryTracker = new ResourceDirectoryTracker();
             Set<String> parentFirstPackages = new HashSet<>();
             int numPaths = in.readUnsignedShort();
@@ -122,7 +128,8 @@ public class SerializedApplication {
                     info = new ManifestInfo(readNullableString(in), readNullableString(in), readNullableString(in),
                             readNullableString(in), readNullableString(in), readNullableString(in));
                 }
-                JarResource resource = new JarResource(info, appRoot.resolve(path));
+                JarResource resource = memoryMappedJars ? new MappedJarResource(info, appRoot.resolve(path))
+                        : new JarResource(info, appRoot.resolve(path));
                 allClassLoadingResources[pathCount] = resource;
                 int numDirs = in.readUnsignedShort();
                 for (int i = 0; i < numDirs; ++i) {
@@ -167,6 +174,38 @@ public class SerializedApplication {
         }
     }
 
+    /**
+     * Writes the names of the class resources recorded by {@link RunnerClassLoader#recordLoadedClasses(Path)}.
+     */
+    public static void writeLoadedClasses(OutputStream outputStream, List<String> classResources) throws IOException {
+        try (DataOutputStream data = new DataOutputStream(outputStream)) {
+            data.writeInt(LOADED_CLASSES_MAGIC);
+            data.writeInt(VERSION);
+            data.writeInt(classResources.size());
+            for (String classResource : classResources) {
+                data.writeUTF(classResource);
+            }
+            data.flush();
+        }
+    }
+
+    public static List<String> readLoadedClasses(InputStream inputStream) throws IOException {
+        try (DataInputStream in = new DataInputStream(inputStream)) {
+            if (in.readInt() != LOADED_CLASSES_MAGIC) {
+                throw new RuntimeException("Wrong magic number");
+            }
+            if (in.readInt() != VERSION) {
+                throw new RuntimeException("Wrong loaded classes version");
+            }
+            int size = in.readInt();
+            List<String> classResources = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                classResources.add(in.readUTF());
+            }
+            return classResources;
+        }
+    }
+
     private static String readNullableString(DataInputStream in) throws IOException {
         if (in.readBoolean()) {
             return in.readUTF();
@@ -0,0 +1,75 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests {@link MappedJarResource}
+ */
+public class MappedJarResourceTest {
+
+    @Test
+    public void testStoredAndDeflatedEntries() throws Exception {
+        final Path jarFilePath = Files.createTempFile("mapped", ".jar");
+        try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(jarFilePath))) {
+            addEntry(out, "stored.txt", "stored content", ZipEntry.STORED);
+            addEntry(out, "org/acme/Deflated.class", "deflated content deflated content deflated content",
+                    ZipEntry.DEFLATED);
+            addEntry(out, "org/acme/Empty.class", "", ZipEntry.STORED);
+        }
+        final MappedJarResource jarResource = new MappedJarResource(null, jarFilePath);
+        assertContent("stored content", jarResource.getResourceData("stored.txt"));
+        assertContent("deflated content deflated content deflated content",
+                jarResource.getResourceData("org/acme/Deflated.class"));
+        assertContent("", jarResource.getResourceData("org/acme/Empty.class"));
+        Assertions.assertNull(jarResource.getResourceData("org/acme/Missing.class"));
+
+        // the mapping is recreated on demand
+        jarResource.resetInternalCaches();
+        assertContent("stored content", jarResource.getResourceData("stored.txt"));
+        jarResource.close();
+    }
+
+    @Test
+    public void testMultiReleaseJarFallback() throws Exception {
+        final Path jarFilePath = Files.createTempFile("mapped-multi-release", ".jar");
+        try (ZipOutputStream out = new ZipOutputStream(Files.newOutputStream(jarFilePath))) {
+            addEntry(out, "META-INF/MANIFEST.MF", "Manifest-Version: 1.0\r\nMulti-Release: true\r\n\r\n",
+                    ZipEntry.DEFLATED);
+            addEntry(out, "org/acme/Versioned.class", "base", ZipEntry.STORED);
+            addEntry(out, "META-INF/versions/9/org/acme/Versioned.class", "nine", ZipEntry.STORED);
+        }
+        final MappedJarResource jarResource = new MappedJarResource(null, jarFilePath);
+        // served by JarFile, which picks the entry matching the runtime version
+        assertContent("nine", jarResource.getResourceData("org/acme/Versioned.class"));
+        jarResource.close();
+    }
+
+    private static void addEntry(ZipOutputStream out, String name, String content, int method) throws IOException {
+        final byte[] data = content.getBytes(StandardCharsets.UTF_8);
+        final ZipEntry entry = new ZipEntry(name);
+        entry.setMethod(method);
+        if (method == ZipEntry.STORED) {
+            final CRC32 crc = new CRC32();
+            crc.update(data);
+            entry.setCrc(crc.getValue());
+            entry.setSize(data.length);
+            entry.setCompressedSize(data.length);
+        }
+        out.putNextEntry(entry);
+        out.write(data);
+        out.closeEntry();
+    }
+
+    private static void assertContent(String expected, byte[] data) {
+        Assertions.assertNotNull(data);
+        Assertions.assertEquals(expected, new String(data, StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,65 @@
+package io.quarkus.bootstrap.runner;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.exporter.ZipExporter;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests the recording and preloading of the classes loaded by {@link RunnerClassLoader}
+ */
+public class RunnerClassLoaderTest {
+
+    private static final String PACKAGE_DIR = RunnerClassLoaderTest.class.getPackage().getName().replace('.', '/');
+
+    @Test
+    public void testRecordAndPreloadClasses() throws Exception {
+        final Path testDir = Files.createTempDirectory("runner-cl");
+        final Path jarFilePath = testDir.resolve("classes.jar");
+        ShrinkWrap.create(JavaArchive.class).addClass(Preloaded.class).as(ZipExporter.class)
+                .exportTo(jarFilePath.toFile(), true);
+        final Path loadedClassesPath = testDir.resolve("loaded-classes.dat");
+
+        // training run
+        RunnerClassLoader recording = createClassLoader(jarFilePath);
+        recording.recordLoadedClasses(loadedClassesPath);
+        Assertions.assertSame(recording, recording.loadClass(Preloaded.class.getName()).getClassLoader());
+        recording.resetInternalCaches();
+        recording.close();
+
+        final List<String> loadedClasses;
+        try (InputStream in = Files.newInputStream(loadedClassesPath)) {
+            loadedClasses = SerializedApplication.readLoadedClasses(in);
+        }
+        Assertions.assertEquals(List.of(PACKAGE_DIR + "/RunnerClassLoaderTest$Preloaded.class"), loadedClasses);
+
+        // subsequent run
+        RunnerClassLoader preloading = createClassLoader(jarFilePath);
+        preloading.preloadClasses(loadedClasses);
+        Class<?> preloaded = preloading.loadClass(Preloaded.class.getName());
+        Assertions.assertSame(preloading, preloaded.getClassLoader());
+        Assertions.assertNotSame(Preloaded.class, preloaded);
+        Assertions.assertSame(preloaded, preloading.loadClass(Preloaded.class.getName()));
+        preloading.resetInternalCaches();
+        preloading.close();
+    }
+
+    private static RunnerClassLoader createClassLoader(Path jarFilePath) {
+        JarResource jarResource = new JarResource(null, jarFilePath);
+        RunnerClassLoader classLoader = new RunnerClassLoader(ClassLoader.getSystemClassLoader(),
+                Map.of(PACKAGE_DIR, new ClassLoadingResource[] { jarResource }), Collections.emptySet(),
+                Collections.emptySet(), List.of(), Collections.emptyMap());
+        jarResource.init(classLoader);
+        return classLoader;
+    }
+
+    public static class Preloaded {
+    }
+}
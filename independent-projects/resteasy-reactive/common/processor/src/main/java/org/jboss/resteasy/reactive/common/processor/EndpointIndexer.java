@@ -50,6 +50,7 @@ import static org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNa
 import static org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNames.REST_RESPONSE;
 import static org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNames.REST_SSE_ELEMENT_TYPE;
 import static org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNames.REST_STREAM_ELEMENT_TYPE;
+import static org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNames.RUN_ON_VIRTUAL_THREAD;
 import static org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNames.SET;
 import static org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNames.SORTED_SET;
 import static org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNames.STRING;
@@ -190,6 +191,7 @@ public abstract class EndpointIndexer<T extends EndpointIndexer<T, PARAM, METHOD
     private final Map<DotName, String> httpAnnotationToMethod;
     private final AdditionalWriters additionalWriters;
     private final BlockingDefault defaultBlocking;
+    private final boolean defaultRunOnVirtualThread;
     private final Map<DotName, Map<String, String>> classLevelExceptionMappers;
     private final Function<String, BeanFactory<Object>> factoryCreator;
     private final Consumer<ResourceMethodCallbackData> resourceMethodCallback;
@@ -211,6 +213,7 @@ public abstract class EndpointIndexer<T extends EndpointIndexer<T, PARAM, METHOD
         this.additionalWriters = builder.additionalWriters;
         this.hasRuntimeConverters = builder.hasRuntimeConverters;
         this.defaultBlocking = builder.defaultBlocking;
+        this.defaultRunOnVirtualThread = builder.defaultRunOnVirtualThread;
         this.classLevelExceptionMappers = builder.classLevelExceptionMappers;
         this.factoryCreator = builder.factoryCreator;
         this.resourceMethodCallback = builder.resourceMethodCallback;
@@ -597,6 +600,8 @@ public abstract class EndpointIndexer<T extends EndpointIndexer<T, PARAM, METHOD
                 }
             }
 
+            boolean runOnVirtualThread = isRunOnVirtualThread(currentMethodInfo, blocking);
+
             if (returnsMultipart && !blocking) {
                 throw new DeploymentException(
                         "Endpoints that produce a Multipart result can only be used on non blocking methods. Offending method is '"
@@ -611,6 +616,7 @@ public abstract class EndpointIndexer<T extends EndpointIndexer<T, PARAM, METHOD
                     .setNameBindingNames(nameBindingNames)
                     .setName(currentMethodInfo.name())
                     .setBlocking(blocking)
+                    .setRunOnVirtualThread(runOnVirtualThread)
                     .setSuspended(suspended)
                     .setSse(sse)
                     .setStreamElementType(streamElementType)
@@ -701,6 +707,29 @@ public abstract class EndpointIndexer<T extends EndpointIndexer<T, PARAM, METHOD
         return doesMethodHaveBlockingSignature(info);
     }
 
+    private boolean isRunOnVirtualThread(MethodInfo info, boolean blocking) {
+        Map.Entry<AnnotationTarget, AnnotationInstance> runOnVirtualThreadAnnotation = getInheritableAnnotation(info,
+                RUN_ON_VIRTUAL_THREAD);
+        boolean runOnVirtualThread;
+        if (runOnVirtualThreadAnnotation != null) {
+            if (!blocking && (runOnVirtualThreadAnnotation.getKey().kind() == AnnotationTarget.Kind.METHOD)) {
+                throw new DeploymentException("Method '" + info.name() + "' of class '" + info.declaringClass().name()
+                        + "' is annotated with @RunOnVirtualThread but is not a blocking method.");
+            }
+            runOnVirtualThread = blocking;
+        } else {
+            runOnVirtualThread = blocking && defaultRunOnVirtualThread;
+        }
+        if (runOnVirtualThread && Modifier.isSynchronized(info.flags())) {
+            // a synchronized method pins the virtual thread to its carrier thread for the whole invocation
+            // only the method modifier is checked, synchronized blocks in the method body are not detected
+            log.warn("Method '" + info.name() + "' of class '" + info.declaringClass().name()
+                    + "' runs on a virtual thread but is declared synchronized, which will pin the carrier thread while it"
+                    + " executes (note that synchronized blocks in the method body are not detected)");
+        }
+        return runOnVirtualThread;
+    }
+
     protected boolean doesMethodHaveBlockingSignature(MethodInfo info) {
         return true;
     }
@@ -1265,6 +1294,7 @@ public abstract class EndpointIndexer<T extends EndpointIndexer<T, PARAM, METHOD
     public static abstract class Builder<T extends EndpointIndexer<T, ?, METHOD>, B extends Builder<T, B, METHOD>, METHOD extends ResourceMethod> {
         private Function<String, BeanFactory<Object>> factoryCreator;
         private BlockingDefault defaultBlocking = BlockingDefault.AUTOMATIC;
+        private boolean defaultRunOnVirtualThread;
         private IndexView index;
         private IndexView applicationIndex;
         private Map<String, String> existingConverters = new HashMap<>();
@@ -1308,6 +1338,11 @@ public abstract class EndpointIndexer<T extends EndpointIndexer<T, PARAM, METHOD
             return (B) this;
         }
 
+        public B setDefaultRunOnVirtualThread(boolean defaultRunOnVirtualThread) {
+            this.defaultRunOnVirtualThread = defaultRunOnVirtualThread;
+            return (B) this;
+        }
+
         public B setHasRuntimeConverters(boolean hasRuntimeConverters) {
             this.hasRuntimeConverters = hasRuntimeConverters;
             return (B) this;
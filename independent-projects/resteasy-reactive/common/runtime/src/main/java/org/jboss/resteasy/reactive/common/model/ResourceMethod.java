@@ -58,6 +58,11 @@ public class ResourceMethod {
 
     private boolean blocking;
 
+    /**
+     * Whether a blocking method should be dispatched to a new virtual thread instead of the worker pool.
+     */
+    private boolean runOnVirtualThread;
+
     private boolean suspended;
 
     private boolean isSse;
@@ -186,6 +191,15 @@ public class ResourceMethod {
         return this;
     }
 
+    public boolean isRunOnVirtualThread() {
+        return runOnVirtualThread;
+    }
+
+    public ResourceMethod setRunOnVirtualThread(boolean runOnVirtualThread) {
+        this.runOnVirtualThread = runOnVirtualThread;
+        return this;
+    }
+
     public boolean isSuspended() {
         return suspended;
     }
@@ -95,6 +95,11 @@ public class ResteasyReactiveDeploymentManager {
          */
         private boolean defaultProduces;
 
+        /**
+         * If enabled, the parameters of an endpoint are extracted by a single handler.
+         */
+        private boolean fuseParameterHandlers;
+
         private Map<DotName, ClassInfo> additionalResources = new HashMap<>();
         private Map<DotName, String> additionalResourcePaths = new HashMap<>();
         private Set<String> excludedClasses = new HashSet<>();
@@ -150,6 +155,15 @@ public class ResteasyReactiveDeploymentManager {
             return this;
         }
 
+        public boolean isFuseParameterHandlers() {
+            return fuseParameterHandlers;
+        }
+
+        public ScanStep setFuseParameterHandlers(boolean fuseParameterHandlers) {
+            this.fuseParameterHandlers = fuseParameterHandlers;
+            return this;
+        }
+
         public ScanStep addAdditionalResource(DotName className, ClassInfo classInfo) {
             additionalResources.put(className, classInfo);
             return this;
@@ -417,6 +431,7 @@ public class ResteasyReactiveDeploymentManager {
                 path = getApplicationPath();
             }
             info.setApplicationPath(path);
+            info.setFuseParameterHandlers(scanStep.isFuseParameterHandlers());
             List<Closeable> closeTasks = new ArrayList<>();
             RuntimeDeploymentManager runtimeDeploymentManager = new RuntimeDeploymentManager(info, () -> executor,
                     closeTasks::add, requestContextFactory, ThreadSetupAction.NOOP, "/");
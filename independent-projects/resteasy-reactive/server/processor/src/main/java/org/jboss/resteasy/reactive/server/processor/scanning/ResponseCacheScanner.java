@@ -0,0 +1,60 @@
+package org.jboss.resteasy.reactive.server.processor.scanning;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationValue;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.resteasy.reactive.common.processor.EndpointIndexer;
+import org.jboss.resteasy.reactive.common.processor.ResteasyReactiveDotNames;
+import org.jboss.resteasy.reactive.common.processor.transformation.AnnotationStore;
+import org.jboss.resteasy.reactive.server.Cached;
+import org.jboss.resteasy.reactive.server.handlers.ResponseCacheHandler;
+import org.jboss.resteasy.reactive.server.model.FixedHandlerChainCustomizer;
+import org.jboss.resteasy.reactive.server.model.HandlerChainCustomizer;
+
+/**
+ * Caches the responses of the {@code GET} resource methods annotated with {@link Cached}, or declared on a class
+ * annotated with it.
+ */
+public class ResponseCacheScanner implements MethodScanner {
+
+    private static final DotName CACHED = DotName.createSimple(Cached.class.getName());
+
+    @Override
+    public List<HandlerChainCustomizer> scan(MethodInfo method, ClassInfo actualEndpointClass,
+            Map<String, Object> methodContext) {
+        AnnotationStore annotationStore = (AnnotationStore) methodContext.get(EndpointIndexer.METHOD_CONTEXT_ANNOTATION_STORE);
+        boolean get = annotationStore.hasAnnotation(method, ResteasyReactiveDotNames.GET);
+        AnnotationInstance cached = annotationStore.getAnnotation(method, CACHED);
+        if (cached != null) {
+            if (!get) {
+                throw new IllegalStateException(
+                        "Only GET resource methods can be annotated with '@Cached'. Offending method is '"
+                                + method.name() + "' of class '" + method.declaringClass().name() + "'");
+            }
+        } else if (get) {
+            cached = annotationStore.getAnnotation(actualEndpointClass, CACHED);
+        }
+        if (cached == null) {
+            return Collections.emptyList();
+        }
+
+        ResponseCacheHandler handler = new ResponseCacheHandler();
+        handler.setTtl(cached.value("ttl").asInt());
+        AnnotationValue maxEntries = cached.value("maxEntries");
+        handler.setMaxEntries(maxEntries != null ? maxEntries.asInt() : 1000);
+        AnnotationValue vary = cached.value("vary");
+        if (vary != null) {
+            handler.getVaryHeaders().addAll(Arrays.asList(vary.asStringArray()));
+        }
+        // after the request filters and the security checks, so that cached responses are never served to requests
+        // that would be rejected
+        return Collections.singletonList(new FixedHandlerChainCustomizer(handler,
+                HandlerChainCustomizer.Phase.BEFORE_METHOD_INVOKE));
+    }
+}
@@ -0,0 +1,46 @@
+package org.jboss.resteasy.reactive.server;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Keeps the responses of a {@code GET} resource method in memory, so that the same request is answered without
+ * invoking the method again until the response expires.
+ * <p>
+ * Responses are cached per path, query string, {@code Accept} header and the request headers listed in {@link #vary()}.
+ * Only successful responses that were sent in one piece (so not streamed, or sent from a file) are cached, and never
+ * if they set a cookie or a {@code Cache-Control} header with {@code no-store} or {@code private}. Requests that carry an
+ * {@code Authorization} or a {@code Cookie} header, for instance a session cookie, are not cached unless that header is
+ * part of {@link #vary()}, and requests with {@code Cache-Control: no-cache} always invoke the method.
+ * <p>
+ * Only the response headers added by the resource method and the response filters are cached, headers set per request
+ * before the method is invoked (for instance by other HTTP routes or the CORS handling) are left as they are. The
+ * {@code Accept} header and the headers listed in {@link #vary()} are added to the {@code Vary} header of the
+ * responses, whether they are served from the cache or not.
+ * <p>
+ * Cached responses carry an {@code ETag} header, and a request with a matching {@code If-None-Match} header is
+ * answered with {@code 304 Not Modified}. Response filters are not run for responses served from the cache.
+ * <p>
+ * When used on a class, this applies to all the {@code GET} resource methods of the class.
+ */
+@Target({ ElementType.TYPE, ElementType.METHOD })
+@Retention(RetentionPolicy.RUNTIME)
+public @interface Cached {
+
+    /**
+     * The time, in seconds, a response is served from the cache.
+     */
+    int ttl();
+
+    /**
+     * The request headers, besides {@code Accept}, the response depends on.
+     */
+    String[] vary() default {};
+
+    /**
+     * The maximum number of responses kept for the resource method.
+     */
+    int maxEntries() default 1000;
+}
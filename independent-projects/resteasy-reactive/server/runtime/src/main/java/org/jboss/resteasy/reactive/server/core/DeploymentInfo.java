@@ -34,6 +34,7 @@ public class DeploymentInfo {
     private List<HandlerChainCustomizer> globalHandlerCustomizers = new ArrayList<>();
     private boolean developmentMode;
     private boolean resumeOn404;
+    private boolean fuseParameterHandlers;
 
     public ResourceInterceptors getInterceptors() {
         return interceptors;
@@ -187,4 +188,13 @@ public class DeploymentInfo {
         this.resumeOn404 = resumeOn404;
         return this;
     }
+
+    public boolean isFuseParameterHandlers() {
+        return fuseParameterHandlers;
+    }
+
+    public DeploymentInfo setFuseParameterHandlers(boolean fuseParameterHandlers) {
+        this.fuseParameterHandlers = fuseParameterHandlers;
+        return this;
+    }
 }
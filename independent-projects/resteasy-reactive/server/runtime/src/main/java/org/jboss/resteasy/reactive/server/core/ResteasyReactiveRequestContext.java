@@ -42,6 +42,7 @@ import org.jboss.resteasy.reactive.server.jaxrs.SseEventSinkImpl;
 import org.jboss.resteasy.reactive.server.jaxrs.UriInfoImpl;
 import org.jboss.resteasy.reactive.server.mapping.RuntimeResource;
 import org.jboss.resteasy.reactive.server.mapping.URITemplate;
+import org.jboss.resteasy.reactive.server.spi.ResponseCapture;
 import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveResourceInfo;
 import org.jboss.resteasy.reactive.server.spi.ServerHttpRequest;
 import org.jboss.resteasy.reactive.server.spi.ServerHttpResponse;
@@ -142,6 +143,10 @@ public abstract class ResteasyReactiveRequestContext
     private OutputStream outputStream;
     private OutputStream underlyingOutputStream;
     private FormData formData;
+    /**
+     * Receives a copy of the response, if the response is to be cached.
+     */
+    private ResponseCapture responseCapture;
 
     public ResteasyReactiveRequestContext(Deployment deployment, ProvidersImpl providers,
             ThreadSetupAction requestContext, ServerRestHandler[] handlerChain, ServerRestHandler[] abortHandlerChain) {
@@ -175,7 +180,8 @@ public abstract class ResteasyReactiveRequestContext
     public void restart(RuntimeResource target, boolean setLocatorTarget) {
         this.handlers = target.getHandlerChain();
         position = 0;
-        parameters = new Object[target.getParameterTypes().length];
+        int parameterCount = target.getParameterTypes().length;
+        parameters = parameterCount == 0 ? EMPTY_ARRAY : new Object[parameterCount];
         if (setLocatorTarget) {
             previousResource = new PreviousResource(this.target, pathParamValues, previousResource);
         }
@@ -646,7 +652,7 @@ public abstract class ResteasyReactiveRequestContext
 
     @Override
     protected void restarted(boolean keepTarget) {
-        parameters = new Object[0];
+        parameters = EMPTY_ARRAY;
         if (!keepTarget) {
             target = null;
         }
@@ -979,6 +985,19 @@ public abstract class ResteasyReactiveRequestContext
         return this;
     }
 
+    public ResponseCapture getResponseCapture() {
+        return responseCapture;
+    }
+
+    /**
+     * Registers a receiver for a copy of the response. Implementations of {@link ServerHttpResponse} that do not
+     * support this never call it, so the response is then simply not captured.
+     */
+    public ResteasyReactiveRequestContext setResponseCapture(ResponseCapture responseCapture) {
+        this.responseCapture = responseCapture;
+        return this;
+    }
+
     private String getResourceLocatorPathParam(String name, PreviousResource previousResource) {
         if (previousResource == null) {
             return null;
@@ -0,0 +1,42 @@
+package org.jboss.resteasy.reactive.server.core;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+import org.jboss.logging.Logger;
+
+/**
+ * Supplies an {@link Executor} that runs every task on a new virtual thread.
+ * <p>
+ * Virtual threads are not available on all the JVMs we support (and require preview features to be enabled on
+ * Java 19 and 20), so the executor is looked up reflectively. If it cannot be created the fallback executor,
+ * normally the worker pool, is used instead.
+ */
+public class VirtualThreadExecutorSupplier implements Supplier<Executor> {
+
+    private static final Logger log = Logger.getLogger(VirtualThreadExecutorSupplier.class);
+
+    private final Supplier<Executor> fallback;
+
+    public VirtualThreadExecutorSupplier(Supplier<Executor> fallback) {
+        this.fallback = fallback;
+    }
+
+    @Override
+    public Executor get() {
+        try {
+            Method newVirtualThreadPerTaskExecutor = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (Executor) newVirtualThreadPerTaskExecutor.invoke(null);
+        } catch (NoSuchMethodException e) {
+            log.warn("Virtual threads are not supported by this JVM, endpoints configured to run on a virtual thread"
+                    + " will be dispatched to the worker thread pool instead");
+        } catch (InvocationTargetException | IllegalAccessException e) {
+            log.warn("Unable to create a virtual thread executor (preview features must be enabled on Java 19 and 20),"
+                    + " endpoints configured to run on a virtual thread will be dispatched to the worker thread pool instead",
+                    e instanceof InvocationTargetException ? e.getCause() : e);
+        }
+        return fallback.get();
+    }
+}
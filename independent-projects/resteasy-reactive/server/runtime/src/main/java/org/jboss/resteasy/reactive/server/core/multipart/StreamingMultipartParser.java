@@ -0,0 +1,604 @@
+package org.jboss.resteasy.reactive.server.core.multipart;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import io.smallrye.mutiny.helpers.Subscriptions;
+import io.smallrye.mutiny.subscription.UniEmitter;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.HttpHeaders;
+import javax.ws.rs.core.Response;
+import org.jboss.logging.Logger;
+import org.jboss.resteasy.reactive.common.headers.HeaderUtil;
+import org.jboss.resteasy.reactive.common.util.CaseInsensitiveMap;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.multipart.StreamedPart;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpRequest;
+import org.reactivestreams.Subscriber;
+import org.reactivestreams.Subscription;
+
+/**
+ * Parses a {@code multipart/form-data} request body as its parts and their content are requested, see
+ * {@link StreamedPart}.
+ * <p>
+ * The request input is paused while the events parsed from a chunk of the body are delivered, and is only resumed
+ * once they all were, so that at most one chunk of the body is held in memory.
+ * <p>
+ * If the body was already read, e.g. by the Vert.x {@code BodyHandler}, the parts are either parsed from the buffered
+ * body or, if the body was parsed as a form, created from that form, see {@link #parts(FormData, String, Executor)}.
+ */
+public class StreamingMultipartParser implements MultipartParser.PartHandler {
+
+    private static final Logger log = Logger.getLogger(StreamingMultipartParser.class);
+
+    private static final Object END_PART = new Object();
+    private static final Object END = new Object();
+    private static final int CHUNK_SIZE = 8192;
+
+    private final ResteasyReactiveRequestContext context;
+    private final Executor executor;
+    private final long maxEntitySize;
+    private final MultipartParser.ParseState parser;
+    private final ByteBuffer bufferedBody;
+
+    /**
+     * The parts, content chunks, part ends and terminal events that were parsed but not delivered yet
+     */
+    private final Queue<Object> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger wip = new AtomicInteger();
+    private final AtomicLong requested = new AtomicLong();
+    private final AtomicBoolean paused = new AtomicBoolean();
+    private volatile Subscriber<? super StreamedPart> subscriber;
+    private volatile boolean cancelled;
+    private volatile boolean ended;
+    private boolean failed;
+    private long entitySize;
+    /**
+     * The last part delivered, only accessed by the drain loop
+     */
+    private Part current;
+
+    /**
+     * @param bufferedBody the whole request body if it was already read from the connection, or {@code null} to read it
+     *        as the parts are requested
+     */
+    public StreamingMultipartParser(ResteasyReactiveRequestContext context, String boundary, String charset,
+            long maxEntitySize, Executor executor, ByteBuffer bufferedBody) {
+        this.context = context;
+        this.executor = executor;
+        this.maxEntitySize = maxEntitySize;
+        this.parser = MultipartParser.beginParse(this, boundary.getBytes(StandardCharsets.US_ASCII), charset);
+        this.bufferedBody = bufferedBody;
+    }
+
+    /**
+     * @return the parts of the request body, the body is only read once this is subscribed to
+     */
+    public Multi<StreamedPart> parts() {
+        return Multi.createFrom().<StreamedPart> publisher(this::subscribe);
+    }
+
+    /**
+     * @param form a request body that was already parsed, the files of which are read from the worker threads
+     * @param charset the charset of the form values
+     * @return the parts of the given form, grouped by name
+     */
+    public static Multi<StreamedPart> parts(FormData form, String charset, Executor executor) {
+        List<StreamedPart> parts = new ArrayList<>();
+        for (String name : form) {
+            for (FormData.FormValue value : form.get(name)) {
+                parts.add(new FormPart(name, value, charset, executor));
+            }
+        }
+        return Multi.createFrom().iterable(parts);
+    }
+
+    private void subscribe(Subscriber<? super StreamedPart> subscriber) {
+        synchronized (this) {
+            if (this.subscriber != null) {
+                Subscriptions.fail(subscriber, new IllegalStateException("The multipart parts can only be consumed once"));
+                return;
+            }
+            this.subscriber = subscriber;
+        }
+        subscriber.onSubscribe(new Subscription() {
+            @Override
+            public void request(long n) {
+                if (n <= 0) {
+                    cancel();
+                    subscriber.onError(Subscriptions.getInvalidRequestException());
+                    return;
+                }
+                Subscriptions.add(requested, n);
+                drain();
+            }
+
+            @Override
+            public void cancel() {
+                cancelled = true;
+                drain();
+            }
+        });
+        if (bufferedBody != null) {
+            BodyListener listener = new BodyListener();
+            listener.data(bufferedBody);
+            listener.done();
+        } else {
+            ServerHttpRequest request = context.serverRequest();
+            request.setReadListener(new BodyListener());
+            request.resumeRequestInput();
+        }
+    }
+
+    @Override
+    public void beginPart(CaseInsensitiveMap<String> headers) {
+        pending.add(new Part(headers));
+    }
+
+    @Override
+    public void data(ByteBuffer buffer) {
+        entitySize += buffer.remaining();
+        if (maxEntitySize > 0 && entitySize > maxEntitySize) {
+            throw new WebApplicationException(Response.Status.REQUEST_ENTITY_TOO_LARGE);
+        }
+        if (buffer.hasRemaining()) {
+            // the buffer may be reused by the parser
+            byte[] chunk = new byte[buffer.remaining()];
+            buffer.get(chunk);
+            pending.add(chunk);
+        }
+    }
+
+    @Override
+    public void endPart() {
+        pending.add(END_PART);
+    }
+
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+        int missed = 1;
+        do {
+            deliver();
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void deliver() {
+        Object event;
+        while ((event = pending.peek()) != null) {
+            if (event instanceof Part) {
+                if (!cancelled) {
+                    if (requested.get() == 0) {
+                        return;
+                    }
+                    Subscriptions.produced(requested, 1);
+                }
+                pending.poll();
+                current = (Part) event;
+                if (!cancelled) {
+                    subscriber.onNext(current);
+                }
+            } else if (event == END) {
+                pending.poll();
+                if (!cancelled) {
+                    subscriber.onComplete();
+                }
+            } else if (event instanceof Throwable) {
+                pending.poll();
+                Throwable failure = (Throwable) event;
+                if (current != null) {
+                    current.fail(failure);
+                }
+                if (!cancelled) {
+                    subscriber.onError(failure);
+                }
+            } else if (!current.deliver(event)) {
+                return;
+            }
+        }
+        if (!ended && paused.compareAndSet(true, false)) {
+            context.serverRequest().resumeRequestInput();
+        }
+    }
+
+    private final class BodyListener implements ServerHttpRequest.ReadCallback {
+
+        @Override
+        public void data(ByteBuffer data) {
+            if (failed) {
+                // the rest of the body is discarded
+                return;
+            }
+            // the request input must be paused before the flag is set, for the drain loop to never resume it too early
+            context.serverRequest().pauseRequestInput();
+            paused.set(true);
+            try {
+                parser.parse(data);
+            } catch (Throwable t) {
+                failed = true;
+                pending.add(t);
+            }
+            drain();
+        }
+
+        @Override
+        public void done() {
+            ended = true;
+            if (!failed) {
+                pending.add(parser.isComplete() ? END : new IOException("Connection terminated reading multipart data"));
+            }
+            drain();
+        }
+    }
+
+    private final class Part implements StreamedPart {
+
+        private final CaseInsensitiveMap<String> headers;
+        private final String name;
+        private final String fileName;
+        private final AtomicLong contentRequested = new AtomicLong();
+        private volatile boolean contentCancelled;
+        private Subscriber<? super byte[]> contentSubscriber;
+        private boolean skipped;
+        private boolean done;
+        private Throwable failure;
+
+        private Part(CaseInsensitiveMap<String> headers) {
+            this.headers = headers;
+            String disposition = headers.getFirst(HttpHeaders.CONTENT_DISPOSITION);
+            if (disposition != null && disposition.startsWith("form-data")) {
+                name = HeaderUtil.extractQuotedValueFromHeader(disposition, "name");
+                fileName = HeaderUtil.extractQuotedValueFromHeaderWithEncoding(disposition, "filename");
+            } else {
+                name = null;
+                fileName = null;
+            }
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public String fileName() {
+            return fileName;
+        }
+
+        @Override
+        public String contentType() {
+            return headers.getFirst(HttpHeaders.CONTENT_TYPE);
+        }
+
+        @Override
+        public String header(String name) {
+            return headers.getFirst(name);
+        }
+
+        @Override
+        public Multi<byte[]> content() {
+            return Multi.createFrom().<byte[]> publisher(this::subscribe);
+        }
+
+        @Override
+        public Uni<Void> writeTo(Path file) {
+            return Uni.createFrom().emitter(emitter -> subscribe(new FileWriter(file, emitter)));
+        }
+
+        private void subscribe(Subscriber<? super byte[]> subscriber) {
+            Throwable failure;
+            synchronized (this) {
+                if (contentSubscriber != null || skipped) {
+                    Subscriptions.fail(subscriber,
+                            new IllegalStateException("The content of the part " + name + " was already consumed or skipped"));
+                    return;
+                }
+                contentSubscriber = subscriber;
+                failure = done ? null : this.failure;
+            }
+            subscriber.onSubscribe(new Subscription() {
+                @Override
+                public void request(long n) {
+                    if (n <= 0) {
+                        cancel();
+                        subscriber.onError(Subscriptions.getInvalidRequestException());
+                        return;
+                    }
+                    Subscriptions.add(contentRequested, n);
+                    drain();
+                }
+
+                @Override
+                public void cancel() {
+                    contentCancelled = true;
+                    drain();
+                }
+            });
+            if (failure != null) {
+                subscriber.onError(failure);
+            } else {
+                drain();
+            }
+        }
+
+        /**
+         * Delivers a content chunk or the end of the part.
+         *
+         * @return {@code false} if the event cannot be delivered yet
+         */
+        private boolean deliver(Object event) {
+            Subscriber<? super byte[]> subscriber;
+            synchronized (this) {
+                subscriber = contentSubscriber;
+                if (subscriber == null && !skipped) {
+                    if (!cancelled && requested.get() == 0) {
+                        // the content may still be subscribed to
+                        return false;
+                    }
+                    // the next part was requested before the content of this one was subscribed to
+                    skipped = true;
+                }
+                if (event == END_PART) {
+                    done = true;
+                }
+            }
+            if (subscriber == null || contentCancelled) {
+                pending.poll();
+                return true;
+            }
+            if (event == END_PART) {
+                pending.poll();
+                subscriber.onComplete();
+                return true;
+            }
+            if (contentRequested.get() == 0) {
+                return false;
+            }
+            Subscriptions.produced(contentRequested, 1);
+            pending.poll();
+            subscriber.onNext((byte[]) event);
+            return true;
+        }
+
+        private void fail(Throwable failure) {
+            Subscriber<? super byte[]> subscriber;
+            synchronized (this) {
+                this.failure = failure;
+                subscriber = done || contentCancelled ? null : contentSubscriber;
+            }
+            if (subscriber != null) {
+                subscriber.onError(failure);
+            }
+        }
+    }
+
+    /**
+     * A part of a request body that was already parsed, the content of which can be consumed any number of times.
+     */
+    private static final class FormPart implements StreamedPart {
+
+        private final String name;
+        private final FormData.FormValue value;
+        private final String charset;
+        private final Executor executor;
+
+        private FormPart(String name, FormData.FormValue value, String charset, Executor executor) {
+            this.name = name;
+            this.value = value;
+            this.charset = value.getCharset() != null ? value.getCharset() : charset;
+            this.executor = executor;
+        }
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public String fileName() {
+            return value.getFileName();
+        }
+
+        @Override
+        public String contentType() {
+            return header(HttpHeaders.CONTENT_TYPE);
+        }
+
+        @Override
+        public String header(String name) {
+            return value.getHeaders() != null ? value.getHeaders().getFirst(name) : null;
+        }
+
+        @Override
+        public Multi<byte[]> content() {
+            if (!value.isFileItem()) {
+                return Multi.createFrom().item(value.getValue().getBytes(Charset.forName(charset)));
+            }
+            return Multi.createFrom().resource(this::open,
+                    in -> Multi.createFrom().<InputStream, byte[]> generator(() -> in, (stream, emitter) -> {
+                        try {
+                            byte[] chunk = new byte[CHUNK_SIZE];
+                            int read = stream.read(chunk);
+                            if (read == -1) {
+                                emitter.complete();
+                            } else {
+                                emitter.emit(read == CHUNK_SIZE ? chunk : Arrays.copyOf(chunk, read));
+                            }
+                        } catch (IOException e) {
+                            emitter.fail(e);
+                        }
+                        return stream;
+                    }))
+                    .withFinalizer(FormPart::close)
+                    .runSubscriptionOn(executor);
+        }
+
+        @Override
+        public Uni<Void> writeTo(Path file) {
+            return Uni.createFrom().emitter(emitter -> executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    try (InputStream in = open()) {
+                        Files.copy(in, file, StandardCopyOption.REPLACE_EXISTING);
+                        emitter.complete(null);
+                    } catch (IOException | UncheckedIOException e) {
+                        emitter.fail(e);
+                    }
+                }
+            }));
+        }
+
+        private InputStream open() {
+            if (!value.isFileItem()) {
+                return new ByteArrayInputStream(value.getValue().getBytes(Charset.forName(charset)));
+            }
+            try {
+                return value.getFileItem().getInputStream();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private static void close(InputStream in) {
+            try {
+                in.close();
+            } catch (IOException e) {
+                log.debug("Cannot close the form file stream", e);
+            }
+        }
+    }
+
+    /**
+     * Writes the content of a part to a file from the worker threads, one chunk at a time.
+     */
+    private final class FileWriter implements Subscriber<byte[]> {
+
+        private final Path file;
+        private final UniEmitter<? super Void> emitter;
+        private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger wip = new AtomicInteger();
+        private Subscription subscription;
+        private FileChannel channel;
+        private boolean failed;
+
+        private FileWriter(Path file, UniEmitter<? super Void> emitter) {
+            this.file = file;
+            this.emitter = emitter;
+        }
+
+        @Override
+        public void onSubscribe(Subscription subscription) {
+            this.subscription = subscription;
+            emitter.onTermination(subscription::cancel);
+            schedule(() -> {
+                try {
+                    channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                            StandardOpenOption.TRUNCATE_EXISTING);
+                    subscription.request(1);
+                } catch (IOException e) {
+                    fail(e);
+                }
+            });
+        }
+
+        @Override
+        public void onNext(byte[] chunk) {
+            schedule(() -> {
+                if (failed) {
+                    return;
+                }
+                try {
+                    ByteBuffer buffer = ByteBuffer.wrap(chunk);
+                    while (buffer.hasRemaining()) {
+                        channel.write(buffer);
+                    }
+                    subscription.request(1);
+                } catch (IOException e) {
+                    fail(e);
+                }
+            });
+        }
+
+        @Override
+        public void onError(Throwable t) {
+            schedule(() -> fail(t));
+        }
+
+        @Override
+        public void onComplete() {
+            schedule(() -> {
+                if (failed) {
+                    return;
+                }
+                try {
+                    channel.close();
+                    emitter.complete(null);
+                } catch (IOException e) {
+                    fail(e);
+                }
+            });
+        }
+
+        private void fail(Throwable t) {
+            if (failed) {
+                return;
+            }
+            failed = true;
+            subscription.cancel();
+            try {
+                if (channel != null) {
+                    channel.close();
+                }
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.debug("Cannot remove partially written file " + file, e);
+            }
+            emitter.fail(t);
+        }
+
+        /**
+         * Runs the tasks in order, one at a time, as the file operations are blocking
+         */
+        private void schedule(Runnable task) {
+            tasks.add(task);
+            if (wip.getAndIncrement() != 0) {
+                return;
+            }
+            executor.execute(new Runnable() {
+                @Override
+                public void run() {
+                    int missed = 1;
+                    do {
+                        Runnable next;
+                        while ((next = tasks.poll()) != null) {
+                            next.run();
+                        }
+                        missed = wip.addAndGet(-missed);
+                    } while (missed != 0);
+                }
+            });
+        }
+    }
+}
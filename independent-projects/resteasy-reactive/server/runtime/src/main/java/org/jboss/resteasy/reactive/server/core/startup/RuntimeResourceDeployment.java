@@ -39,6 +39,7 @@ import org.jboss.resteasy.reactive.common.util.ServerMediaType;
 import org.jboss.resteasy.reactive.common.util.types.TypeSignatureParser;
 import org.jboss.resteasy.reactive.server.core.DeploymentInfo;
 import org.jboss.resteasy.reactive.server.core.ServerSerialisers;
+import org.jboss.resteasy.reactive.server.core.VirtualThreadExecutorSupplier;
 import org.jboss.resteasy.reactive.server.core.parameters.AsyncResponseExtractor;
 import org.jboss.resteasy.reactive.server.core.parameters.BodyParamExtractor;
 import org.jboss.resteasy.reactive.server.core.parameters.ContextParamExtractor;
@@ -62,6 +63,7 @@ import org.jboss.resteasy.reactive.server.handlers.BlockingHandler;
 import org.jboss.resteasy.reactive.server.handlers.ExceptionHandler;
 import org.jboss.resteasy.reactive.server.handlers.FixedProducesHandler;
 import org.jboss.resteasy.reactive.server.handlers.FormBodyHandler;
+import org.jboss.resteasy.reactive.server.handlers.FusedParameterHandler;
 import org.jboss.resteasy.reactive.server.handlers.InputHandler;
 import org.jboss.resteasy.reactive.server.handlers.InstanceHandler;
 import org.jboss.resteasy.reactive.server.handlers.InvocationHandler;
@@ -75,6 +77,7 @@ import org.jboss.resteasy.reactive.server.handlers.ResourceRequestFilterHandler;
 import org.jboss.resteasy.reactive.server.handlers.ResponseHandler;
 import org.jboss.resteasy.reactive.server.handlers.ResponseWriterHandler;
 import org.jboss.resteasy.reactive.server.handlers.SseResponseWriterHandler;
+import org.jboss.resteasy.reactive.server.handlers.StreamingMultipartHandler;
 import org.jboss.resteasy.reactive.server.handlers.VariableProducesHandler;
 import org.jboss.resteasy.reactive.server.mapping.RuntimeResource;
 import org.jboss.resteasy.reactive.server.mapping.URITemplate;
@@ -82,6 +85,7 @@ import org.jboss.resteasy.reactive.server.model.HandlerChainCustomizer;
 import org.jboss.resteasy.reactive.server.model.ParamConverterProviders;
 import org.jboss.resteasy.reactive.server.model.ServerMethodParameter;
 import org.jboss.resteasy.reactive.server.model.ServerResourceMethod;
+import org.jboss.resteasy.reactive.server.multipart.StreamedPart;
 import org.jboss.resteasy.reactive.server.spi.EndpointInvoker;
 import org.jboss.resteasy.reactive.server.spi.ResteasyReactiveResourceInfo;
 import org.jboss.resteasy.reactive.server.spi.ServerMessageBodyWriter;
@@ -111,6 +115,7 @@ public class RuntimeResourceDeployment {
      */
     private final boolean defaultBlocking;
     private final BlockingHandler blockingHandler;
+    private final BlockingHandler virtualThreadBlockingHandler;
     private final ResponseWriterHandler responseWriterHandler;
 
     public RuntimeResourceDeployment(DeploymentInfo info, Supplier<Executor> executorSupplier,
@@ -125,6 +130,7 @@ public class RuntimeResourceDeployment {
         this.resourceLocatorHandler = resourceLocatorHandler;
         this.defaultBlocking = defaultBlocking;
         this.blockingHandler = new BlockingHandler(executorSupplier);
+        this.virtualThreadBlockingHandler = new BlockingHandler(new VirtualThreadExecutorSupplier(executorSupplier));
         this.responseWriterHandler = new ResponseWriterHandler(dynamicEntityWriter);
     }
 
@@ -199,7 +205,11 @@ public class RuntimeResourceDeployment {
         //we don't need to run this for Servlet and other runtimes that default to blocking
         Optional<Integer> blockingHandlerIndex = Optional.empty();
         if (!defaultBlocking) {
-            if (method.isBlocking()) {
+            if (method.isRunOnVirtualThread()) {
+                handlers.add(virtualThreadBlockingHandler);
+                blockingHandlerIndex = Optional.of(handlers.size() - 1);
+                score.add(ScoreSystem.Category.Execution, ScoreSystem.Diagnostic.ExecutionVirtualThread);
+            } else if (method.isBlocking()) {
                 handlers.add(blockingHandler);
                 blockingHandlerIndex = Optional.of(handlers.size() - 1);
                 score.add(ScoreSystem.Category.Execution, ScoreSystem.Diagnostic.ExecutionBlocking);
@@ -257,7 +267,11 @@ public class RuntimeResourceDeployment {
         }
         // form params can be everywhere (field, beanparam, param)
         boolean checkReadBodyRequestFilters = false;
-        if (method.isFormParamRequired() || method.isMultipart()) {
+        boolean streamedMultipart = bodyParameter != null && isStreamedMultipart(bodyParameter);
+        if (streamedMultipart) {
+            // the body is read as the endpoint consumes the parts
+            handlers.add(new StreamingMultipartHandler(executorSupplier));
+        } else if (method.isFormParamRequired() || method.isMultipart()) {
             // read the body as multipart in one go
             handlers.add(new FormBodyHandler(bodyParameter != null, executorSupplier));
             checkReadBodyRequestFilters = true;
@@ -286,7 +300,7 @@ public class RuntimeResourceDeployment {
         }
 
         // if we need the body, let's deserialize it
-        if (bodyParameter != null) {
+        if (bodyParameter != null && !streamedMultipart) {
             Class<Object> typeClass = loadClass(bodyParameter.declaredType);
             Type genericType = typeClass;
             if (!bodyParameter.type.equals(bodyParameter.declaredType)) {
@@ -312,6 +326,7 @@ public class RuntimeResourceDeployment {
         }
 
         addHandlers(handlers, clazz, method, info, HandlerChainCustomizer.Phase.RESOLVE_METHOD_PARAMETERS);
+        List<ParameterHandler> fusedParameterHandlers = new ArrayList<>(parameters.length);
         for (int i = 0; i < parameters.length; i++) {
             ServerMethodParameter param = (ServerMethodParameter) parameters[i];
             boolean single = param.isSingle();
@@ -339,10 +354,18 @@ public class RuntimeResourceDeployment {
                 }
             }
 
-            handlers.add(new ParameterHandler(i, param.getDefaultValue(), extractor,
+            ParameterHandler parameterHandler = new ParameterHandler(i, param.getDefaultValue(), extractor,
                     converter, param.parameterType,
-                    param.isObtainedAsCollection(), param.isOptional()));
+                    param.isObtainedAsCollection(), param.isOptional());
+            // custom extractors may provide the value asynchronously so they need their own handler
+            if (info.isFuseParameterHandlers() && param.parameterType != ParameterType.CUSTOM) {
+                fusedParameterHandlers.add(parameterHandler);
+            } else {
+                addFusedParameterHandlers(handlers, fusedParameterHandlers);
+                handlers.add(parameterHandler);
+            }
         }
+        addFusedParameterHandlers(handlers, fusedParameterHandlers);
         addHandlers(handlers, clazz, method, info, HandlerChainCustomizer.Phase.BEFORE_METHOD_INVOKE);
         EndpointInvoker invoker = method.getInvoker().get();
         ServerRestHandler alternate = alternateInvoker(method, invoker);
@@ -543,6 +566,25 @@ public class RuntimeResourceDeployment {
         return null;
     }
 
+    private static boolean isStreamedMultipart(MethodParameter bodyParameter) {
+        if (!Multi.class.getName().equals(bodyParameter.declaredType) || bodyParameter.signature == null) {
+            return false;
+        }
+        Type type = TypeSignatureParser.parse(bodyParameter.signature);
+        return type instanceof ParameterizedType
+                && ((ParameterizedType) type).getActualTypeArguments()[0].getTypeName().equals(StreamedPart.class.getName());
+    }
+
+    private static void addFusedParameterHandlers(List<ServerRestHandler> handlers,
+            List<ParameterHandler> fusedParameterHandlers) {
+        if (fusedParameterHandlers.size() == 1) {
+            handlers.add(fusedParameterHandlers.get(0));
+        } else if (fusedParameterHandlers.size() > 1) {
+            handlers.add(new FusedParameterHandler(fusedParameterHandlers));
+        }
+        fusedParameterHandlers.clear();
+    }
+
     public ParameterExtractor parameterExtractor(Map<String, Integer> pathParameterIndexes, boolean locatableResource,
             ParameterType type, String javaType,
             String name,
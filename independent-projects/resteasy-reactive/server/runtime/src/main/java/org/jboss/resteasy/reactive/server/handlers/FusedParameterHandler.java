@@ -0,0 +1,89 @@
+package org.jboss.resteasy.reactive.server.handlers;
+
+import java.util.List;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.core.parameters.CookieParamExtractor;
+import org.jboss.resteasy.reactive.server.core.parameters.FormParamExtractor;
+import org.jboss.resteasy.reactive.server.core.parameters.HeaderParamExtractor;
+import org.jboss.resteasy.reactive.server.core.parameters.ParameterExtractor;
+import org.jboss.resteasy.reactive.server.core.parameters.PathParamExtractor;
+import org.jboss.resteasy.reactive.server.core.parameters.QueryParamExtractor;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+
+/**
+ * Runs several {@link ParameterHandler} in a single step of the handler chain.
+ * <p>
+ * The extractors of the most common parameter types are invoked through their concrete type, so that these calls
+ * don't go through the megamorphic {@link ParameterExtractor#extractParameter} call site shared by every parameter
+ * of every endpoint. Only parameters whose value is obtained synchronously, i.e.
+ * without a {@link ParameterExtractor.ParameterCallback}, can be handled here.
+ */
+public class FusedParameterHandler implements ServerRestHandler {
+
+    private static final byte OTHER = 0;
+    private static final byte QUERY = 1;
+    private static final byte PATH = 2;
+    private static final byte HEADER = 3;
+    private static final byte COOKIE = 4;
+    private static final byte FORM = 5;
+
+    private final ParameterHandler[] handlers;
+    private final byte[] kinds;
+
+    public FusedParameterHandler(List<ParameterHandler> handlers) {
+        this.handlers = handlers.toArray(new ParameterHandler[0]);
+        this.kinds = new byte[this.handlers.length];
+        for (int i = 0; i < this.handlers.length; i++) {
+            kinds[i] = kindOf(this.handlers[i].extractor);
+        }
+    }
+
+    @Override
+    public void handle(ResteasyReactiveRequestContext requestContext) throws Exception {
+        for (int i = 0; i < handlers.length; i++) {
+            ParameterHandler handler = handlers[i];
+            Object result;
+            try {
+                switch (kinds[i]) {
+                    case QUERY:
+                        result = ((QueryParamExtractor) handler.extractor).extractParameter(requestContext);
+                        break;
+                    case PATH:
+                        result = ((PathParamExtractor) handler.extractor).extractParameter(requestContext);
+                        break;
+                    case HEADER:
+                        result = ((HeaderParamExtractor) handler.extractor).extractParameter(requestContext);
+                        break;
+                    case COOKIE:
+                        result = ((CookieParamExtractor) handler.extractor).extractParameter(requestContext);
+                        break;
+                    case FORM:
+                        result = ((FormParamExtractor) handler.extractor).extractParameter(requestContext);
+                        break;
+                    default:
+                        result = handler.extractor.extractParameter(requestContext);
+                        break;
+                }
+                handler.handleResult(result, requestContext, false);
+            } catch (Exception e) {
+                throw ParameterHandler.extractionFailure(e);
+            }
+        }
+    }
+
+    private static byte kindOf(ParameterExtractor extractor) {
+        Class<?> type = extractor.getClass();
+        if (type == QueryParamExtractor.class) {
+            return QUERY;
+        } else if (type == PathParamExtractor.class) {
+            return PATH;
+        } else if (type == HeaderParamExtractor.class) {
+            return HEADER;
+        } else if (type == CookieParamExtractor.class) {
+            return COOKIE;
+        } else if (type == FormParamExtractor.class) {
+            return FORM;
+        }
+        return OTHER;
+    }
+}
@@ -18,7 +18,7 @@ public class ParameterHandler implements ServerRestHandler {
 
     private final int index;
     private final String defaultValue;
-    private final ParameterExtractor extractor;
+    final ParameterExtractor extractor;
     private final ParameterConverter converter;
     private final ParameterType parameterType;
     private final boolean isCollection;
@@ -55,16 +55,20 @@ public class ParameterHandler implements ServerRestHandler {
                 handleResult(result, requestContext, false);
             }
         } catch (Exception e) {
-            log.debug("Error occurred during parameter extraction", e);
-            if (e instanceof WebApplicationException) {
-                throw e;
-            } else {
-                throw new WebApplicationException(e, 400);
-            }
+            throw extractionFailure(e);
+        }
+    }
+
+    static RuntimeException extractionFailure(Exception e) {
+        log.debug("Error occurred during parameter extraction", e);
+        if (e instanceof WebApplicationException) {
+            return (WebApplicationException) e;
+        } else {
+            return new WebApplicationException(e, 400);
         }
     }
 
-    private void handleResult(Object result, ResteasyReactiveRequestContext requestContext, boolean needsResume) {
+    void handleResult(Object result, ResteasyReactiveRequestContext requestContext, boolean needsResume) {
         // empty collections should still get their default value
         if (defaultValue != null
                 && (result == null || (isCollection && ((Collection) result).isEmpty()))) {
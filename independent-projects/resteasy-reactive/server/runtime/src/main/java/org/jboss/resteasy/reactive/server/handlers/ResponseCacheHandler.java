@@ -0,0 +1,375 @@
+package org.jboss.resteasy.reactive.server.handlers;
+
+import java.io.ByteArrayOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import javax.ws.rs.HttpMethod;
+import javax.ws.rs.core.HttpHeaders;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.spi.ResponseCapture;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpRequest;
+import org.jboss.resteasy.reactive.server.spi.ServerHttpResponse;
+import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
+
+/**
+ * Serves the responses of a resource method annotated with {@link org.jboss.resteasy.reactive.server.Cached} from
+ * memory, and captures the responses to cache when the method is invoked.
+ */
+public class ResponseCacheHandler implements ServerRestHandler {
+
+    /**
+     * Larger responses are not cached
+     */
+    static final int MAX_BODY_SIZE = 1024 * 1024;
+
+    private static final ServerRestHandler[] CACHE_HIT = new ServerRestHandler[0];
+    private static final String AGE = "Age";
+    private static final String AUTHORIZATION = "Authorization";
+    private static final String COOKIE = "Cookie";
+
+    // make mutable to allow for bytecode serialization
+    private long ttl;
+    private int maxEntries;
+    private List<String> varyHeaders = new ArrayList<>();
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public ResponseCacheHandler() {
+    }
+
+    /**
+     * @return the time, in seconds, a response is kept
+     */
+    public long getTtl() {
+        return ttl;
+    }
+
+    public void setTtl(long ttl) {
+        this.ttl = ttl;
+    }
+
+    public int getMaxEntries() {
+        return maxEntries;
+    }
+
+    public void setMaxEntries(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public List<String> getVaryHeaders() {
+        return varyHeaders;
+    }
+
+    public void setVaryHeaders(List<String> varyHeaders) {
+        this.varyHeaders = varyHeaders;
+    }
+
+    /**
+     * @return the number of requests that were served from the cache
+     */
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of cacheable requests that had to invoke the resource method
+     */
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    @Override
+    public void handle(ResteasyReactiveRequestContext requestContext) throws Exception {
+        if (!HttpMethod.GET.equals(requestContext.getMethod())) {
+            return;
+        }
+        ServerHttpRequest request = requestContext.serverRequest();
+        if (request.getRequestHeader(AUTHORIZATION) != null && !isVaryHeader(AUTHORIZATION)) {
+            return;
+        }
+        // a cookie usually identifies a user or a session, and the response may depend on it
+        if (request.getRequestHeader(COOKIE) != null && !isVaryHeader(COOKIE)) {
+            return;
+        }
+        String key = key(requestContext, request);
+        long now = System.nanoTime();
+        Entry entry = entries.get(key);
+        if (entry != null && !hasDirective(request.getRequestHeader(HttpHeaders.CACHE_CONTROL), "no-cache")) {
+            if (entry.expiresAt - now > 0) {
+                hits.increment();
+                send(requestContext, entry, now);
+                return;
+            }
+            entries.remove(key, entry);
+        }
+        misses.increment();
+        requestContext.setResponseCapture(new Capture(key, requestContext.serverResponse()));
+    }
+
+    private void send(ResteasyReactiveRequestContext requestContext, Entry entry, long now) {
+        ServerHttpResponse response = requestContext.serverResponse();
+        // the remaining handlers are skipped, and the request is closed once the response is sent
+        requestContext.restart(CACHE_HIT);
+        String ifNoneMatch = requestContext.serverRequest().getRequestHeader(HttpHeaders.IF_NONE_MATCH);
+        if (ifNoneMatch != null && (ifNoneMatch.equals("*") || ifNoneMatch.contains(entry.etag))) {
+            response.setResponseHeader(HttpHeaders.ETAG, entry.etag);
+            addVary(response);
+            response.setStatusCode(304).end();
+            return;
+        }
+        // the headers set before the resource method was invoked, e.g. by other routes, are already present
+        // and were not captured, so the captured ones replace rather than add to them
+        for (Map.Entry<String, List<CharSequence>> header : entry.headers.entrySet()) {
+            response.setResponseHeader(header.getKey(), header.getValue());
+        }
+        addVary(response);
+        response.setResponseHeader(HttpHeaders.ETAG, entry.etag);
+        response.setResponseHeader(AGE, Long.toString(TimeUnit.NANOSECONDS.toSeconds(now - entry.storedAt)));
+        response.setStatusCode(entry.status).end(entry.body);
+    }
+
+    private String key(ResteasyReactiveRequestContext requestContext, ServerHttpRequest request) {
+        StringBuilder key = new StringBuilder(requestContext.getPath());
+        String query = request.query();
+        if (query != null) {
+            key.append('?').append(query);
+        }
+        key.append('\n').append(headerValue(request, HttpHeaders.ACCEPT));
+        for (int i = 0; i < varyHeaders.size(); i++) {
+            key.append('\n').append(headerValue(request, varyHeaders.get(i)));
+        }
+        return key.toString();
+    }
+
+    private static String headerValue(ServerHttpRequest request, String name) {
+        List<String> values = request.getAllRequestHeaders(name);
+        if (values == null || values.isEmpty()) {
+            return "";
+        }
+        return values.size() == 1 ? values.get(0) : String.join(",", values);
+    }
+
+    /**
+     * Adds the request headers the responses are cached per to the {@code Vary} header of the response, so that other
+     * caches do not mix the variants up either
+     */
+    private void addVary(ServerHttpResponse response) {
+        StringBuilder vary = new StringBuilder();
+        Set<String> names = new TreeSet<>(String.CASE_INSENSITIVE_ORDER);
+        for (Map.Entry<String, String> header : response.getAllResponseHeaders()) {
+            if (header.getKey().equalsIgnoreCase(HttpHeaders.VARY)) {
+                for (String name : header.getValue().split(",")) {
+                    String trimmed = name.trim();
+                    if (trimmed.equals("*")) {
+                        // the response varies on everything already
+                        return;
+                    }
+                    if (!trimmed.isEmpty() && names.add(trimmed)) {
+                        appendVary(vary, trimmed);
+                    }
+                }
+            }
+        }
+        if (names.add(HttpHeaders.ACCEPT)) {
+            appendVary(vary, HttpHeaders.ACCEPT);
+        }
+        for (int i = 0; i < varyHeaders.size(); i++) {
+            if (names.add(varyHeaders.get(i))) {
+                appendVary(vary, varyHeaders.get(i));
+            }
+        }
+        response.setResponseHeader(HttpHeaders.VARY, vary.toString());
+    }
+
+    private static void appendVary(StringBuilder vary, String name) {
+        if (vary.length() > 0) {
+            vary.append(", ");
+        }
+        vary.append(name);
+    }
+
+    private boolean isVaryHeader(String name) {
+        for (int i = 0; i < varyHeaders.size(); i++) {
+            if (varyHeaders.get(i).equalsIgnoreCase(name)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void store(String key, Entry entry) {
+        if (entries.size() >= maxEntries) {
+            long now = System.nanoTime();
+            Iterator<Entry> iterator = entries.values().iterator();
+            while (iterator.hasNext()) {
+                if (iterator.next().expiresAt - now <= 0) {
+                    iterator.remove();
+                }
+            }
+            if (entries.size() >= maxEntries) {
+                // only responses that are still fresh are left, there is no point in evicting them
+                return;
+            }
+        }
+        entries.put(key, entry);
+    }
+
+    static boolean hasDirective(String cacheControl, String directive) {
+        if (cacheControl == null) {
+            return false;
+        }
+        for (String part : cacheControl.split(",")) {
+            String trimmed = part.trim();
+            int valueStart = trimmed.indexOf('=');
+            if ((valueStart < 0 ? trimmed : trimmed.substring(0, valueStart)).equalsIgnoreCase(directive)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean isStoredHeader(String name) {
+        switch (name.toLowerCase(Locale.ROOT)) {
+            case "content-length":
+            case "transfer-encoding":
+            case "connection":
+            case "keep-alive":
+            case "date":
+            case "age":
+            case "etag":
+                return false;
+            default:
+                return true;
+        }
+    }
+
+    private static Map.Entry<String, String> headerEntry(Map.Entry<String, String> header) {
+        return new AbstractMap.SimpleImmutableEntry<>(header.getKey().toLowerCase(Locale.ROOT), header.getValue());
+    }
+
+    private static String etag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-1").digest(body);
+            return '"' + Base64.getUrlEncoder().withoutPadding().encodeToString(digest) + '"';
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class Entry {
+
+        final int status;
+        final Map<String, List<CharSequence>> headers;
+        final byte[] body;
+        final String etag;
+        final long storedAt;
+        final long expiresAt;
+
+        Entry(int status, Map<String, List<CharSequence>> headers, byte[] body, String etag, long storedAt,
+                long expiresAt) {
+            this.status = status;
+            this.headers = headers;
+            this.body = body;
+            this.etag = etag;
+            this.storedAt = storedAt;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    private final class Capture implements ResponseCapture {
+
+        private final String key;
+        private final ServerHttpResponse response;
+        // the headers set per request before the resource method was invoked, e.g. by other routes or CORS handling,
+        // which are not part of the cached response
+        private final Set<Map.Entry<String, String>> initialHeaders = new HashSet<>();
+        private int status;
+        private Map<String, List<CharSequence>> headers;
+        private String etag;
+        private ByteArrayOutputStream body = new ByteArrayOutputStream();
+
+        Capture(String key, ServerHttpResponse response) {
+            this.key = key;
+            this.response = response;
+            for (Map.Entry<String, String> header : response.getAllResponseHeaders()) {
+                this.initialHeaders.add(headerEntry(header));
+            }
+        }
+
+        @Override
+        public void head(int status, Iterable<Map.Entry<String, String>> responseHeaders) {
+            // the headers can still be modified at this point
+            addVary(response);
+            if (status != 200) {
+                body = null;
+                return;
+            }
+            Map<String, List<CharSequence>> headers = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            for (Map.Entry<String, String> header : responseHeaders) {
+                String name = header.getKey();
+                if (name.equalsIgnoreCase("Set-Cookie")) {
+                    body = null;
+                    return;
+                }
+                if (name.equalsIgnoreCase(HttpHeaders.CACHE_CONTROL)
+                        && (hasDirective(header.getValue(), "no-store") || hasDirective(header.getValue(), "private"))) {
+                    body = null;
+                    return;
+                }
+                if (name.equalsIgnoreCase(HttpHeaders.ETAG)) {
+                    etag = header.getValue();
+                }
+                if (isStoredHeader(name) && !initialHeaders.contains(headerEntry(header))) {
+                    headers.computeIfAbsent(name, k -> new ArrayList<>()).add(header.getValue());
+                }
+            }
+            this.status = status;
+            this.headers = headers;
+        }
+
+        @Override
+        public void data(byte[] data, int offset, int length) {
+            if (body == null) {
+                return;
+            }
+            if (body.size() + length > MAX_BODY_SIZE) {
+                body = null;
+                return;
+            }
+            body.write(data, offset, length);
+        }
+
+        @Override
+        public void end() {
+            if (body == null || headers == null) {
+                return;
+            }
+            byte[] bytes = body.toByteArray();
+            body = null;
+            long now = System.nanoTime();
+            store(key, new Entry(status, headers, bytes, etag != null ? etag : etag(bytes), now,
+                    now + TimeUnit.SECONDS.toNanos(ttl)));
+        }
+
+        @Override
+        public void abort() {
+            body = null;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package org.jboss.resteasy.reactive.server.handlers;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import javax.ws.rs.BadRequestException;
+import javax.ws.rs.NotSupportedException;
+import javax.ws.rs.core.HttpHeaders;
+import org.jboss.resteasy.reactive.common.headers.HeaderUtil;
+import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.core.multipart.FormData;
+import org.jboss.resteasy.reactive.server.core.multipart.MultiPartParserDefinition;
+import org.jboss.resteasy.reactive.server.core.multipart.StreamingMultipartParser;
+import org.jboss.resteasy.reactive.server.spi.RuntimeConfigurableServerRestHandler;
+import org.jboss.resteasy.reactive.server.spi.RuntimeConfiguration;
+
+/**
+ * Sets the request entity of the endpoints that take a {@code Multi<StreamedPart>} body, which reads the request body
+ * as the endpoint consumes it rather than before invoking it.
+ */
+public class StreamingMultipartHandler implements RuntimeConfigurableServerRestHandler {
+
+    private final Supplier<Executor> executorSupplier;
+    private volatile long maxEntitySize = -1;
+    private volatile String defaultCharset;
+
+    public StreamingMultipartHandler(Supplier<Executor> executorSupplier) {
+        this.executorSupplier = executorSupplier;
+    }
+
+    @Override
+    public void configure(RuntimeConfiguration configuration) {
+        maxEntitySize = configuration.limits().maxBodySize().orElse(-1L);
+        defaultCharset = configuration.body().defaultCharset().name();
+    }
+
+    @Override
+    public void handle(ResteasyReactiveRequestContext requestContext) throws Exception {
+        String contentType = requestContext.serverRequest().getRequestHeader(HttpHeaders.CONTENT_TYPE);
+        if (contentType == null || !contentType.startsWith(MultiPartParserDefinition.MULTIPART_FORM_DATA)) {
+            throw new NotSupportedException();
+        }
+        String boundary = HeaderUtil.extractQuotedValueFromHeader(contentType, "boundary");
+        if (boundary == null) {
+            throw new BadRequestException("Could not find boundary in multipart request");
+        }
+        String charset = HeaderUtil.extractQuotedValueFromHeader(contentType, "charset");
+        if (charset == null) {
+            charset = defaultCharset;
+        }
+        // the body may have been read already, e.g. by a Vert.x BodyHandler or a request filter
+        FormData form = requestContext.getFormData();
+        if (form == null) {
+            form = requestContext.serverRequest().getExistingParsedForm();
+        }
+        if (form != null) {
+            requestContext.setRequestEntity(StreamingMultipartParser.parts(form, charset, executorSupplier.get()));
+            return;
+        }
+        ByteBuffer bufferedBody = null;
+        if (requestContext.serverRequest().isRequestEnded()) {
+            // the request was fully received before this handler ran, so reading what is left of it does not block
+            byte[] body = readBufferedBody(requestContext.getInputStream());
+            if (body.length == 0) {
+                throw new IllegalStateException("The multipart request body was already consumed and cannot be streamed,"
+                        + " make sure no other handler reads it before the endpoint");
+            }
+            bufferedBody = ByteBuffer.wrap(body);
+        }
+        StreamingMultipartParser parser = new StreamingMultipartParser(requestContext, boundary, charset, maxEntitySize,
+                executorSupplier.get(), bufferedBody);
+        requestContext.setRequestEntity(parser.parts());
+    }
+
+    private static byte[] readBufferedBody(InputStream in) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        int read;
+        while ((read = in.read(buffer)) != -1) {
+            out.write(buffer, 0, read);
+        }
+        return out.toByteArray();
+    }
+}
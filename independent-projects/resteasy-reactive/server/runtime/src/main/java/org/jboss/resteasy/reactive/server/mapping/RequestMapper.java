@@ -11,6 +11,8 @@ import org.jboss.resteasy.reactive.common.util.URIDecoder;
 
 public class RequestMapper<T> {
 
+    private static final String[] NO_PARAMS = new String[0];
+
     private final PathMatcher<List<RequestPath<T>>> requestPaths;
     private final PathMatcher.Builder<List<RequestPath<T>>> pathMatcherBuilder;
     private final List<RequestPath<T>> templates;
@@ -57,19 +59,26 @@ public class RequestMapper<T> {
         }
 
         List<RequestPath<T>> value = initialMatch.getValue();
+        int stemLength = initialMatch.getMatched().length();
+        //the parameter array is shared by all the candidates, as only the successful one is returned
+        String[] params = maxParams == 0 ? NO_PARAMS : new String[maxParams];
         for (int index = 0; index < value.size(); index++) {
             RequestPath<T> potentialMatch = value.get(index);
-            String[] params = new String[maxParams];
             int paramCount = 0;
             boolean matched = true;
             boolean prefixAllowed = potentialMatch.prefixTemplate;
-            int matchPos = initialMatch.getMatched().length();
-            for (int i = 1; i < potentialMatch.template.components.length; ++i) {
-                URITemplate.TemplateComponent segment = potentialMatch.template.components[i];
+            int matchPos = stemLength;
+            URITemplate.TemplateComponent[] components = potentialMatch.template.components;
+            for (int i = 1; i < components.length; ++i) {
+                URITemplate.TemplateComponent segment = components[i];
                 if (segment.type == URITemplate.Type.CUSTOM_REGEX) {
-                    Matcher matcher = segment.pattern.matcher(path);
-                    matched = matcher.find(matchPos);
-                    if (!matched || matcher.start() != matchPos) {
+                    //anchor the match at the current position, rather than scanning the remainder of the path
+                    Matcher matcher = segment.pattern.matcher(path)
+                            .region(matchPos, pathLength)
+                            .useTransparentBounds(true)
+                            .useAnchoringBounds(false);
+                    matched = matcher.lookingAt();
+                    if (!matched) {
                         break;
                     }
                     matchPos = matcher.end();
@@ -78,30 +87,25 @@ public class RequestMapper<T> {
                     }
                 } else if (segment.type == URITemplate.Type.LITERAL) {
                     //make sure the literal text is the same
-                    if (matchPos + segment.literalText.length() > pathLength) {
+                    String literalText = segment.literalText;
+                    if (!path.regionMatches(matchPos, literalText, 0, literalText.length())) {
                         matched = false;
-                        break; //too long
-                    }
-                    for (int pos = 0; pos < segment.literalText.length(); ++pos) {
-                        if (path.charAt(matchPos++) != segment.literalText.charAt(pos)) {
-                            matched = false;
-                            break;
-                        }
+                        break;
                     }
+                    matchPos += literalText.length();
                 } else if (segment.type == URITemplate.Type.DEFAULT_REGEX) {
                     if (matchPos == pathLength) {
                         matched = false;
                         break;
                     }
                     int start = matchPos;
-                    while (matchPos < pathLength && path.charAt(matchPos) != '/') {
-                        matchPos++;
-                    }
+                    int end = path.indexOf('/', matchPos);
+                    matchPos = end == -1 ? pathLength : end;
                     params[paramCount++] = URIDecoder.decodeURIComponent(path.substring(start, matchPos), false);
                 }
             }
-            if (paramCount < params.length) {
-                params[paramCount] = null;
+            if (!matched) {
+                continue;
             }
             boolean fullMatch = matchPos == pathLength;
             boolean doPrefixMatch = false;
@@ -110,7 +114,7 @@ public class RequestMapper<T> {
                 doPrefixMatch = (matchPos == 1 || path.charAt(matchPos) == '/') //matchPos == 1 corresponds to '/' as a root level match
                         && (prefixAllowed || matchPos == pathLength - 1); //if prefix is allowed, or the remainder is only a trailing /
             }
-            if (matched && (fullMatch || doPrefixMatch)) {
+            if (fullMatch || doPrefixMatch) {
                 String remaining;
                 if (fullMatch) {
                     remaining = "";
@@ -121,6 +125,8 @@ public class RequestMapper<T> {
                         remaining = path.substring(matchPos);
                     }
                 }
+                //clear out any values left behind by candidates that failed to match
+                Arrays.fill(params, paramCount, params.length, null);
                 return new RequestMatch(potentialMatch.template, potentialMatch.value, params, remaining);
             }
         }
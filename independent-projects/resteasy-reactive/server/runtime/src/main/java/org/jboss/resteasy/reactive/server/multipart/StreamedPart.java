@@ -0,0 +1,58 @@
+package org.jboss.resteasy.reactive.server.multipart;
+
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import java.nio.file.Path;
+
+/**
+ * A part of a {@code multipart/form-data} request body that is streamed to the endpoint as it is received.
+ * <p>
+ * Endpoints opt in to streaming by declaring a body parameter of type {@code Multi<StreamedPart>}. The request body is
+ * then neither buffered in memory nor written to temporary files: it is read as the parts and their content are
+ * requested, so at most one chunk of the body is held in memory at any time.
+ * <p>
+ * The parts are emitted in the order they are received, and the content of a part is only available until the next
+ * part is requested: if the content was not subscribed to by then, it is skipped.
+ * <p>
+ * If the request body was already read before the endpoint, e.g. by a Vert.x {@code BodyHandler}, the parts are
+ * created from what that handler kept of it, and their order may then differ from the order of the request.
+ */
+public interface StreamedPart {
+
+    /**
+     * @return the name of the form field
+     */
+    String name();
+
+    /**
+     * @return the file name of the part, or {@code null} if the part is not a file
+     */
+    String fileName();
+
+    /**
+     * @return the content type of the part, or {@code null} if not specified
+     */
+    String contentType();
+
+    /**
+     * @return the first value of the given header of the part, or {@code null} if not present
+     */
+    String header(String name);
+
+    /**
+     * The content of the part, as the chunks of the request body it is made of. This can only be subscribed to once.
+     * <p>
+     * The request body is read as the chunks are requested, so a slow subscriber slows down the client instead of
+     * buffering the content.
+     */
+    Multi<byte[]> content();
+
+    /**
+     * Streams the content of the part to the given file, which is created or truncated. The content is written as it
+     * is received, without going through a temporary file, and the file is deleted if the request fails before the
+     * whole content was written.
+     *
+     * @return a {@link Uni} completed once the whole content was written to the file
+     */
+    Uni<Void> writeTo(Path file);
+}
@@ -0,0 +1,28 @@
+package org.jboss.resteasy.reactive.server.spi;
+
+import java.util.Map;
+
+/**
+ * Receives a copy of the response as it is sent to the client.
+ *
+ * @see org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext#setResponseCapture(ResponseCapture)
+ */
+public interface ResponseCapture {
+
+    /**
+     * Called when the response headers are about to be written, they can still be modified through the response.
+     */
+    void head(int status, Iterable<Map.Entry<String, String>> headers);
+
+    void data(byte[] data, int offset, int length);
+
+    /**
+     * Called once the whole response has been sent.
+     */
+    void end();
+
+    /**
+     * Called if the response cannot be captured, for instance because it is streamed or sent from a file.
+     */
+    void abort();
+}
@@ -0,0 +1,77 @@
+package org.jboss.resteasy.reactive.server.mapping;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+public class RequestMapperTest {
+
+    @Test
+    public void testLiteralAndDefaultRegexMatching() {
+        RequestMapper<String> mapper = mapper(false, "/books", "/books/{id}", "/books/{id}/chapters/{chapter}");
+
+        assertMatch(mapper, "/books", "/books", "");
+        assertMatch(mapper, "/books/", "/books", "/");
+        assertMatch(mapper, "/books/42", "/books/{id}", "", "42");
+        assertMatch(mapper, "/books/42/chapters/7", "/books/{id}/chapters/{chapter}", "", "42", "7");
+        assertNull(mapper.map("/books/42/chapter/7"));
+        assertNull(mapper.map("/authors"));
+    }
+
+    @Test
+    public void testParametersOfFailedCandidatesAreNotLeaked() {
+        RequestMapper<String> mapper = mapper(false, "/a/{x}/b/{y}", "/a/{x}/c");
+
+        RequestMapper.RequestMatch<String> match = mapper.map("/a/1/c");
+        assertEquals("/a/{x}/c", match.value);
+        assertEquals("1", match.pathParamValues[0]);
+        assertNull(match.pathParamValues[1]);
+    }
+
+    @Test
+    public void testCustomRegexMatching() {
+        RequestMapper<String> mapper = mapper(false, "/items/{id: [0-9]+}", "/items/{name}");
+
+        assertMatch(mapper, "/items/123", "/items/{id: [0-9]+}", "", "123");
+        assertMatch(mapper, "/items/abc", "/items/{name}", "", "abc");
+        assertMatch(mapper, "/items/a%20b", "/items/{name}", "", "a b");
+    }
+
+    @Test
+    public void testCustomRegexMustMatchAtCurrentPosition() {
+        RequestMapper<String> mapper = mapper(false, "/files/{name: [a-z]+}.txt");
+
+        assertMatch(mapper, "/files/readme.txt", "/files/{name: [a-z]+}.txt", "", "readme");
+        assertNull(mapper.map("/files/1readme.txt"));
+    }
+
+    @Test
+    public void testPrefixMatching() {
+        RequestMapper<String> mapper = mapper(true, "/sub", "/sub/{id}");
+
+        assertMatch(mapper, "/sub/1/more", "/sub/{id}", "/more", "1");
+        assertMatch(mapper, "/sub", "/sub", "");
+    }
+
+    private static RequestMapper<String> mapper(boolean prefix, String... templates) {
+        List<RequestMapper.RequestPath<String>> paths = new ArrayList<>();
+        for (String template : templates) {
+            paths.add(new RequestMapper.RequestPath<>(prefix, new URITemplate(template, prefix), template));
+        }
+        return new RequestMapper<>(paths);
+    }
+
+    private static void assertMatch(RequestMapper<String> mapper, String path, String expectedValue,
+            String expectedRemaining, String... expectedParams) {
+        RequestMapper.RequestMatch<String> match = mapper.map(path);
+        assertEquals(expectedValue, match.value);
+        assertEquals(expectedRemaining, match.remaining);
+        String[] params = new String[mapper.maxParams];
+        System.arraycopy(expectedParams, 0, params, 0, expectedParams.length);
+        assertArrayEquals(params, match.pathParamValues);
+    }
+}
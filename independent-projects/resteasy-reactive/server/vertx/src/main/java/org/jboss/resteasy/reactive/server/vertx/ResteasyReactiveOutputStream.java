@@ -7,12 +7,13 @@ import io.vertx.core.Context;
 import io.vertx.core.Handler;
 import io.vertx.core.buffer.Buffer;
 import io.vertx.core.http.HttpServerRequest;
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InterruptedIOException;
 import java.io.OutputStream;
+import java.util.ArrayDeque;
 import org.jboss.logging.Logger;
 import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
+import org.jboss.resteasy.reactive.server.spi.ResponseCapture;
 
 public class ResteasyReactiveOutputStream extends OutputStream {
 
@@ -28,7 +29,11 @@ public class ResteasyReactiveOutputStream extends OutputStream {
     protected boolean drainHandlerRegistered;
     protected boolean first = true;
     protected Throwable throwable;
-    private ByteArrayOutputStream overflow;
+    /**
+     * Pooled buffers that could not be written because the write queue was full when writing from the event loop.
+     * They are handed to Vert.x as is once the connection drains, so buffered data is never copied onto the heap.
+     */
+    private ArrayDeque<ByteBuf> overflow;
 
     public ResteasyReactiveOutputStream(VertxResteasyReactiveRequestContext context) {
         this.context = context;
@@ -73,28 +78,30 @@ public class ResteasyReactiveOutputStream extends OutputStream {
 
     public void write(ByteBuf data, boolean last) throws IOException {
         if (last && data == null) {
+            synchronized (request.connection()) {
+                if (overflow != null && !overflow.isEmpty()) {
+                    //the response is ended once the buffered data has been written
+                    closed = true;
+                    return;
+                }
+            }
             request.response().end();
             return;
         }
         //do all this in the same lock
         synchronized (request.connection()) {
             try {
-                boolean bufferRequired = awaitWriteable() || (overflow != null && overflow.size() > 0);
+                boolean bufferRequired = awaitWriteable() || (overflow != null && !overflow.isEmpty());
                 if (bufferRequired) {
                     //just buffer everything
                     registerDrainHandler();
                     if (overflow == null) {
-                        overflow = new ByteArrayOutputStream();
-                    }
-                    if (data.hasArray()) {
-                        overflow.write(data.array(), data.arrayOffset() + data.readerIndex(), data.readableBytes());
-                    } else {
-                        data.getBytes(data.readerIndex(), overflow, data.readableBytes());
+                        overflow = new ArrayDeque<>();
                     }
+                    overflow.add(data);
                     if (last) {
                         closed = true;
                     }
-                    data.release();
                 } else {
                     if (last) {
                         request.response().end(createBuffer(data));
@@ -151,14 +158,7 @@ public class ResteasyReactiveOutputStream extends OutputStream {
                             request.connection().notifyAll();
                         }
                         if (overflow != null) {
-                            if (overflow.size() > 0) {
-                                if (closed) {
-                                    request.response().end(Buffer.buffer(overflow.toByteArray()));
-                                } else {
-                                    request.response().write(Buffer.buffer(overflow.toByteArray()));
-                                }
-                                overflow.reset();
-                            }
+                            writeOverflow();
                         }
                     }
                 }
@@ -168,6 +168,25 @@ public class ResteasyReactiveOutputStream extends OutputStream {
         }
     }
 
+    private void writeOverflow() {
+        if (request.response().closed()) {
+            ByteBuf buffered;
+            while ((buffered = overflow.poll()) != null) {
+                buffered.release();
+            }
+            return;
+        }
+        //only write as much as the connection accepts, the rest is written on the next drain
+        while (!overflow.isEmpty() && !request.response().writeQueueFull()) {
+            ByteBuf buffered = overflow.poll();
+            if (overflow.isEmpty() && closed) {
+                request.response().end(createBuffer(buffered));
+            } else {
+                request.response().write(createBuffer(buffered));
+            }
+        }
+    }
+
     /**
      * {@inheritDoc}
      */
@@ -221,7 +240,17 @@ public class ResteasyReactiveOutputStream extends OutputStream {
 
     public void writeBlocking(ByteBuf buffer, boolean finished) throws IOException {
         prepareWrite(buffer, finished);
+        ResponseCapture capture = context.getResponseCapture();
+        if (capture != null && buffer != null && buffer.isReadable()) {
+            // the buffer is released once written, so it has to be copied first
+            byte[] data = new byte[buffer.readableBytes()];
+            buffer.getBytes(buffer.readerIndex(), data);
+            capture.data(data, 0, data.length);
+        }
         write(buffer, finished);
+        if (capture != null && finished) {
+            capture.end();
+        }
     }
 
     private void prepareWrite(ByteBuf buffer, boolean finished) throws IOException {
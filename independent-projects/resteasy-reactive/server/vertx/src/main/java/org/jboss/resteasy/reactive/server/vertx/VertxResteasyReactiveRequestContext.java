@@ -17,6 +17,7 @@ import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Paths;
 import java.util.Collection;
 import java.util.List;
@@ -32,6 +33,7 @@ import org.jboss.resteasy.reactive.server.core.Deployment;
 import org.jboss.resteasy.reactive.server.core.ResteasyReactiveRequestContext;
 import org.jboss.resteasy.reactive.server.core.multipart.FormData;
 import org.jboss.resteasy.reactive.server.jaxrs.ProvidersImpl;
+import org.jboss.resteasy.reactive.server.spi.ResponseCapture;
 import org.jboss.resteasy.reactive.server.spi.ServerHttpRequest;
 import org.jboss.resteasy.reactive.server.spi.ServerHttpResponse;
 import org.jboss.resteasy.reactive.server.spi.ServerRestHandler;
@@ -44,7 +46,9 @@ public class VertxResteasyReactiveRequestContext extends ResteasyReactiveRequest
     protected final RoutingContext context;
     protected final HttpServerRequest request;
     protected final HttpServerResponse response;
-    private final Executor contextExecutor;
+    private final Context vertxContext;
+    // only needed when the request is suspended, so it is created lazily
+    private Executor contextExecutor;
     private final ClassLoader devModeTccl;
     protected Consumer<ResteasyReactiveRequestContext> preCommitTask;
     ContinueState continueState = ContinueState.NONE;
@@ -60,21 +64,10 @@ public class VertxResteasyReactiveRequestContext extends ResteasyReactiveRequest
         this.devModeTccl = devModeTccl;
         context.addHeadersEndHandler(this);
         String expect = request.getHeader(HttpHeaderNames.EXPECT);
-        Context current = Vertx.currentContext();
+        this.vertxContext = Vertx.currentContext();
         if (expect != null && expect.equalsIgnoreCase(CONTINUE)) {
             continueState = ContinueState.REQUIRED;
         }
-        this.contextExecutor = new Executor() {
-            @Override
-            public void execute(Runnable command) {
-                current.runOnContext(new Handler<Void>() {
-                    @Override
-                    public void handle(Void unused) {
-                        command.run();
-                    }
-                });
-            }
-        };
         request.pause();
     }
 
@@ -109,7 +102,22 @@ public class VertxResteasyReactiveRequestContext extends ResteasyReactiveRequest
     }
 
     public Executor getContextExecutor() {
-        return contextExecutor;
+        Executor executor = contextExecutor;
+        if (executor == null) {
+            Context current = vertxContext;
+            executor = contextExecutor = new Executor() {
+                @Override
+                public void execute(Runnable command) {
+                    current.runOnContext(new Handler<Void>() {
+                        @Override
+                        public void handle(Void unused) {
+                            command.run();
+                        }
+                    });
+                }
+            };
+        }
+        return executor;
     }
 
     @Override
@@ -329,6 +337,10 @@ public class VertxResteasyReactiveRequestContext extends ResteasyReactiveRequest
     public ServerHttpResponse end() {
         if (!response.ended()) {
             response.end();
+            ResponseCapture capture = getResponseCapture();
+            if (capture != null) {
+                capture.end();
+            }
         }
         return this;
     }
@@ -341,12 +353,23 @@ public class VertxResteasyReactiveRequestContext extends ResteasyReactiveRequest
     @Override
     public ServerHttpResponse end(byte[] data) {
         response.end(Buffer.buffer(data));
+        ResponseCapture capture = getResponseCapture();
+        if (capture != null) {
+            capture.data(data, 0, data.length);
+            capture.end();
+        }
         return this;
     }
 
     @Override
     public ServerHttpResponse end(String data) {
         response.end(data);
+        ResponseCapture capture = getResponseCapture();
+        if (capture != null) {
+            byte[] bytes = data.getBytes(StandardCharsets.UTF_8);
+            capture.data(bytes, 0, bytes.length);
+            capture.end();
+        }
         return this;
     }
 
@@ -391,6 +414,7 @@ public class VertxResteasyReactiveRequestContext extends ResteasyReactiveRequest
 
     @Override
     public ServerHttpResponse write(byte[] data, Consumer<Throwable> asyncResultHandler) {
+        abortResponseCapture();
         response.write(Buffer.buffer(data), new Handler<AsyncResult<Void>>() {
             @Override
             public void handle(AsyncResult<Void> event) {
@@ -406,6 +430,7 @@ public class VertxResteasyReactiveRequestContext extends ResteasyReactiveRequest
 
     @Override
     public CompletionStage<Void> write(byte[] data) {
+        abortResponseCapture();
         CompletableFuture<Void> ret = new CompletableFuture<>();
         response.write(Buffer.buffer(data), new Handler<AsyncResult<Void>>() {
             @Override
@@ -422,6 +447,7 @@ public class VertxResteasyReactiveRequestContext extends ResteasyReactiveRequest
 
     @Override
     public ServerHttpResponse sendFile(String path, long offset, long length) {
+        abortResponseCapture();
         response.sendFile(path, offset, length);
         return this;
     }
@@ -441,6 +467,18 @@ public class VertxResteasyReactiveRequestContext extends ResteasyReactiveRequest
         if (preCommitTask != null) {
             preCommitTask.accept(this);
         }
+        ResponseCapture capture = getResponseCapture();
+        if (capture != null) {
+            capture.head(response.getStatusCode(), response.headers());
+        }
+    }
+
+    private void abortResponseCapture() {
+        ResponseCapture capture = getResponseCapture();
+        if (capture != null) {
+            setResponseCapture(null);
+            capture.abort();
+        }
     }
 
     @Override
@@ -0,0 +1,45 @@
+package org.jboss.resteasy.reactive.server.vertx.test;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+import io.smallrye.common.annotation.NonBlocking;
+import io.smallrye.common.annotation.RunOnVirtualThread;
+import java.util.function.Supplier;
+import javax.enterprise.inject.spi.DeploymentException;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import org.jboss.resteasy.reactive.server.vertx.test.framework.ResteasyReactiveUnitTest;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class RunOnVirtualThreadOnNonBlockingMethodTest {
+
+    @RegisterExtension
+    static ResteasyReactiveUnitTest test = new ResteasyReactiveUnitTest()
+            .setArchiveProducer(new Supplier<>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(Resource.class);
+                }
+            }).setExpectedException(DeploymentException.class);
+
+    @Test
+    public void test() {
+        fail("Should never have been called");
+    }
+
+    @Path("test")
+    public static class Resource {
+
+        @GET
+        @Path("hello")
+        @NonBlocking
+        @RunOnVirtualThread
+        public String hello() {
+            return "hello";
+        }
+    }
+}
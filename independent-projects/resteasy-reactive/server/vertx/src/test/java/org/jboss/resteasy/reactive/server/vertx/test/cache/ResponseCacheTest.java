@@ -0,0 +1,257 @@
+package org.jboss.resteasy.reactive.server.vertx.test.cache;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.Matchers.notNullValue;
+
+import io.restassured.RestAssured;
+import io.restassured.http.Headers;
+import io.vertx.ext.web.Route;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
+import javax.ws.rs.POST;
+import javax.ws.rs.Path;
+import javax.ws.rs.QueryParam;
+import javax.ws.rs.core.Response;
+import org.jboss.resteasy.reactive.server.Cached;
+import org.jboss.resteasy.reactive.server.processor.ResteasyReactiveDeploymentManager;
+import org.jboss.resteasy.reactive.server.processor.scanning.ResponseCacheScanner;
+import org.jboss.resteasy.reactive.server.vertx.test.framework.ResteasyReactiveUnitTest;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class ResponseCacheTest {
+
+    @RegisterExtension
+    static ResteasyReactiveUnitTest test = new ResteasyReactiveUnitTest()
+            .addRouteCustomizer(new Consumer<Route>() {
+                @Override
+                public void accept(Route route) {
+                    // a header set by another route, before the resource method is invoked
+                    route.handler(rc -> {
+                        rc.response().putHeader("X-Route", "route");
+                        rc.next();
+                    });
+                }
+            })
+            .addScanCustomizer(new Consumer<ResteasyReactiveDeploymentManager.ScanStep>() {
+                @Override
+                public void accept(ResteasyReactiveDeploymentManager.ScanStep scanStep) {
+                    scanStep.addMethodScanner(new ResponseCacheScanner());
+                }
+            })
+            .setArchiveProducer(new Supplier<JavaArchive>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class).addClasses(CachedResource.class);
+                }
+            });
+
+    @Test
+    public void testCachedPerQuery() {
+        String etag = RestAssured.given().queryParam("name", "a").get("/cached/hello")
+                .then()
+                .statusCode(200)
+                .body(equalTo("hello a 1"))
+                .extract().header("ETag");
+        RestAssured.given().queryParam("name", "a").get("/cached/hello")
+                .then()
+                .statusCode(200)
+                .body(equalTo("hello a 1"))
+                .header("ETag", notNullValue())
+                .header("Age", notNullValue());
+        RestAssured.given().queryParam("name", "b").get("/cached/hello")
+                .then()
+                .statusCode(200)
+                .body(equalTo("hello b 2"));
+        RestAssured.given().queryParam("name", "a").header("Cache-Control", "no-cache").get("/cached/hello")
+                .then()
+                .statusCode(200)
+                .body(equalTo("hello a 3"));
+        RestAssured.given().queryParam("name", "a").get("/cached/hello")
+                .then()
+                .statusCode(200)
+                .body(equalTo("hello a 3"));
+
+        String cachedEtag = RestAssured.given().queryParam("name", "a").get("/cached/hello")
+                .then()
+                .extract().header("ETag");
+        Assertions.assertNotEquals(etag, cachedEtag);
+        RestAssured.given().queryParam("name", "a").header("If-None-Match", cachedEtag).get("/cached/hello")
+                .then()
+                .statusCode(304);
+    }
+
+    @Test
+    public void testHeaders() {
+        RestAssured.get("/cached/headers")
+                .then()
+                .statusCode(200)
+                .body(equalTo("headers 1"))
+                .header("X-Resource", "resource")
+                .header("Access-Control-Allow-Origin", "*")
+                .header("Vary", "Origin, Accept");
+        // the cached response has the same headers
+        Headers headers = RestAssured.get("/cached/headers")
+                .then()
+                .statusCode(200)
+                .body(equalTo("headers 1"))
+                .extract().headers();
+        Assertions.assertEquals(1, headers.getValues("X-Route").size());
+        Assertions.assertEquals(Arrays.asList("resource"), headers.getValues("X-Resource"));
+        Assertions.assertEquals(Arrays.asList("*"), headers.getValues("Access-Control-Allow-Origin"));
+        Assertions.assertEquals(Arrays.asList("Origin, Accept"), headers.getValues("Vary"));
+    }
+
+    @Test
+    public void testVary() {
+        RestAssured.given().header("X-Tenant", "a").get("/cached/tenant")
+                .then()
+                .statusCode(200)
+                .body(equalTo("tenant a 1"))
+                .header("Vary", "Accept, X-Tenant");
+        RestAssured.given().header("X-Tenant", "b").get("/cached/tenant")
+                .then()
+                .statusCode(200)
+                .body(equalTo("tenant b 2"));
+        String etag = RestAssured.given().header("X-Tenant", "a").get("/cached/tenant")
+                .then()
+                .statusCode(200)
+                .body(equalTo("tenant a 1"))
+                .header("Vary", "Accept, X-Tenant")
+                .extract().header("ETag");
+        RestAssured.given().header("X-Tenant", "a").header("If-None-Match", etag).get("/cached/tenant")
+                .then()
+                .statusCode(304)
+                .header("Vary", "Accept, X-Tenant");
+    }
+
+    @Test
+    public void testCookie() {
+        RestAssured.given().cookie("session", "a").get("/cached/cookie")
+                .then()
+                .statusCode(200)
+                .body(equalTo("cookie 1"));
+        RestAssured.given().cookie("session", "b").get("/cached/cookie")
+                .then()
+                .statusCode(200)
+                .body(equalTo("cookie 2"));
+    }
+
+    @Test
+    public void testStreamedResponse() {
+        RestAssured.get("/cached/stream")
+                .then()
+                .statusCode(200)
+                .body(equalTo("stream 1"));
+        RestAssured.get("/cached/stream")
+                .then()
+                .statusCode(200)
+                .body(equalTo("stream 1"))
+                .header("ETag", notNullValue());
+    }
+
+    @Test
+    public void testNotCached() {
+        RestAssured.get("/cached/failure")
+                .then()
+                .statusCode(500);
+        RestAssured.get("/cached/failure")
+                .then()
+                .statusCode(500)
+                .body(equalTo("failure 2"));
+        RestAssured.get("/cached/private")
+                .then()
+                .statusCode(200)
+                .body(equalTo("private 1"));
+        RestAssured.get("/cached/private")
+                .then()
+                .statusCode(200)
+                .body(equalTo("private 2"));
+        RestAssured.post("/cached/post")
+                .then()
+                .statusCode(200)
+                .body(equalTo("post 1"));
+        RestAssured.post("/cached/post")
+                .then()
+                .statusCode(200)
+                .body(equalTo("post 2"));
+    }
+
+    @Path("cached")
+    @Cached(ttl = 60)
+    public static class CachedResource {
+
+        private static final AtomicInteger hello = new AtomicInteger();
+        private static final AtomicInteger stream = new AtomicInteger();
+        private static final AtomicInteger failure = new AtomicInteger();
+        private static final AtomicInteger privateCount = new AtomicInteger();
+        private static final AtomicInteger post = new AtomicInteger();
+        private static final AtomicInteger headers = new AtomicInteger();
+        private static final AtomicInteger cookie = new AtomicInteger();
+        private static final AtomicInteger tenantCount = new AtomicInteger();
+
+        @Path("hello")
+        @GET
+        public String hello(@QueryParam("name") String name) {
+            return "hello " + name + " " + hello.incrementAndGet();
+        }
+
+        @Path("stream")
+        @GET
+        public InputStream stream() {
+            // written through the response output stream
+            return new ByteArrayInputStream(("stream " + stream.incrementAndGet()).getBytes(StandardCharsets.UTF_8));
+        }
+
+        @Path("failure")
+        @GET
+        public Response failure() {
+            return Response.serverError().entity("failure " + failure.incrementAndGet()).build();
+        }
+
+        @Path("private")
+        @GET
+        public Response privateResponse() {
+            return Response.ok("private " + privateCount.incrementAndGet()).header("Cache-Control", "private").build();
+        }
+
+        @Path("headers")
+        @GET
+        public Response headers() {
+            return Response.ok("headers " + headers.incrementAndGet())
+                    .header("X-Resource", "resource")
+                    .header("Access-Control-Allow-Origin", "*")
+                    .header("Vary", "Origin")
+                    .build();
+        }
+
+        @Path("tenant")
+        @GET
+        @Cached(ttl = 60, vary = "X-Tenant")
+        public String tenant(@HeaderParam("X-Tenant") String tenant) {
+            return "tenant " + tenant + " " + tenantCount.incrementAndGet();
+        }
+
+        @Path("cookie")
+        @GET
+        public String cookie() {
+            return "cookie " + cookie.incrementAndGet();
+        }
+
+        @Path("post")
+        @POST
+        public String post() {
+            return "post " + post.incrementAndGet();
+        }
+    }
+}
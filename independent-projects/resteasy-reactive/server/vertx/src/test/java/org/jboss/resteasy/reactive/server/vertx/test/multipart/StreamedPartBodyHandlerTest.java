@@ -0,0 +1,82 @@
+package org.jboss.resteasy.reactive.server.vertx.test.multipart;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.equalTo;
+
+import io.restassured.RestAssured;
+import io.vertx.ext.web.handler.BodyHandler;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Random;
+import java.util.function.Supplier;
+import org.jboss.resteasy.reactive.server.vertx.test.framework.ResteasyReactiveUnitTest;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+/**
+ * The same endpoints as {@link StreamedPartTest}, with a Vert.x BodyHandler that reads the request body before them.
+ */
+public class StreamedPartBodyHandlerTest extends AbstractMultipartTest {
+
+    private static final Path bodyHandlerUploadDir = Paths.get("streamed-body-handler-uploads");
+
+    @RegisterExtension
+    static ResteasyReactiveUnitTest test = new ResteasyReactiveUnitTest()
+            .addRouteCustomizer((r) -> r.handler(BodyHandler.create(bodyHandlerUploadDir.toString())))
+            .setArchiveProducer(new Supplier<JavaArchive>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(StreamedPartTest.Resource.class);
+                }
+            });
+
+    @AfterEach
+    public void clearDirectory() {
+        clearDirectory(StreamedPartTest.uploadDir);
+        clearDirectory(bodyHandlerUploadDir);
+    }
+
+    @Test
+    public void testWriteTo() throws IOException {
+        byte[] content = new byte[1024 * 1024];
+        new Random().nextBytes(content);
+        File file = File.createTempFile("streamed", "upload");
+        try {
+            Files.write(file.toPath(), content);
+            // the files are parsed before the attributes by the BodyHandler, so the original order is lost
+            RestAssured.given()
+                    .multiPart("description", "random bytes")
+                    .multiPart("file", file, "application/octet-stream")
+                    .when()
+                    .post("/streamed/write")
+                    .then()
+                    .statusCode(200)
+                    .body(containsString("description=random bytes"))
+                    .body(containsString("file:" + file.getName()));
+        } finally {
+            file.delete();
+        }
+        Assertions.assertArrayEquals(content, Files.readAllBytes(StreamedPartTest.uploadDir.resolve(file.getName())));
+    }
+
+    @Test
+    public void testSkippedContent() {
+        RestAssured.given()
+                .multiPart("first", "1")
+                .multiPart("second", "2")
+                .multiPart("third", "3")
+                .when()
+                .post("/streamed/names")
+                .then()
+                .statusCode(200)
+                .body(equalTo("first,second,third"));
+    }
+}
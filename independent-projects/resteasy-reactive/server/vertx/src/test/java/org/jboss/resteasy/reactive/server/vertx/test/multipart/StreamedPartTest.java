@@ -0,0 +1,115 @@
+package org.jboss.resteasy.reactive.server.vertx.test.multipart;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+
+import io.restassured.RestAssured;
+import io.smallrye.mutiny.Multi;
+import io.smallrye.mutiny.Uni;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Random;
+import java.util.function.Supplier;
+import javax.ws.rs.Consumes;
+import javax.ws.rs.POST;
+import javax.ws.rs.Produces;
+import javax.ws.rs.core.MediaType;
+import org.jboss.resteasy.reactive.server.multipart.StreamedPart;
+import org.jboss.resteasy.reactive.server.vertx.test.framework.ResteasyReactiveUnitTest;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class StreamedPartTest extends AbstractMultipartTest {
+
+    public static final Path uploadDir = Paths.get("streamed-uploads");
+
+    @RegisterExtension
+    static ResteasyReactiveUnitTest test = new ResteasyReactiveUnitTest()
+            .setArchiveProducer(new Supplier<JavaArchive>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(Resource.class);
+                }
+            });
+
+    @AfterEach
+    public void clearDirectory() {
+        clearDirectory(uploadDir);
+    }
+
+    @Test
+    public void testWriteTo() throws IOException {
+        byte[] content = new byte[1024 * 1024];
+        new Random().nextBytes(content);
+        File file = File.createTempFile("streamed", "upload");
+        try {
+            Files.write(file.toPath(), content);
+            RestAssured.given()
+                    .multiPart("description", "random bytes")
+                    .multiPart("file", file, "application/octet-stream")
+                    .when()
+                    .post("/streamed/write")
+                    .then()
+                    .statusCode(200)
+                    .body(equalTo("description=random bytes,file:" + file.getName()));
+        } finally {
+            file.delete();
+        }
+        Assertions.assertArrayEquals(content, Files.readAllBytes(uploadDir.resolve(file.getName())));
+    }
+
+    @Test
+    public void testSkippedContent() {
+        RestAssured.given()
+                .multiPart("first", "1")
+                .multiPart("second", "2")
+                .multiPart("third", "3")
+                .when()
+                .post("/streamed/names")
+                .then()
+                .statusCode(200)
+                .body(equalTo("first,second,third"));
+    }
+
+    @javax.ws.rs.Path("/streamed")
+    public static class Resource {
+
+        @POST
+        @javax.ws.rs.Path("/write")
+        @Consumes(MediaType.MULTIPART_FORM_DATA)
+        @Produces(MediaType.TEXT_PLAIN)
+        public Uni<String> write(Multi<StreamedPart> parts) {
+            return parts.onItem().transformToUniAndConcatenate(part -> {
+                if (part.fileName() == null) {
+                    return part.content()
+                            .collect().in(ByteArrayOutputStream::new, (out, chunk) -> out.write(chunk, 0, chunk.length))
+                            .map(out -> part.name() + "=" + new String(out.toByteArray(), StandardCharsets.UTF_8));
+                }
+                try {
+                    Files.createDirectories(uploadDir);
+                } catch (IOException e) {
+                    return Uni.createFrom().failure(e);
+                }
+                return part.writeTo(uploadDir.resolve(part.fileName()))
+                        .map(v -> part.name() + ":" + part.fileName());
+            }).collect().asList().map(list -> String.join(",", list));
+        }
+
+        @POST
+        @javax.ws.rs.Path("/names")
+        @Consumes(MediaType.MULTIPART_FORM_DATA)
+        @Produces(MediaType.TEXT_PLAIN)
+        public Uni<String> names(Multi<StreamedPart> parts) {
+            return parts.map(StreamedPart::name).collect().asList().map(list -> String.join(",", list));
+        }
+    }
+}
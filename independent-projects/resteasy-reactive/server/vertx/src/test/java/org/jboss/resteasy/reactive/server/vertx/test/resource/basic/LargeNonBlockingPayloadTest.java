@@ -0,0 +1,92 @@
+package org.jboss.resteasy.reactive.server.vertx.test.resource.basic;
+
+import io.restassured.RestAssured;
+import io.smallrye.common.annotation.NonBlocking;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.function.Supplier;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import javax.ws.rs.Produces;
+import javax.ws.rs.WebApplicationException;
+import javax.ws.rs.core.MediaType;
+import javax.ws.rs.core.MultivaluedMap;
+import javax.ws.rs.ext.MessageBodyWriter;
+import javax.ws.rs.ext.Provider;
+import org.jboss.resteasy.reactive.server.vertx.test.framework.ResteasyReactiveUnitTest;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+/**
+ * Writes a payload much larger than the connection write queue from the event loop, so that most of it
+ * has to be buffered by the output stream until the connection drains.
+ */
+public class LargeNonBlockingPayloadTest {
+
+    private static final int CHUNK_SIZE = 1000;
+    private static final int CHUNKS = 8 * 1024;
+
+    @RegisterExtension
+    static ResteasyReactiveUnitTest testExtension = new ResteasyReactiveUnitTest()
+            .setArchiveProducer(new Supplier<JavaArchive>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(TestResource.class, LargePayload.class, LargePayloadWriter.class);
+                }
+            });
+
+    @Test
+    public void testPayloadLargerThanTheWriteQueue() {
+        byte[] body = RestAssured.get("/large")
+                .then()
+                .statusCode(200)
+                .extract().body().asByteArray();
+        Assertions.assertEquals(CHUNK_SIZE * CHUNKS, body.length);
+        for (int i = 0; i < body.length; i++) {
+            if (body[i] != (byte) (i / CHUNK_SIZE)) {
+                Assertions.fail("Unexpected byte at position " + i);
+            }
+        }
+    }
+
+    @Path("/large")
+    public static class TestResource {
+
+        @GET
+        @NonBlocking
+        @Produces(MediaType.APPLICATION_OCTET_STREAM)
+        public LargePayload get() {
+            return new LargePayload();
+        }
+    }
+
+    public static class LargePayload {
+    }
+
+    @Provider
+    public static class LargePayloadWriter implements MessageBodyWriter<LargePayload> {
+
+        @Override
+        public boolean isWriteable(Class<?> type, Type genericType, Annotation[] annotations, MediaType mediaType) {
+            return type == LargePayload.class;
+        }
+
+        @Override
+        public void writeTo(LargePayload payload, Class<?> type, Type genericType, Annotation[] annotations,
+                MediaType mediaType, MultivaluedMap<String, Object> httpHeaders, OutputStream entityStream)
+                throws IOException, WebApplicationException {
+            byte[] chunk = new byte[CHUNK_SIZE];
+            for (int i = 0; i < CHUNKS; i++) {
+                Arrays.fill(chunk, (byte) i);
+                entityStream.write(chunk);
+            }
+        }
+    }
+}
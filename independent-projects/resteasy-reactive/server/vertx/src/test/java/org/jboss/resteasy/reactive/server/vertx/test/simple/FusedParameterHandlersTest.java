@@ -0,0 +1,70 @@
+package org.jboss.resteasy.reactive.server.vertx.test.simple;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+
+import io.restassured.RestAssured;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+import javax.ws.rs.CookieParam;
+import javax.ws.rs.DefaultValue;
+import javax.ws.rs.GET;
+import javax.ws.rs.HeaderParam;
+import javax.ws.rs.Path;
+import javax.ws.rs.PathParam;
+import javax.ws.rs.QueryParam;
+import org.jboss.resteasy.reactive.server.vertx.test.framework.ResteasyReactiveUnitTest;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class FusedParameterHandlersTest {
+
+    @RegisterExtension
+    static ResteasyReactiveUnitTest test = new ResteasyReactiveUnitTest()
+            .setArchiveProducer(new Supplier<JavaArchive>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(TestResource.class);
+                }
+            })
+            .addScanCustomizer(scanStep -> scanStep.setFuseParameterHandlers(true));
+
+    @Test
+    public void testParameters() {
+        RestAssured.given()
+                .queryParam("count", "3")
+                .queryParam("tag", "a", "b")
+                .header("X-Name", "header")
+                .cookie("session", "cookie")
+                .get("/test/path/42")
+                .then().statusCode(200)
+                .body(equalTo("42/3/[a, b]/header/cookie/default/empty"));
+    }
+
+    @Test
+    public void testConversionFailure() {
+        RestAssured.get("/test/path/not-a-number")
+                .then().statusCode(404);
+        RestAssured.given()
+                .queryParam("count", "not-a-number")
+                .get("/test/path/42")
+                .then().statusCode(404);
+    }
+
+    @Path("/test")
+    public static class TestResource {
+
+        @Path("/path/{id}")
+        @GET
+        public String get(@PathParam("id") int id, @QueryParam("count") @DefaultValue("1") int count,
+                @QueryParam("tag") List<String> tags, @HeaderParam("X-Name") String name,
+                @CookieParam("session") String session, @QueryParam("missing") @DefaultValue("default") String missing,
+                @QueryParam("optional") Optional<String> optional) {
+            return id + "/" + count + "/" + tags + "/" + name + "/" + session + "/" + missing + "/"
+                    + optional.orElse("empty");
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package org.jboss.resteasy.reactive.server.vertx.test.simple;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import io.restassured.RestAssured;
+import io.smallrye.common.annotation.RunOnVirtualThread;
+import java.util.function.Supplier;
+import javax.ws.rs.GET;
+import javax.ws.rs.Path;
+import org.jboss.resteasy.reactive.server.vertx.test.framework.ResteasyReactiveUnitTest;
+import org.jboss.shrinkwrap.api.ShrinkWrap;
+import org.jboss.shrinkwrap.api.spec.JavaArchive;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+
+public class RunOnVirtualThreadTest {
+
+    @RegisterExtension
+    static ResteasyReactiveUnitTest test = new ResteasyReactiveUnitTest()
+            .setArchiveProducer(new Supplier<JavaArchive>() {
+                @Override
+                public JavaArchive get() {
+                    return ShrinkWrap.create(JavaArchive.class)
+                            .addClasses(TestResource.class);
+                }
+            });
+
+    @Test
+    public void testDispatchedOffTheEventLoop() {
+        // on JVMs without virtual threads the endpoint falls back to the worker pool
+        String thread = RestAssured.get("/test/thread")
+                .then().statusCode(200).extract().body().asString();
+        assertFalse(thread.contains("eventloop"));
+    }
+
+    @Path("/test")
+    public static class TestResource {
+
+        @RunOnVirtualThread
+        @Path("/thread")
+        @GET
+        public String get() {
+            Thread current = Thread.currentThread();
+            return current.getName().isEmpty() ? current.toString() : current.getName();
+        }
+    }
+}